@@ -0,0 +1,74 @@
+package com.lms.application.validation;
+
+import com.lms.application.dto.response.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 아이디 규칙 검사 벤치마크
+ * 
+ * - legacy: 기존 정규식 4회 + toLowerCase + 금지어 contains 반복
+ * - engine: 단일 순회 규칙 엔진 + Aho-Corasick
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=UsernameRuleBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UsernameRuleBenchmark {
+
+    private static final String[] FORBIDDEN_WORDS = {
+        "admin", "administrator", "root", "test", "guest", "null", "undefined",
+        "password", "passwd", "login", "logout", "system", "user", "member",
+        "master", "operator", "moderator", "manager", "support", "service"
+    };
+
+    private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9]{3,19}$");
+    private static final Pattern CONSECUTIVE_PATTERN = Pattern.compile("(.)\\1{2,}");
+
+    /** 통과, 금지어 위반, 형식 위반, 연속 숫자 위반 */
+    @Param({"goodname12", "myAdminName", "bad_name", "abc12345"})
+    public String username;
+
+    private UsernameRuleEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new UsernameRuleEngine(AhoCorasickMatcher.compile(FORBIDDEN_WORDS));
+    }
+
+    @Benchmark
+    public ValidationResult engine() {
+        return engine.check(username);
+    }
+
+    @Benchmark
+    public ValidationResult legacy() {
+        if (username.length() < 4) {
+            return ValidationResult.invalid("아이디는 4자 이상 입력해주세요");
+        }
+        if (username.length() > 20) {
+            return ValidationResult.invalid("아이디는 20자 이하로 입력해주세요");
+        }
+        if (!USERNAME_PATTERN.matcher(username).matches()) {
+            return ValidationResult.invalid("아이디는 영문으로 시작하고 영문, 숫자만 사용 가능합니다");
+        }
+        if (CONSECUTIVE_PATTERN.matcher(username).find()) {
+            return ValidationResult.invalid("같은 문자를 3회 이상 연속으로 사용할 수 없습니다");
+        }
+        String lowerUsername = username.toLowerCase();
+        for (String forbidden : FORBIDDEN_WORDS) {
+            if (lowerUsername.contains(forbidden)) {
+                return ValidationResult.invalid("사용할 수 없는 단어가 포함되어 있습니다");
+            }
+        }
+        if (username.matches(".*\\d{4,}.*")) {
+            return ValidationResult.invalid("숫자를 4자리 이상 연속으로 사용할 수 없습니다");
+        }
+        return null;
+    }
+}
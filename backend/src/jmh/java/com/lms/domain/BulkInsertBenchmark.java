@@ -0,0 +1,122 @@
+package com.lms.domain;
+
+import com.lms.LmsApplication;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자/과정 일괄 INSERT 처리량 벤치마크 (PostgreSQL 필요)
+ *
+ * - batchSize=1: 행마다 INSERT 왕복 (IDENTITY 채번 시와 같은 왕복 수)
+ * - batchSize=50: 시퀀스 pooled 채번 + hibernate.jdbc.batch_size (reWriteBatchedInserts로 다중 VALUES 전송)
+ * - 결과 단위는 행/초 (호출당 ROWS건 저장)
+ * - 벤치마크 행은 bench 접두어로 저장 후 iteration마다 삭제
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BulkInsertBenchmark
+ * (Flyway 마이그레이션이 적용된 DB, 접속 정보는 BENCHMARK_JDBC_URL/USERNAME/PASSWORD 환경 변수로 변경 가능)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private CourseRepository courseRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LmsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + env("BENCHMARK_JDBC_URL",
+                                "jdbc:postgresql://localhost:5432/lms?reWriteBatchedInserts=true"),
+                        "spring.datasource.username=" + env("BENCHMARK_JDBC_USERNAME", "lms_user"),
+                        "spring.datasource.password=" + env("BENCHMARK_JDBC_PASSWORD", "lms_password"),
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.com.lms=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        courseRepository = context.getBean(CourseRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        cleanUp();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE 'bench%'");
+        jdbcTemplate.update("DELETE FROM courses WHERE title LIKE 'bench-%'");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulkRegistration() {
+        List<User> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long n = sequence++;
+            users.add(User.builder()
+                    .username("bench" + n)
+                    .password("{bcrypt}$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark")
+                    .email("bench" + n + "@benchmark.local")
+                    .name("벤치마크")
+                    .userType(User.UserType.STUDENT)
+                    .isEmployee(true)
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulkCourseCreation() {
+        List<Course> courses = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            courses.add(Course.builder()
+                    .title("bench-" + sequence++)
+                    .description("벤치마크 과정")
+                    .targetAudience("재직자")
+                    .durationHours(40)
+                    .maxParticipants(30)
+                    .courseType(Course.CourseType.EMPLOYEE)
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> courseRepository.saveAll(courses));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
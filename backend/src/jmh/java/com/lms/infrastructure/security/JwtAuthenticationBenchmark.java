@@ -0,0 +1,52 @@
+package com.lms.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 요청당 인증 비용 벤치마크
+ * 
+ * - legacyPerRequest: 기존 필터 경로 (validateToken + getUsernameFromToken, 매번 파서 생성)
+ * - singleParsePerRequest: parseToken 한 번으로 검증 및 클레임 추출
+ * 
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET =
+            "BenchmarkSecretKeyForJwtTokenProviderVeryLongSecretKeyForHS512Algorithm1234567890";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = jwtTokenProvider.generateToken("benchmarkuser");
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole blackhole) {
+        // validateToken
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        // getUsernameFromToken
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public void singleParsePerRequest(Blackhole blackhole) {
+        blackhole.consume(jwtTokenProvider.parseToken(token).orElseThrow().getSubject());
+    }
+}
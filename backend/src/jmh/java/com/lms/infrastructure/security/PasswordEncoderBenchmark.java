@@ -0,0 +1,88 @@
+package com.lms.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 알고리즘/작업 계수 벤치마크
+ * 
+ * - BCrypt cost별 encode/matches 소요 시간 (security.password.bcrypt.strength 결정용)
+ * - 대안 알고리즘 비교: Argon2, PBKDF2 (Spring Security 5.8 기본값)
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=PasswordEncoderBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "BenchmarkPassword123!";
+
+    @Param({"10", "11", "12", "13", "14"})
+    public int bcryptStrength;
+
+    private PasswordEncoder bcrypt;
+    private PasswordEncoder delegating;
+    private PasswordEncoder argon2;
+    private PasswordEncoder pbkdf2;
+
+    private String bcryptHash;
+    private String delegatingHash;
+    private String argon2Hash;
+    private String pbkdf2Hash;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        delegating = PasswordEncoderFactory.create(bcryptStrength);
+        argon2 = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+        pbkdf2 = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+
+        bcryptHash = bcrypt.encode(PASSWORD);
+        delegatingHash = delegating.encode(PASSWORD);
+        argon2Hash = argon2.encode(PASSWORD);
+        pbkdf2Hash = pbkdf2.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String bcryptEncode() {
+        return bcrypt.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return bcrypt.matches(PASSWORD, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean delegatingMatches() {
+        return delegating.matches(PASSWORD, delegatingHash);
+    }
+
+    @Benchmark
+    public String argon2Encode() {
+        return argon2.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean argon2Matches() {
+        return argon2.matches(PASSWORD, argon2Hash);
+    }
+
+    @Benchmark
+    public String pbkdf2Encode() {
+        return pbkdf2.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean pbkdf2Matches() {
+        return pbkdf2.matches(PASSWORD, pbkdf2Hash);
+    }
+}
@@ -0,0 +1,84 @@
+package com.lms.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 활동 갱신 벤치마크 (64 스레드)
+ * 
+ * - legacyMap: 기존 구현 (containsKey + put, Long boxing)
+ * - sessionManager: 세션별 long 슬롯 + 갱신 단위 시간 조건부 기록
+ * - hotUser: 모든 스레드가 같은 세션을 갱신 (같은 사용자의 동시 요청)
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=SessionActivityBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(64)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SessionActivityBenchmark {
+
+    private static final int SESSION_COUNT = 10_000;
+
+    @Param({"0", "1000"})
+    public long touchGranularityMs;
+
+    private String[] usernames;
+    private Map<String, Long> legacySessions;
+    private SessionManager sessionManager;
+
+    @Setup
+    public void setUp() {
+        usernames = new String[SESSION_COUNT];
+        legacySessions = new ConcurrentHashMap<>();
+        sessionManager = new SessionManager(new InMemorySessionStore(), 30, 1, 5, touchGranularityMs,
+                new SimpleMeterRegistry());
+
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            usernames[i] = "user" + i;
+            legacySessions.put(usernames[i], System.currentTimeMillis());
+            sessionManager.createSession(usernames[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionManager.destroy();
+    }
+
+    @Benchmark
+    public void legacyMap() {
+        String username = randomUsername();
+        if (legacySessions.containsKey(username)) {
+            legacySessions.put(username, System.currentTimeMillis());
+        }
+    }
+
+    @Benchmark
+    public void sessionManager() {
+        sessionManager.updateSessionActivity(randomUsername());
+    }
+
+    @Benchmark
+    public void legacyMapHotUser() {
+        if (legacySessions.containsKey(usernames[0])) {
+            legacySessions.put(usernames[0], System.currentTimeMillis());
+        }
+    }
+
+    @Benchmark
+    public void sessionManagerHotUser() {
+        sessionManager.updateSessionActivity(usernames[0]);
+    }
+
+    private String randomUsername() {
+        return usernames[ThreadLocalRandom.current().nextInt(SESSION_COUNT)];
+    }
+}
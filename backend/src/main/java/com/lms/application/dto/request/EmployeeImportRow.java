@@ -0,0 +1,51 @@
+package com.lms.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 재직자 일괄 등록 행 DTO (CSV 한 줄 / JSONL 한 줄)
+ * 
+ * 검증 규칙은 재직자 회원가입 요청과 동일
+ * - 아이디 규칙 엔진(반복/연속 숫자/금지어)은 EmployeeBulkImportUseCase에서 형식 검증 후 적용
+ * - 본인인증/약관 동의는 협약사 일괄 등록에서는 생략
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeImportRow {
+    
+    @NotBlank(message = "아이디는 필수입니다")
+    @Pattern(regexp = "^[a-zA-Z0-9]{4,20}$", message = "아이디는 4-20자의 영문, 숫자만 입력 가능합니다")
+    private String username;
+    
+    @NotBlank(message = "비밀번호는 필수입니다")
+    @Pattern(regexp = "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$", 
+             message = "비밀번호는 8-20자의 영문, 숫자, 특수문자를 포함해야 합니다")
+    private String password;
+    
+    @NotBlank(message = "이메일은 필수입니다")
+    @Email(message = "올바른 이메일 형식을 입력해주세요")
+    private String email;
+    
+    @NotBlank(message = "이름은 필수입니다")
+    @Size(max = 100, message = "이름은 100자 이하로 입력해주세요")
+    private String name;
+    
+    @Pattern(regexp = "^01[0-9]-\\d{4}-\\d{4}$", message = "올바른 휴대폰 번호 형식을 입력해주세요")
+    private String phoneNumber;
+    
+    @Size(max = 100, message = "부서명은 100자 이하로 입력해주세요")
+    private String department;
+}
@@ -0,0 +1,36 @@
+package com.lms.application.dto.response;
+
+import com.lms.domain.entities.Company;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 협약사 목록 응답 DTO
+ */
+@Getter
+@Builder
+public class CompanySummary {
+    
+    private final Long id;
+    private final String businessNumber;
+    private final String name;
+    private final String representativeName;
+    private final String phone;
+    private final String email;
+    private final Company.ContractStatus contractStatus;
+    
+    /**
+     * Company 엔티티에서 생성
+     */
+    public static CompanySummary fromEntity(Company company) {
+        return CompanySummary.builder()
+                .id(company.getId())
+                .businessNumber(company.getBusinessNumber())
+                .name(company.getName())
+                .representativeName(company.getRepresentativeName())
+                .phone(company.getPhone())
+                .email(company.getEmail())
+                .contractStatus(company.getContractStatus())
+                .build();
+    }
+}
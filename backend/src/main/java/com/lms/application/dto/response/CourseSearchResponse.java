@@ -0,0 +1,44 @@
+package com.lms.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 과정 키워드 검색 응답 DTO (관련도순 한 페이지)
+ */
+@Getter
+@Builder
+public class CourseSearchResponse {
+    
+    /**
+     * 정규화된 검색어
+     */
+    private final String keyword;
+    
+    /**
+     * 검색 결과 (관련도 높은 순)
+     */
+    private final List<CourseSummary> courses;
+    
+    /**
+     * 페이지 번호 (0부터)
+     */
+    private final int page;
+    
+    /**
+     * 페이지 크기
+     */
+    private final int size;
+    
+    /**
+     * 전체 검색 결과 수
+     */
+    private final long totalElements;
+    
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+}
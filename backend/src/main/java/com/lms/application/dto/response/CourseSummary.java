@@ -0,0 +1,62 @@
+package com.lms.application.dto.response;
+
+import com.lms.domain.entities.Course;
+import com.lms.domain.repositories.CourseRepository;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과정 목록 응답 DTO (불변)
+ * 
+ * 과정 카탈로그 스냅샷에 보관되어 여러 요청이 공유
+ */
+@Getter
+@Builder
+public class CourseSummary {
+    
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String targetAudience;
+    private final Integer durationHours;
+    private final Integer maxParticipants;
+    private final Course.CourseType courseType;
+    private final Course.CourseStatus status;
+    private final LocalDateTime updatedAt;
+    
+    /**
+     * Course 엔티티에서 생성
+     */
+    public static CourseSummary fromEntity(Course course) {
+        return CourseSummary.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .targetAudience(course.getTargetAudience())
+                .durationHours(course.getDurationHours())
+                .maxParticipants(course.getMaxParticipants())
+                .courseType(course.getCourseType())
+                .status(course.getStatus())
+                .updatedAt(course.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * 키워드 검색 결과에서 생성
+     */
+    public static CourseSummary fromSearchView(CourseRepository.CourseSearchView view) {
+        return CourseSummary.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .targetAudience(view.getTargetAudience())
+                .durationHours(view.getDurationHours())
+                .maxParticipants(view.getMaxParticipants())
+                .courseType(view.getCourseType())
+                .status(view.getStatus())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+}
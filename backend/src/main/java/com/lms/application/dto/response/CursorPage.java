@@ -0,0 +1,45 @@
+package com.lms.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(커서) 페이지 응답 DTO
+ * 
+ * 다음 페이지는 nextCursor를 after 파라미터로 전달해 조회
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+    
+    /**
+     * 페이지 항목 (ID 오름차순)
+     */
+    private final List<T> items;
+    
+    /**
+     * 요청한 페이지 크기
+     */
+    private final int limit;
+    
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private final Long nextCursor;
+    
+    /**
+     * limit + 1건 조회 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, Long> idOf) {
+        boolean hasNext = fetched.size() > limit;
+        List<T> items = hasNext ? List.copyOf(fetched.subList(0, limit)) : fetched;
+        return CursorPage.<T>builder()
+                .items(items)
+                .limit(limit)
+                .nextCursor(hasNext ? idOf.apply(items.get(items.size() - 1)) : null)
+                .build();
+    }
+}
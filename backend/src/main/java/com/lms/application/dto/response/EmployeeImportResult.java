@@ -0,0 +1,36 @@
+package com.lms.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 재직자 일괄 등록 행별 결과 DTO
+ */
+@Getter
+@Builder
+public class EmployeeImportResult {
+    
+    /**
+     * 입력 파일 줄 번호 (CSV 헤더 포함, 1부터)
+     */
+    private final long line;
+    
+    /**
+     * 아이디
+     */
+    private final String username;
+    
+    /**
+     * 처리 결과 (CREATED/INVALID/DUPLICATE/FAILED)
+     */
+    private final Status status;
+    
+    /**
+     * 실패 사유
+     */
+    private final String message;
+    
+    public enum Status {
+        CREATED, INVALID, DUPLICATE, FAILED
+    }
+}
@@ -0,0 +1,32 @@
+package com.lms.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 재직자 일괄 등록 요약 DTO (결과 스트림의 마지막 줄)
+ */
+@Getter
+@Builder
+public class EmployeeImportSummary {
+    
+    /**
+     * 처리한 행 수
+     */
+    private final long total;
+    
+    /**
+     * 등록된 행 수
+     */
+    private final long created;
+    
+    /**
+     * 등록되지 않은 행 수 (형식 오류, 중복, 처리 실패)
+     */
+    private final long rejected;
+    
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private final long elapsedMs;
+}
@@ -0,0 +1,35 @@
+package com.lms.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실시간 아이디 검증 스트림 이벤트 DTO
+ * 
+ * 입력 순번과 아이디를 함께 전달하여 클라이언트가 최신 입력의 결과만 반영하도록 함
+ */
+@Getter
+@Builder
+public class UsernameValidationUpdate {
+    
+    /**
+     * 입력 순번 (채널 내 증가)
+     */
+    private final long sequence;
+    
+    /**
+     * 검증한 아이디
+     */
+    private final String username;
+    
+    /**
+     * 종합 검증(중복 검사 포함)까지 끝난 결과인지 여부
+     * false면 형식 검증 결과이며 이어서 종합 검증 결과가 전송됨
+     */
+    private final boolean complete;
+    
+    /**
+     * 검증 결과
+     */
+    private final ValidationResult result;
+}
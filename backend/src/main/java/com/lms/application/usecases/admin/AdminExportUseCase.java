@@ -0,0 +1,112 @@
+package com.lms.application.usecases.admin;
+
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.export.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 목록 내보내기 UseCase (회원/협약사/과정 CSV)
+ * 
+ * - 읽기 전용 트랜잭션 안에서 DB 커서를 fetch size 단위로 읽으며 한 행씩 바로 출력
+ * - 목록 컬럼만 projection으로 조회 (엔티티/영속성 컨텍스트 적재 없음)
+ * - 행 수와 관계없이 메모리 사용량 일정 (조회 결과를 모으지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExportUseCase {
+    
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final CourseRepository courseRepository;
+    
+    /**
+     * 회원 목록 CSV 출력 (조건은 null이면 전체)
+     * 
+     * @return 출력한 회원 수
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(User.UserType userType, User.Status status, Long companyId,
+                            OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        try (Stream<UserRepository.UserListView> rows = userRepository.streamForExport(userType, status, companyId);
+             CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("ID", "아이디", "이메일", "이름", "사용자 유형", "상태", "재직자 여부", "회사 ID", "부서", "가입일시");
+            Iterator<UserRepository.UserListView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                UserRepository.UserListView user = iterator.next();
+                csv.writeRow(user.getId(), user.getUsername(), user.getEmail(), user.getName(),
+                        user.getUserType(), user.getStatus(), user.getIsEmployee(), user.getCompanyId(),
+                        user.getDepartment(), user.getCreatedAt());
+            }
+            return finish("회원", csv, started);
+        }
+    }
+    
+    /**
+     * 협약사 목록 CSV 출력 (계약 상태가 null이면 전체)
+     * 
+     * @return 출력한 협약사 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCompanies(Company.ContractStatus contractStatus, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        try (Stream<CompanyRepository.CompanyListView> rows = companyRepository.streamForExport(contractStatus);
+             CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("ID", "사업자등록번호", "회사명", "대표자명", "전화번호", "이메일", "계약 상태", "등록일시");
+            Iterator<CompanyRepository.CompanyListView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CompanyRepository.CompanyListView company = iterator.next();
+                csv.writeRow(company.getId(), company.getBusinessNumber(), company.getName(),
+                        company.getRepresentativeName(), company.getPhone(), company.getEmail(),
+                        company.getContractStatus(), company.getCreatedAt());
+            }
+            return finish("협약사", csv, started);
+        }
+    }
+    
+    /**
+     * 과정 목록 CSV 출력 (유형/상태가 null이면 전체)
+     * 
+     * @return 출력한 과정 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCourses(Course.CourseType courseType, Course.CourseStatus status,
+                              OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        // 유형 미지정 시 조건 없이 조회 (전체 유형 IN 목록을 만들지 않음)
+        EnumSet<Course.CourseType> courseTypes = courseType != null ? EnumSet.of(courseType) : null;
+        try (Stream<CourseRepository.CourseListView> rows = courseRepository.streamForExport(courseTypes, status);
+             CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("ID", "과정명", "교육대상", "교육시간", "최대 인원", "과정 유형", "상태", "수정일시");
+            Iterator<CourseRepository.CourseListView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CourseRepository.CourseListView course = iterator.next();
+                csv.writeRow(course.getId(), course.getTitle(), course.getTargetAudience(),
+                        course.getDurationHours(), course.getMaxParticipants(), course.getCourseType(),
+                        course.getStatus(), course.getUpdatedAt());
+            }
+            return finish("과정", csv, started);
+        }
+    }
+    
+    private static long finish(String target, CsvWriter csv, long started) {
+        long exported = csv.getRowCount() - 1;
+        log.info("{} 목록 내보내기 완료 - {}건, {}ms", target, exported, System.currentTimeMillis() - started);
+        return exported;
+    }
+}
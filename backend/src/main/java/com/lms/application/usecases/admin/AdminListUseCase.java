@@ -0,0 +1,87 @@
+package com.lms.application.usecases.admin;
+
+import com.lms.application.dto.response.CursorPage;
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 관리자 목록 조회 UseCase (회원/협약사/과정)
+ * 
+ * - ID 기준 keyset 페이지: after 다음 ID부터 limit건 (OFFSET 없음, 테이블 크기와 무관하게 일정한 비용)
+ * - 목록 컬럼만 projection으로 조회 (엔티티 적재 없음)
+ * - limit + 1건을 읽어 다음 페이지 존재 여부 판단
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminListUseCase {
+    
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final CourseRepository courseRepository;
+    
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+    
+    /**
+     * 회원 목록 (조건은 null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserRepository.UserListView> listUsers(Long after, Integer limit, User.UserType userType,
+                                                             User.Status status, Long companyId, Boolean employee) {
+        int size = clamp(limit);
+        return CursorPage.of(userRepository.findPageAfter(cursor(after), userType, status, companyId, employee,
+                size + 1), size, UserRepository.UserListView::getId);
+    }
+    
+    /**
+     * 협약사 목록 (계약 상태가 null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CompanyRepository.CompanyListView> listCompanies(Long after, Integer limit,
+                                                                       Company.ContractStatus contractStatus) {
+        int size = clamp(limit);
+        return CursorPage.of(companyRepository.findPageAfter(cursor(after), contractStatus,
+                size + 1), size, CompanyRepository.CompanyListView::getId);
+    }
+    
+    /**
+     * 과정 목록 (유형/상태가 null이면 전체, includeCommon이면 공통 과정 포함)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CourseRepository.CourseListView> listCourses(Long after, Integer limit,
+                                                                   Course.CourseType courseType,
+                                                                   boolean includeCommon,
+                                                                   Course.CourseStatus status) {
+        int size = clamp(limit);
+        return CursorPage.of(courseRepository.findPageAfter(cursor(after), courseTypes(courseType, includeCommon),
+                status, size + 1), size, CourseRepository.CourseListView::getId);
+    }
+    
+    /**
+     * 유형 조건 (유형 미지정 시 null → 유형 조건 없이 조회)
+     */
+    private static Set<Course.CourseType> courseTypes(Course.CourseType courseType, boolean includeCommon) {
+        if (courseType == null) {
+            return null;
+        }
+        return includeCommon ? EnumSet.of(courseType, Course.CourseType.COMMON) : EnumSet.of(courseType);
+    }
+    
+    private static long cursor(Long after) {
+        return after != null ? after : 0L;
+    }
+    
+    private static int clamp(Integer limit) {
+        return limit != null ? Math.min(Math.max(limit, 1), MAX_LIMIT) : DEFAULT_LIMIT;
+    }
+}
@@ -0,0 +1,110 @@
+package com.lms.application.usecases.course;
+
+import com.lms.application.dto.response.CourseSearchResponse;
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.domain.entities.Course;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.infrastructure.search.CourseSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 과정 키워드 검색 UseCase
+ * 
+ * - 과정명/설명 전문 검색 + 부분 일치 (PostgreSQL GIN 인덱스)
+ * - 1~2자 검색어는 트라이그램 인덱스를 쓸 수 없으므로 검색 색인(CourseSearchIndex)으로 대상 과정을 찾아 조회
+ *   (색인 구성 전에는 DB 검색)
+ * - 관련도순 정렬, 페이지 단위 조회
+ * - 검색어는 공백 정리 후 최대 100자
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseSearchUseCase {
+    
+    private final CourseRepository courseRepository;
+    private final CourseSearchIndex courseSearchIndex;
+    
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    // pg_trgm 인덱스가 적용되는 최소 패턴 길이 (미만이면 검색 색인 사용)
+    private static final int MIN_TRIGRAM_KEYWORD_LENGTH = 3;
+    private static final int MAX_SHORT_KEYWORD_MATCHES = 10_000;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    
+    /**
+     * 활성 과정 키워드 검색
+     * 
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1~50, null이면 20)
+     * @return 관련도순 검색 결과
+     */
+    @Transactional(readOnly = true)
+    public CourseSearchResponse search(String keyword, Integer page, Integer size) {
+        String normalized = normalize(keyword);
+        int pageNumber = page != null ? Math.max(page, 0) : 0;
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        
+        if (normalized.isEmpty()) {
+            return CourseSearchResponse.builder()
+                    .keyword(normalized)
+                    .courses(List.of())
+                    .page(pageNumber)
+                    .size(pageSize)
+                    .build();
+        }
+        
+        String pattern = "%" + escapeLike(normalized) + "%";
+        PageRequest pageable = PageRequest.of(pageNumber, pageSize);
+        List<Long> ids = normalized.length() < MIN_TRIGRAM_KEYWORD_LENGTH
+                ? courseSearchIndex.searchTitleOrDescription(normalized, MAX_SHORT_KEYWORD_MATCHES)
+                : null;
+        Page<CourseRepository.CourseSearchView> result;
+        if (ids == null) {
+            result = courseRepository.searchByKeyword(normalized, pattern, Course.CourseStatus.ACTIVE.name(), pageable);
+        } else if (ids.isEmpty()) {
+            result = Page.empty(pageable);
+        } else {
+            result = courseRepository.searchByIds(ids, pattern, Course.CourseStatus.ACTIVE.name(), pageable);
+        }
+        log.debug("과정 검색 - keyword: {}, 결과: {}건", normalized, result.getTotalElements());
+        
+        return CourseSearchResponse.builder()
+                .keyword(normalized)
+                .courses(result.getContent().stream().map(CourseSummary::fromSearchView).toList())
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(result.getTotalElements())
+                .hasNext(result.hasNext())
+                .build();
+    }
+    
+    private static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ");
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH) : normalized;
+    }
+    
+    /**
+     * LIKE 특수문자 이스케이프 (PostgreSQL 기본 이스케이프 문자 '\')
+     */
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
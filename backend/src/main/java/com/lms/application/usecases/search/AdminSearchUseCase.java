@@ -0,0 +1,123 @@
+package com.lms.application.usecases.search;
+
+import com.lms.application.dto.response.CompanySummary;
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.application.dto.response.UserResponse;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.search.CompanySearchIndex;
+import com.lms.infrastructure.search.CourseSearchIndex;
+import com.lms.infrastructure.search.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 검색 UseCase (회원/협약사/과정 부분 일치 검색)
+ * 
+ * - n-gram 검색 색인으로 ID를 찾은 뒤 해당 엔티티만 조회 (색인 순서 유지)
+ * - 색인 구성 전(기동 직후)에는 기존 LIKE 쿼리로 처리
+ * - 검색 조건이 하나도 없으면 빈 결과
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminSearchUseCase {
+    
+    private final UserSearchIndex userSearchIndex;
+    private final CompanySearchIndex companySearchIndex;
+    private final CourseSearchIndex courseSearchIndex;
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final CourseRepository courseRepository;
+    
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+    
+    /**
+     * 이름/이메일로 회원 검색
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> searchUsers(String name, String email, Integer limit) {
+        String nameQuery = normalize(name);
+        String emailQuery = normalize(email);
+        if (nameQuery == null && emailQuery == null) {
+            return List.of();
+        }
+        int max = clamp(limit);
+        
+        List<Long> ids = userSearchIndex.search(nameQuery, emailQuery, max);
+        if (ids == null) {
+            log.debug("회원 검색 색인 구성 전 - DB 검색으로 처리");
+            return userRepository.findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase(nameQuery, emailQuery)
+                    .stream().limit(max).map(UserResponse::fromEntity).toList();
+        }
+        return inOrder(ids, userRepository.findAllById(ids), UserResponse::fromEntity, UserResponse::getId);
+    }
+    
+    /**
+     * 회사명/대표자명으로 협약사 검색
+     */
+    @Transactional(readOnly = true)
+    public List<CompanySummary> searchCompanies(String companyName, String representative, Integer limit) {
+        String nameQuery = normalize(companyName);
+        String representativeQuery = normalize(representative);
+        if (nameQuery == null && representativeQuery == null) {
+            return List.of();
+        }
+        int max = clamp(limit);
+        
+        List<Long> ids = companySearchIndex.search(nameQuery, representativeQuery, max);
+        if (ids == null) {
+            log.debug("협약사 검색 색인 구성 전 - DB 검색으로 처리");
+            return companyRepository.searchByNameAndRepresentative(nameQuery, representativeQuery)
+                    .stream().limit(max).map(CompanySummary::fromEntity).toList();
+        }
+        return inOrder(ids, companyRepository.findAllById(ids), CompanySummary::fromEntity, CompanySummary::getId);
+    }
+    
+    /**
+     * 과정명으로 과정 검색 (상태 무관)
+     */
+    @Transactional(readOnly = true)
+    public List<CourseSummary> searchCourses(String title, Integer limit) {
+        String titleQuery = normalize(title);
+        if (titleQuery == null) {
+            return List.of();
+        }
+        int max = clamp(limit);
+        
+        List<Long> ids = courseSearchIndex.search(titleQuery, max);
+        if (ids == null) {
+            log.debug("과정 검색 색인 구성 전 - DB 검색으로 처리");
+            return courseRepository.findByTitleContainingIgnoreCase(titleQuery)
+                    .stream().limit(max).map(CourseSummary::fromEntity).toList();
+        }
+        return inOrder(ids, courseRepository.findAllById(ids), CourseSummary::fromEntity, CourseSummary::getId);
+    }
+    
+    private static <E, D> List<D> inOrder(List<Long> ids, List<E> entities, Function<E, D> mapper,
+                                          Function<D, Long> idOf) {
+        Map<Long, D> byId = entities.stream().map(mapper).collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+    
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+    
+    private static int clamp(Integer limit) {
+        return limit != null ? Math.min(Math.max(limit, 1), MAX_LIMIT) : DEFAULT_LIMIT;
+    }
+}
@@ -0,0 +1,340 @@
+package com.lms.application.usecases.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.request.EmployeeImportRow;
+import com.lms.application.dto.response.EmployeeImportResult;
+import com.lms.application.dto.response.EmployeeImportSummary;
+import com.lms.application.dto.response.ValidationResult;
+import com.lms.application.validation.UsernameRuleEngine;
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.User;
+import com.lms.domain.events.EmployeesImportedEvent;
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.EmployeeImportReader;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserBatchWriter;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 협약사 재직자 일괄 등록 Use Case
+ *
+ * CSV/JSONL 파일을 chunk-size 행씩 읽어 처리하고 행별 결과를 바로 전달
+ * - 메모리 사용량은 chunk 크기에 비례 (파일 크기와 무관)
+ * - 행 검증은 재직자 회원가입 요청과 같은 규칙 + 아이디 규칙 엔진(반복/연속 숫자/금지어), 중복 검사는 chunk마다 조회 1회
+ * - 비밀번호 해시는 hash-parallelism개 작업으로 동시에 요청 (비밀번호 해시 풀 공유, 포화 시 재시도)
+ * - 저장은 chunk 단위 JDBC batch, 동시 가입으로 유니크 제약 위반 시 해당 chunk만 행별로 다시 저장
+ * - 앞 chunk가 먼저 저장되므로 파일 안의 중복도 뒤쪽 행이 중복으로 처리됨
+ * - 협약사가 일괄 등록하므로 본인인증/담당자 승인 없이 활성 상태로 등록
+ */
+@Service
+@Slf4j
+public class EmployeeBulkImportUseCase implements DisposableBean {
+
+    private static final int HASH_RETRY_LIMIT = 5;
+    private static final long HASH_RETRY_BACKOFF_MS = 100;
+
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserBatchWriter userBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ExecutorService hashingExecutor;
+
+    public EmployeeBulkImportUseCase(CompanyRepository companyRepository,
+                                     UserRepository userRepository,
+                                     PasswordEncoder passwordEncoder,
+                                     UserBatchWriter userBatchWriter,
+                                     ApplicationEventPublisher eventPublisher,
+                                     Validator validator,
+                                     ForbiddenWordDictionary forbiddenWordDictionary,
+                                     ObjectMapper objectMapper,
+                                     @Value("${registration.bulk-import.chunk-size:200}") int chunkSize,
+                                     @Value("${registration.bulk-import.hash-parallelism:2}") int hashParallelism) {
+        this.companyRepository = companyRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userBatchWriter = userBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.forbiddenWordDictionary = forbiddenWordDictionary;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(Math.max(1, hashParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "employee-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 등록 대상 협약사 조회
+     */
+    public Optional<Company> findCompany(Long companyId) {
+        return companyRepository.findById(companyId);
+    }
+
+    /**
+     * 일괄 등록 실행
+     *
+     * @param company 소속 협약사
+     * @param input 업로드 파일
+     * @param format 파일 형식
+     * @param sink 행별 결과 수신 (입력 순서대로 chunk마다 전달)
+     * @return 처리 요약
+     */
+    public EmployeeImportSummary execute(Company company, InputStream input, EmployeeImportReader.Format format,
+                                         Consumer<EmployeeImportResult> sink) {
+        long started = System.currentTimeMillis();
+        long total = 0;
+        long created = 0;
+
+        try (EmployeeImportReader reader = new EmployeeImportReader(input, format, objectMapper)) {
+            List<EmployeeImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            EmployeeImportReader.Row row;
+            do {
+                row = reader.next();
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                    for (EmployeeImportResult result : importChunk(company, chunk)) {
+                        total++;
+                        if (result.getStatus() == EmployeeImportResult.Status.CREATED) {
+                            created++;
+                        }
+                        sink.accept(result);
+                    }
+                    chunk.clear();
+                }
+            } while (row != null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 중간에 실패해도 이미 저장된 재직자는 검색 색인에 반영
+            eventPublisher.publishEvent(new EmployeesImportedEvent(company.getId(), created));
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("재직자 일괄 등록 완료 - 회사 ID: {}, 처리 {}건, 등록 {}건, {}ms", company.getId(), total, created, elapsed);
+        return EmployeeImportSummary.builder()
+                .total(total)
+                .created(created)
+                .rejected(total - created)
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * chunk 처리: 검증 → 중복 조회 1회 → 병렬 해시 → batch 저장
+     */
+    private List<EmployeeImportResult> importChunk(Company company, List<EmployeeImportReader.Row> rows) {
+        List<EmployeeImportResult> results = new ArrayList<>(rows.size());
+        List<EmployeeImportReader.Row> candidates = new ArrayList<>(rows.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        UsernameRuleEngine ruleEngine = forbiddenWordDictionary.ruleEngine();
+        for (EmployeeImportReader.Row row : rows) {
+            String invalid = row.error() != null ? row.error() : firstViolation(row.data(), ruleEngine);
+            if (invalid != null) {
+                results.add(result(row, EmployeeImportResult.Status.INVALID, invalid));
+            } else if (!usernames.add(row.data().getUsername())) {
+                results.add(result(row, EmployeeImportResult.Status.DUPLICATE, RegistrationConflicts.USERNAME_TAKEN));
+            } else if (!emails.add(row.data().getEmail())) {
+                results.add(result(row, EmployeeImportResult.Status.DUPLICATE, RegistrationConflicts.EMAIL_TAKEN));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            candidates = excludeExisting(candidates, usernames, emails, results);
+        }
+        if (!candidates.isEmpty()) {
+            results.addAll(hashAndInsert(company, candidates));
+        }
+
+        results.sort(Comparator.comparingLong(EmployeeImportResult::getLine));
+        return results;
+    }
+
+    private List<EmployeeImportReader.Row> excludeExisting(List<EmployeeImportReader.Row> candidates,
+                                                           Set<String> usernames, Set<String> emails,
+                                                           List<EmployeeImportResult> results) {
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserRepository.IdentifierView existing : userRepository.findIdentifierConflictsIn(usernames, emails)) {
+            takenUsernames.add(existing.getUsername());
+            takenEmails.add(existing.getEmail());
+        }
+        if (takenUsernames.isEmpty()) {
+            return candidates;
+        }
+
+        List<EmployeeImportReader.Row> available = new ArrayList<>(candidates.size());
+        for (EmployeeImportReader.Row row : candidates) {
+            if (takenUsernames.contains(row.data().getUsername())) {
+                results.add(result(row, EmployeeImportResult.Status.DUPLICATE, RegistrationConflicts.USERNAME_TAKEN));
+            } else if (takenEmails.contains(row.data().getEmail())) {
+                results.add(result(row, EmployeeImportResult.Status.DUPLICATE, RegistrationConflicts.EMAIL_TAKEN));
+            } else {
+                available.add(row);
+            }
+        }
+        return available;
+    }
+
+    private List<EmployeeImportResult> hashAndInsert(Company company, List<EmployeeImportReader.Row> rows) {
+        List<Callable<String>> tasks = new ArrayList<>(rows.size());
+        for (EmployeeImportReader.Row row : rows) {
+            tasks.add(() -> encode(row.data().getPassword()));
+        }
+
+        List<EmployeeImportResult> results = new ArrayList<>(rows.size());
+        List<EmployeeImportReader.Row> hashedRows = new ArrayList<>(rows.size());
+        List<User> users = new ArrayList<>(rows.size());
+        try {
+            List<Future<String>> hashes = hashingExecutor.invokeAll(tasks);
+            for (int i = 0; i < rows.size(); i++) {
+                EmployeeImportReader.Row row = rows.get(i);
+                try {
+                    users.add(toUser(company, row.data(), hashes.get(i).get()));
+                    hashedRows.add(row);
+                } catch (ExecutionException e) {
+                    log.warn("재직자 일괄 등록 비밀번호 해시 실패 - 줄: {}", row.line(), e.getCause());
+                    results.add(result(row, EmployeeImportResult.Status.FAILED, "비밀번호를 처리할 수 없습니다. 다시 시도해주세요"));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재직자 일괄 등록이 중단되었습니다", e);
+        }
+
+        try {
+            userBatchWriter.insertAll(users);
+            for (int i = 0; i < users.size(); i++) {
+                results.add(created(hashedRows.get(i), users.get(i)));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 아이디/이메일을 먼저 저장한 경우: 행별로 다시 저장해 결과 구분
+            log.debug("재직자 일괄 등록 batch 제약 위반 - 행별 저장으로 전환", e);
+            for (int i = 0; i < users.size(); i++) {
+                results.add(insertOne(hashedRows.get(i), users.get(i)));
+            }
+        }
+        return results;
+    }
+
+    private EmployeeImportResult insertOne(EmployeeImportReader.Row row, User user) {
+        try {
+            userBatchWriter.insert(user);
+            return created(row, user);
+        } catch (DataIntegrityViolationException e) {
+            String message = RegistrationConflicts.messageFor(e);
+            return message != null
+                    ? result(row, EmployeeImportResult.Status.DUPLICATE, message)
+                    : result(row, EmployeeImportResult.Status.FAILED, "저장할 수 없는 값이 있습니다");
+        }
+    }
+
+    private EmployeeImportResult created(EmployeeImportReader.Row row, User user) {
+        // JDBC 저장은 엔티티 이벤트를 거치지 않으므로 중복 검사 필터/검증 캐시 갱신용 이벤트 직접 발행
+        eventPublisher.publishEvent(new UserIdentifiersChangedEvent(user.getUsername(), user.getEmail()));
+        return result(row, EmployeeImportResult.Status.CREATED, null);
+    }
+
+    /**
+     * 비밀번호 해시 (해시 풀 포화 시 잠시 후 재시도하여 로그인 요청에 자리를 양보)
+     */
+    private String encode(String rawPassword) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } catch (PasswordHashingRejectedException e) {
+                if (attempt >= HASH_RETRY_LIMIT) {
+                    throw e;
+                }
+                Thread.sleep(HASH_RETRY_BACKOFF_MS * attempt);
+            }
+        }
+    }
+
+    /**
+     * 행 검증 (형식 검증 통과 시 회원가입과 같은 아이디 규칙 엔진 검사)
+     */
+    private String firstViolation(EmployeeImportRow data, UsernameRuleEngine ruleEngine) {
+        Set<ConstraintViolation<EmployeeImportRow>> violations = validator.validate(data);
+        if (violations.isEmpty()) {
+            ValidationResult rule = ruleEngine.check(data.getUsername());
+            return rule != null ? rule.getMessage() : null;
+        }
+        return violations.stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private static User toUser(Company company, EmployeeImportRow data, String encodedPassword) {
+        return User.builder()
+                .username(data.getUsername())
+                .password(encodedPassword)
+                .email(data.getEmail())
+                .name(data.getName())
+                .phoneNumber(data.getPhoneNumber())
+                .userType(User.UserType.STUDENT) // 재직자도 기본적으로 STUDENT로 분류
+                .status(User.Status.ACTIVE)
+                .company(company)
+                .isEmployee(true)
+                .department(data.getDepartment())
+                .build();
+    }
+
+    private static EmployeeImportResult result(EmployeeImportReader.Row row, EmployeeImportResult.Status status,
+                                               String message) {
+        return EmployeeImportResult.builder()
+                .line(row.line())
+                .username(row.data() != null ? row.data().getUsername() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.lms.application.dto.response.IdentityVerificationResponse;
 import com.lms.application.dto.response.RegistrationResponse;
 import com.lms.domain.entities.User;
 import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -49,11 +50,10 @@ public class EmployeeRegistrationUseCase {
             // 2. 본인인증 토큰 검증
             IdentityVerificationResponse verificationInfo = validateVerificationToken(request.getVerificationToken());
             
-            // 3. 아이디 중복 검사
-            validateUsernameDuplicate(request.getUsername());
+            // 3. 아이디/이메일 중복 검사 (조회 1회)
+            RegistrationConflicts.check(userRepository, request.getUsername(), request.getEmail());
             
-            // 4. 이메일 중복 검사
-            validateEmailDuplicate(request.getEmail());
+            // 4. (동시 가입으로 인한 중복은 저장 시 유니크 제약으로 확인)
             
             // 5. 재직자 정보 검증
             validateEmployeeInfo(request);
@@ -61,8 +61,8 @@ public class EmployeeRegistrationUseCase {
             // 6. User 엔티티 생성
             User user = createEmployeeUser(request, verificationInfo);
             
-            // 7. 사용자 저장
-            User savedUser = userRepository.save(user);
+            // 7. 사용자 저장 (유니크 제약 위반은 중복 안내 메시지로 변환)
+            User savedUser = RegistrationConflicts.save(userRepository, user);
             
             // 8. 승인 프로세스 시작 (담당자에게 승인 요청 메일 발송)
             initiateApprovalProcess(savedUser, request);
@@ -85,6 +85,9 @@ public class EmployeeRegistrationUseCase {
                     .nextSteps("담당자 승인 후 로그인이 가능합니다. 승인 요청 메일이 담당자에게 발송되었습니다")
                     .build();
                     
+        } catch (PasswordHashingRejectedException e) {
+            // 해시 풀 포화는 503으로 응답하도록 그대로 전달
+            throw e;
         } catch (IllegalArgumentException e) {
             log.warn("재직자 회원가입 검증 실패: {}", e.getMessage());
             return RegistrationResponse.builder()
@@ -139,24 +142,6 @@ public class EmployeeRegistrationUseCase {
         return verificationInfo;
     }
     
-    /**
-     * 아이디 중복 검사
-     */
-    private void validateUsernameDuplicate(String username) {
-        if (userRepository.existsByUsername(username)) {
-            throw new IllegalArgumentException("이미 사용 중인 아이디입니다");
-        }
-    }
-    
-    /**
-     * 이메일 중복 검사
-     */
-    private void validateEmailDuplicate(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
-        }
-    }
-    
     /**
      * 재직자 정보 검증
      */
@@ -0,0 +1,213 @@
+package com.lms.application.usecases.user;
+
+import com.lms.application.dto.response.UsernameValidationUpdate;
+import com.lms.application.dto.response.ValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 아이디 검증 UseCase (입력 스트림 단위)
+ * 
+ * 클라이언트별 채널로 입력 중인 아이디를 받아 최신 입력만 검증
+ * - 형식 검증(quickValidate)은 입력 즉시 전송
+ * - 종합 검증(중복 검사 포함)은 debounce-ms 동안 새 입력이 없을 때만 실행
+ * - 새 입력이 들어오면 대기 중인 이전 검증은 취소, 실행 중이던 결과는 전송하지 않음
+ * - 결과 전송 실패 시 채널 종료
+ * - 채널 수는 생성 전에 예약하여 동시 생성 시에도 max-channels를 넘지 않음
+ */
+@Service
+@Slf4j
+public class LiveUsernameValidationUseCase implements DisposableBean {
+    
+    private final UsernameValidationUseCase usernameValidationUseCase;
+    private final ScheduledExecutorService scheduler;
+    private final long debounceMs;
+    private final int maxChannels;
+    
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger openChannels = new AtomicInteger();
+    
+    private final Counter executedCounter;
+    private final Counter supersededCounter;
+    
+    public LiveUsernameValidationUseCase(UsernameValidationUseCase usernameValidationUseCase,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${registration.live-validation.debounce-ms:150}") long debounceMs,
+                                         @Value("${registration.live-validation.max-channels:10000}") int maxChannels,
+                                         @Value("${registration.live-validation.threads:2}") int threads) {
+        this.usernameValidationUseCase = usernameValidationUseCase;
+        this.debounceMs = debounceMs;
+        this.maxChannels = maxChannels;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "username-live-validation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Gauge.builder("registration.live.validation.channels", channels, Map::size)
+                .description("Open live username validation channels")
+                .register(meterRegistry);
+        this.executedCounter = checkCounter(meterRegistry, "executed");
+        this.supersededCounter = checkCounter(meterRegistry, "superseded");
+    }
+    
+    /**
+     * 검증 채널 생성
+     * 
+     * @param sink 검증 결과 수신 (전송 실패 시 예외를 던지면 채널 종료)
+     * @return 채널 ID, 최대 채널 수를 넘으면 null
+     */
+    public String open(Consumer<UsernameValidationUpdate> sink) {
+        if (openChannels.incrementAndGet() > maxChannels) {
+            openChannels.decrementAndGet();
+            log.warn("실시간 아이디 검증 채널 수 초과 - 최대 {}", maxChannels);
+            return null;
+        }
+        String channelId = UUID.randomUUID().toString();
+        channels.put(channelId, new Channel(sink));
+        return channelId;
+    }
+    
+    /**
+     * 입력 중인 아이디 전달
+     * 
+     * @return 채널이 없거나 전송 실패로 종료되었으면 false
+     */
+    public boolean submit(String channelId, String username) {
+        Channel channel = channels.get(channelId);
+        if (channel == null) {
+            return false;
+        }
+        
+        synchronized (channel) {
+            long sequence = ++channel.sequence;
+            if (channel.pending != null && channel.pending.cancel(false)) {
+                supersededCounter.increment();
+            }
+            channel.pending = null;
+            
+            ValidationResult quick = usernameValidationUseCase.quickValidate(username);
+            if (!quick.isValid()) {
+                // 형식 오류는 종합 검증 결과와 같으므로 DB 조회 없이 종료
+                return send(channelId, channel, sequence, username, quick, true);
+            }
+            if (!send(channelId, channel, sequence, username, quick, false)) {
+                return false;
+            }
+            channel.pending = scheduler.schedule(() -> validate(channelId, channel, sequence, username),
+                    debounceMs, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+    
+    /**
+     * 채널 종료 (대기 중인 검증 취소)
+     */
+    public void close(String channelId) {
+        Channel channel = channels.remove(channelId);
+        if (channel == null) {
+            return;
+        }
+        openChannels.decrementAndGet();
+        synchronized (channel) {
+            if (channel.pending != null) {
+                channel.pending.cancel(false);
+            }
+        }
+    }
+    
+    public int getChannelCount() {
+        return channels.size();
+    }
+    
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        channels.clear();
+        openChannels.set(0);
+    }
+    
+    private void validate(String channelId, Channel channel, long sequence, String username) {
+        if (!isLatest(channel, sequence)) {
+            supersededCounter.increment();
+            return;
+        }
+        ValidationResult result = usernameValidationUseCase.validateUsername(username);
+        executedCounter.increment();
+        
+        synchronized (channel) {
+            // 검증 중 새 입력이 들어왔으면 이전 결과는 전송하지 않음
+            if (channel.sequence != sequence) {
+                return;
+            }
+            channel.pending = null;
+            send(channelId, channel, sequence, username, result, true);
+        }
+    }
+    
+    private static boolean isLatest(Channel channel, long sequence) {
+        synchronized (channel) {
+            return channel.sequence == sequence;
+        }
+    }
+    
+    private boolean send(String channelId, Channel channel, long sequence, String username,
+                      ValidationResult result, boolean complete) {
+        try {
+            channel.sink.accept(UsernameValidationUpdate.builder()
+                    .sequence(sequence)
+                    .username(username)
+                    .complete(complete)
+                    .result(result)
+                    .build());
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("실시간 아이디 검증 결과 전송 실패 - 채널 종료: {}", channelId, e);
+            if (channels.remove(channelId, channel)) {
+                openChannels.decrementAndGet();
+            }
+            if (channel.pending != null) {
+                channel.pending.cancel(false);
+            }
+            return false;
+        }
+    }
+    
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("registration.live.validation.checks")
+                .description("Full username checks by outcome (superseded checks skip the database)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 채널 상태 (모든 필드는 채널 객체 잠금으로 보호)
+     */
+    private static final class Channel {
+        
+        private final Consumer<UsernameValidationUpdate> sink;
+        private long sequence;
+        private Future<?> pending;
+        
+        private Channel(Consumer<UsernameValidationUpdate> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -5,34 +5,52 @@ import com.lms.application.dto.response.UserResponse;
 import com.lms.domain.entities.User;
 import com.lms.domain.repositories.UserRepository;
 import com.lms.infrastructure.security.JwtTokenProvider;
+import com.lms.infrastructure.security.LoginRateLimiter;
+import com.lms.infrastructure.security.LoginThrottledException;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import com.lms.infrastructure.security.SessionManager;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Slf4j
 public class LoginUseCase {
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final SessionManager sessionManager;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordEncoder passwordEncoder;
 
     public LoginUseCase(AuthenticationManager authenticationManager, 
                        UserRepository userRepository,
                        JwtTokenProvider jwtTokenProvider,
-                       SessionManager sessionManager) {
+                       SessionManager sessionManager,
+                       LoginRateLimiter loginRateLimiter,
+                       PasswordEncoder passwordEncoder) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.sessionManager = sessionManager;
+        this.loginRateLimiter = loginRateLimiter;
+        this.passwordEncoder = passwordEncoder;
     }
 
     public UserResponse execute(LoginRequest request) {
+        return execute(request, null);
+    }
+
+    public UserResponse execute(LoginRequest request, String clientIp) {
+        String username = null;
+        long attemptedAt = 0;
         try {
             // 입력값 검증
             if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
@@ -42,19 +60,27 @@ public class LoginUseCase {
                 throw new BadCredentialsException("Password cannot be empty");
             }
 
+            username = request.getUsername().trim().toLowerCase();
+
+            // 로그인 시도 제한 (BCrypt 연산 전에 시도를 예약하고 초과 시 차단)
+            attemptedAt = loginRateLimiter.acquire(username, clientIp);
+
             // 인증 수행
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
-                        request.getUsername().trim().toLowerCase(), 
+                        username, 
                         request.getPassword()
                     )
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             // 사용자 조회
-            User user = userRepository.findByUsername(request.getUsername().trim().toLowerCase())
+            User user = userRepository.findByUsername(username)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + request.getUsername()));
 
+            // 오래된 해시 형식/cost인 경우 재해시
+            upgradePasswordIfNeeded(user, request.getPassword());
+
             // JWT 토큰 생성
             String token = jwtTokenProvider.generateToken(user.getUsername());
             
@@ -65,11 +91,36 @@ public class LoginUseCase {
             UserResponse userResponse = UserResponse.fromEntity(user);
             userResponse.setToken(token);
 
+            loginRateLimiter.recordSuccess(username, clientIp, attemptedAt);
+
             return userResponse;
             
+        } catch (LoginThrottledException e) {
+            throw e;
+        } catch (PasswordHashingRejectedException e) {
+            // 비밀번호를 검증하지 못한 시도는 제한 횟수에서 제외
+            loginRateLimiter.release(username, clientIp, attemptedAt);
+            throw e;
         } catch (Exception e) {
-            // 로그인 실패 로그 (보안상 상세 정보는 기록하지 않음)
+            // 예약한 시도가 실패로 남음 (보안상 상세 정보는 기록하지 않음)
             throw new BadCredentialsException("Invalid username or password");
         }
     }
+
+    /**
+     * 저장된 해시가 현재 인코더 설정보다 약하면 로그인한 비밀번호로 재해시
+     * 실패해도 로그인은 계속 진행 (다음 로그인 시 재시도)
+     */
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.changePassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            log.info("비밀번호 해시 업그레이드 완료 - 사용자: {}", user.getUsername());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 업그레이드 실패 - 사용자: {}", user.getUsername(), e);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.lms.application.usecases.user;
 
+import com.lms.infrastructure.security.JwtTokenProvider;
+import com.lms.infrastructure.security.PrincipalCache;
 import com.lms.infrastructure.security.SecurityUtils;
 import com.lms.infrastructure.security.SessionManager;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,9 +11,14 @@ import org.springframework.stereotype.Service;
 public class LogoutUseCase {
 
     private final SessionManager sessionManager;
+    private final PrincipalCache principalCache;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    public LogoutUseCase(SessionManager sessionManager) {
+    public LogoutUseCase(SessionManager sessionManager, PrincipalCache principalCache,
+                         JwtTokenProvider jwtTokenProvider) {
         this.sessionManager = sessionManager;
+        this.principalCache = principalCache;
+        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     public void execute() {
@@ -21,8 +28,14 @@ public class LogoutUseCase {
         if (username != null) {
             // 세션 제거
             sessionManager.removeSession(username);
+            
+            // 인증 주체 캐시 무효화
+            principalCache.invalidate(username);
         }
         
+        // 현재 토큰 폐기 (만료 전 재사용 방지)
+        SecurityUtils.getCurrentToken().ifPresent(jwtTokenProvider::revokeToken);
+        
         // SecurityContext 클리어
         SecurityContextHolder.clearContext();
     }
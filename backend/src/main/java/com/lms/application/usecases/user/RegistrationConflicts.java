@@ -0,0 +1,79 @@
+package com.lms.application.usecases.user;
+
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원가입 아이디/이메일 중복 처리 (재직자/구직자 공통)
+ * 
+ * - 사전 검사: 아이디/이메일 충돌을 조회 한 번으로 확인
+ * - 저장 시 동시 가입으로 users 유니크 제약 위반이 발생하면 같은 안내 메시지로 변환
+ */
+final class RegistrationConflicts {
+    
+    static final String USERNAME_TAKEN = "이미 사용 중인 아이디입니다";
+    static final String EMAIL_TAKEN = "이미 사용 중인 이메일입니다";
+    
+    private RegistrationConflicts() {
+    }
+    
+    /**
+     * 아이디/이메일 중복 검사 (아이디 충돌을 먼저 안내)
+     */
+    static void check(UserRepository userRepository, String username, String email) {
+        boolean emailTaken = false;
+        for (UserRepository.IdentifierView existing : userRepository.findIdentifierConflicts(username, email)) {
+            if (username.equals(existing.getUsername())) {
+                throw new IllegalArgumentException(USERNAME_TAKEN);
+            }
+            emailTaken |= email.equals(existing.getEmail());
+        }
+        if (emailTaken) {
+            throw new IllegalArgumentException(EMAIL_TAKEN);
+        }
+    }
+    
+    /**
+     * 사용자 저장 (제약 위반을 현재 요청 안에서 확인하도록 즉시 flush)
+     */
+    static User save(UserRepository userRepository, User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String message = messageFor(e);
+            if (message == null) {
+                throw e;
+            }
+            // 실패 응답을 정상 반환하므로 트랜잭션은 직접 롤백 표시 (UnexpectedRollbackException 방지)
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+            throw new IllegalArgumentException(message, e);
+        }
+    }
+    
+    /**
+     * 유니크 제약 이름(users_username_key, users_email_key 등)으로 안내 메시지 결정
+     */
+    static String messageFor(DataIntegrityViolationException e) {
+        String constraint = null;
+        for (Throwable cause = e; cause != null && constraint == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraint = violation.getConstraintName();
+            }
+        }
+        String source = (constraint != null ? constraint : String.valueOf(e.getMostSpecificCause().getMessage()))
+                .toLowerCase();
+        if (source.contains("username")) {
+            return USERNAME_TAKEN;
+        }
+        if (source.contains("email")) {
+            return EMAIL_TAKEN;
+        }
+        return null;
+    }
+}
@@ -1,11 +1,18 @@
 package com.lms.application.usecases.user;
 
 import com.lms.application.dto.response.ValidationResult;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.application.validation.HangulRomanizer;
+import com.lms.application.validation.UsernameRuleEngine;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
+import com.lms.infrastructure.registration.UsernameValidationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 /**
@@ -22,20 +29,20 @@ import java.util.regex.Pattern;
 @Slf4j
 public class UsernameValidationUseCase {
     
-    private final UserRepository userRepository;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final UsernameValidationCache validationCache;
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
     
     // 아이디 패턴: 4-20자, 영문 대소문자, 숫자, 첫 글자는 영문
     private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9]{3,19}$");
     
-    // 연속 문자 패턴 (3글자 이상 연속)
-    private static final Pattern CONSECUTIVE_PATTERN = Pattern.compile("(.)\\1{2,}");
-    
-    // 금지어 목록
-    private static final String[] FORBIDDEN_WORDS = {
-        "admin", "administrator", "root", "test", "guest", "null", "undefined",
-        "password", "passwd", "login", "logout", "system", "user", "member",
-        "master", "operator", "moderator", "manager", "support", "service"
-    };
+    // 아이디 추천 개수 범위, 후보 생성 반복 횟수
+    private static final int MIN_RECOMMENDATIONS = 3;
+    private static final int MAX_RECOMMENDATIONS = 20;
+    private static final int RECOMMENDATION_ROUNDS = 3;
+    private static final int RECOMMENDATION_BASE_MAX_LENGTH = 16;
+    // 기본 아이디로 만들 수 있는 후보가 없을 때(영문/숫자가 남지 않거나 모든 후보가 금지어 포함) 사용
+    private static final String RECOMMENDATION_FALLBACK_BASE = "lms";
     
     /**
      * 아이디 종합 검증
@@ -52,43 +59,25 @@ public class UsernameValidationUseCase {
                 return ValidationResult.invalid("아이디를 입력해주세요");
             }
             
-            // 2. 길이 검사
-            if (username.length() < 4) {
-                return ValidationResult.invalid("아이디는 4자 이상 입력해주세요");
-            }
-            if (username.length() > 20) {
-                return ValidationResult.invalid("아이디는 20자 이하로 입력해주세요");
-            }
-            
-            // 3. 기본 패턴 검사
-            if (!USERNAME_PATTERN.matcher(username).matches()) {
-                return ValidationResult.invalid("아이디는 영문으로 시작하고 영문, 숫자만 사용 가능합니다");
-            }
-            
-            // 4. 연속 문자 검사
-            if (CONSECUTIVE_PATTERN.matcher(username).find()) {
-                return ValidationResult.invalid("같은 문자를 3회 이상 연속으로 사용할 수 없습니다");
-            }
-            
-            // 5. 금지어 검사
-            String lowerUsername = username.toLowerCase();
-            for (String forbidden : FORBIDDEN_WORDS) {
-                if (lowerUsername.contains(forbidden)) {
-                    return ValidationResult.invalid("사용할 수 없는 단어가 포함되어 있습니다");
-                }
-            }
-            
-            // 6. 연속 숫자 검사 (4자리 이상 연속)
-            if (username.matches(".*\\d{4,}.*")) {
-                return ValidationResult.invalid("숫자를 4자리 이상 연속으로 사용할 수 없습니다");
+            ValidationResult cached = validationCache.getIfPresent(username);
+            if (cached != null) {
+                return cached;
             }
             
-            // 7. 중복 검사 (캐싱 적용)
-            if (isDuplicate(username)) {
-                return ValidationResult.invalid("이미 사용 중인 아이디입니다");
+            // 2~6. 형식/금지어 규칙 검사
+            ValidationResult ruleViolation = checkRules(username);
+            if (ruleViolation != null) {
+                validationCache.put(username, ruleViolation, false);
+                return ruleViolation;
             }
             
-            return ValidationResult.valid("사용 가능한 아이디입니다");
+            // 7. 중복 검사 (결과 캐싱, 사용 중인 아이디는 더 오래 보관)
+            boolean duplicate = isDuplicate(username);
+            ValidationResult result = duplicate
+                    ? ValidationResult.invalid("이미 사용 중인 아이디입니다")
+                    : ValidationResult.valid("사용 가능한 아이디입니다");
+            validationCache.put(username, result, duplicate);
+            return result;
             
         } catch (Exception e) {
             log.error("아이디 검증 중 오류 발생 - username: {}", username, e);
@@ -96,14 +85,26 @@ public class UsernameValidationUseCase {
         }
     }
     
+    /**
+     * 아이디 형식/금지어 규칙 검사 (단일 순회 규칙 엔진)
+     * 
+     * @param username 검증할 아이디 (null 아님)
+     * @return 위반한 규칙의 검증 결과, 모두 통과하면 null
+     */
+    private ValidationResult checkRules(String username) {
+        // 사전 재적재 중에도 완성된 엔진 하나만 사용
+        return forbiddenWordDictionary.ruleEngine().check(username);
+    }
+    
     /**
      * 아이디 중복 검사
+     * 중복 검사 필터에 없는 아이디는 DB 조회 없이 사용 가능으로 판단
      * 
      * @param username 검사할 아이디
      * @return 중복 여부
      */
     public boolean isDuplicate(String username) {
-        return userRepository.existsByUsername(username);
+        return userIdentifierFilter.usernameExists(username);
     }
     
     /**
@@ -132,33 +133,91 @@ public class UsernameValidationUseCase {
     }
     
     /**
-     * 아이디 추천 생성
+     * 아이디 추천 생성 (기본 3개)
      * 
      * @param baseUsername 기본 아이디
      * @return 추천 아이디 목록
      */
     public String[] generateRecommendations(String baseUsername) {
-        if (baseUsername == null || baseUsername.length() < 2) {
+        return generateRecommendations(baseUsername, MIN_RECOMMENDATIONS);
+    }
+    
+    /**
+     * 아이디 추천 생성
+     * 후보를 한 번에 만들어 규칙 검사 후 중복 여부를 일괄 확인하고, validateUsername을 통과하는 아이디만 반환
+     * - 한글 이름은 로마자로 변환해 사용 (예: 홍길동 → honggildong)
+     * - 기본 아이디로 후보를 만들 수 없으면 대체 기본 아이디(lms)로 추천
+     * 
+     * @param baseUsername 기본 아이디
+     * @param count 추천 개수 (3~20 범위로 조정)
+     * @return 사용 가능한 추천 아이디 목록 (최대 count개, 기본 아이디가 비어 있으면 빈 배열)
+     */
+    public String[] generateRecommendations(String baseUsername, int count) {
+        if (baseUsername == null || baseUsername.isBlank()) {
             return new String[0];
         }
         
-        String[] recommendations = new String[3];
-        String cleanBase = baseUsername.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
-        
-        if (cleanBase.length() < 4) {
-            cleanBase = cleanBase + "user";
+        int target = Math.max(MIN_RECOMMENDATIONS, Math.min(MAX_RECOMMENDATIONS, count));
+        // 영문/숫자만 남기고 첫 글자가 영문이 되도록 앞쪽 숫자 제거 (짧은 아이디는 접미사로 4자 이상이 됨)
+        String cleanBase = HangulRomanizer.romanize(baseUsername)
+                .replaceAll("[^a-zA-Z0-9]", "").toLowerCase().replaceFirst("^[0-9]+", "");
+        // 접미사를 붙여도 20자를 넘지 않도록 조정
+        if (cleanBase.length() > RECOMMENDATION_BASE_MAX_LENGTH) {
+            cleanBase = cleanBase.substring(0, RECOMMENDATION_BASE_MAX_LENGTH);
         }
         
-        // 숫자 추가 방식으로 추천
-        for (int i = 0; i < 3; i++) {
-            String candidate = cleanBase + String.format("%02d", (int)(Math.random() * 100));
-            if (!isDuplicate(candidate)) {
-                recommendations[i] = candidate;
-            } else {
-                recommendations[i] = cleanBase + System.currentTimeMillis() % 1000;
+        UsernameRuleEngine ruleEngine = forbiddenWordDictionary.ruleEngine();
+        String[] recommendations = cleanBase.length() < 2 ? new String[0] : recommend(cleanBase, target, ruleEngine);
+        if (recommendations.length == 0) {
+            recommendations = recommend(RECOMMENDATION_FALLBACK_BASE, target, ruleEngine);
+        }
+        return recommendations;
+    }
+    
+    /**
+     * 기본 아이디로 후보 생성 → 중복 제외를 target개가 찰 때까지 반복
+     */
+    private String[] recommend(String base, int target, UsernameRuleEngine ruleEngine) {
+        Set<String> recommendations = new LinkedHashSet<>();
+        for (int round = 0; round < RECOMMENDATION_ROUNDS && recommendations.size() < target; round++) {
+            Set<String> candidates = buildCandidates(base, (target - recommendations.size()) * 3,
+                    recommendations, ruleEngine);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            // 후보 전체를 필터 + IN 쿼리 한 번으로 확인
+            candidates.removeAll(userIdentifierFilter.existingUsernames(candidates));
+            for (String candidate : candidates) {
+                if (recommendations.size() >= target) {
+                    break;
+                }
+                recommendations.add(candidate);
             }
         }
         
-        return recommendations;
+        return recommendations.toArray(new String[0]);
+    }
+    
+    /**
+     * 추천 후보 생성 (숫자 접미사, 영문 접미사, 모음 생략형)
+     * 규칙 엔진(금지어, 반복 문자, 연속 숫자 등)을 통과한 후보만 포함
+     */
+    private Set<String> buildCandidates(String base, int size, Set<String> exclude, UsernameRuleEngine ruleEngine) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String consonants = base.charAt(0) + base.substring(1).replaceAll("[aeiou]", "");
+        Set<String> candidates = new LinkedHashSet<>();
+        int attempts = 0;
+        while (candidates.size() < size && attempts++ < size * 10) {
+            String candidate = switch (attempts % 4) {
+                case 1 -> base + String.format("%02d", random.nextInt(100));
+                case 2 -> base + String.format("%03d", random.nextInt(1000));
+                case 3 -> base + (char) ('a' + random.nextInt(26)) + random.nextInt(10);
+                default -> consonants + String.format("%02d", random.nextInt(100));
+            };
+            if (!exclude.contains(candidate) && ruleEngine.check(candidate) == null) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
     }
-}
\ No newline at end of file
+}
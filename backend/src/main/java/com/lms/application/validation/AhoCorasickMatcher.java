@@ -0,0 +1,184 @@
+package com.lms.application.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 아이디용 금지어 Aho-Corasick 오토마톤
+ *
+ * 아이디에 쓸 수 있는 문자(영문 36자: a-z, 0-9, 대소문자 구분 없음)에 대한 완전 DFA
+ * - 실패 링크를 미리 펼쳐 전이 테이블 하나로 구성 (문자당 배열 조회 1회)
+ * - 매칭 비용은 금지어 수와 무관하게 입력 길이에 비례
+ * - 아이디에 나올 수 없는 문자가 포함된 단어는 매칭될 수 없으므로 제외
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher {
+
+    /** 심볼 수: a-z(0~25), 0-9(26~35) */
+    public static final int ALPHABET_SIZE = 36;
+    public static final int ROOT = 0;
+
+    private static final int[] SYMBOLS = new int[128];
+
+    static {
+        Arrays.fill(SYMBOLS, -1);
+        for (char c = 'a'; c <= 'z'; c++) {
+            SYMBOLS[c] = c - 'a';
+            SYMBOLS[Character.toUpperCase(c)] = c - 'a';
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            SYMBOLS[c] = 26 + (c - '0');
+        }
+    }
+
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int wordCount;
+
+    private AhoCorasickMatcher(int[] transitions, boolean[] accepting, int wordCount) {
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * 문자의 심볼 번호 (영문은 대소문자 동일), 아이디에 쓸 수 없는 문자면 -1
+     */
+    public static int symbolOf(char c) {
+        return c < 128 ? SYMBOLS[c] : -1;
+    }
+
+    public static boolean isDigitSymbol(int symbol) {
+        return symbol >= 26;
+    }
+
+    /**
+     * 금지어 목록으로 오토마톤 생성
+     */
+    public static AhoCorasickMatcher compile(Iterable<String> words) {
+        List<int[]> children = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        children.add(newNode());
+        terminal.add(false);
+        int wordCount = 0;
+
+        for (String word : words) {
+            String normalized = word == null ? "" : word.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty() || !isMatchable(normalized)) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < normalized.length(); i++) {
+                int symbol = symbolOf(normalized.charAt(i));
+                if (children.get(state)[symbol] < 0) {
+                    children.get(state)[symbol] = children.size();
+                    children.add(newNode());
+                    terminal.add(false);
+                }
+                state = children.get(state)[symbol];
+            }
+            if (!terminal.get(state)) {
+                terminal.set(state, true);
+                wordCount++;
+            }
+        }
+
+        int stateCount = children.size();
+        int[] transitions = new int[stateCount * ALPHABET_SIZE];
+        boolean[] accepting = new boolean[stateCount];
+        int[] failure = new int[stateCount];
+
+        // BFS로 실패 링크를 계산하면서 누락된 전이를 실패 상태의 전이로 채움
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        accepting[ROOT] = terminal.get(ROOT);
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            int child = children.get(ROOT)[symbol];
+            if (child < 0) {
+                transitions[symbol] = ROOT;
+            } else {
+                transitions[symbol] = child;
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] = terminal.get(state) || accepting[failure[state]];
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                int child = children.get(state)[symbol];
+                int fallback = transitions[failure[state] * ALPHABET_SIZE + symbol];
+                if (child < 0) {
+                    transitions[state * ALPHABET_SIZE + symbol] = fallback;
+                } else {
+                    transitions[state * ALPHABET_SIZE + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+        return new AhoCorasickMatcher(transitions, accepting, wordCount);
+    }
+
+    public static AhoCorasickMatcher compile(String... words) {
+        return compile(Arrays.asList(words));
+    }
+
+    /**
+     * 다음 상태 (symbol은 symbolOf 결과, 0 이상)
+     */
+    public int next(int state, int symbol) {
+        return transitions[state * ALPHABET_SIZE + symbol];
+    }
+
+    /**
+     * 이 상태에 도달했을 때 금지어 하나 이상이 끝나는지 여부
+     */
+    public boolean isAccepting(int state) {
+        return accepting[state];
+    }
+
+    /**
+     * 금지어 포함 여부 (아이디에 쓸 수 없는 문자는 단어 경계로 취급)
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbolOf(text.charAt(i));
+            if (symbol < 0) {
+                state = ROOT;
+                continue;
+            }
+            state = next(state, symbol);
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public int stateCount() {
+        return accepting.length;
+    }
+
+    private static boolean isMatchable(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (symbolOf(word.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET_SIZE];
+        Arrays.fill(node, -1);
+        return node;
+    }
+}
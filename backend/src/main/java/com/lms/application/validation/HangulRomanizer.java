@@ -0,0 +1,49 @@
+package com.lms.application.validation;
+
+/**
+ * 한글 음절 로마자 변환 (국어의 로마자 표기법 기준, 아이디 추천용)
+ *
+ * - 완성형 음절(가~힣)만 초성/중성/종성으로 분해해 변환, 그 외 문자는 그대로 유지
+ * - 음절 사이 음운 변화(연음, 자음 동화 등)는 반영하지 않음 (예: 홍길동 → honggildong)
+ */
+public final class HangulRomanizer {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi",
+            "yu", "eu", "ui", "i"
+    };
+
+    // 받침은 대표음으로 표기 (겹받침 포함)
+    private static final String[] JONGSEONG = {
+            "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p",
+            "t", "t", "ng", "t", "t", "k", "t", "p", "t"
+    };
+
+    private HangulRomanizer() {
+    }
+
+    public static String romanize(CharSequence text) {
+        StringBuilder romanized = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+                romanized.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BASE;
+            romanized.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                    .append(JUNGSEONG[index / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+                    .append(JONGSEONG[index % JONGSEONG_COUNT]);
+        }
+        return romanized.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.lms.application.validation;
+
+import com.lms.application.dto.response.ValidationResult;
+
+/**
+ * 아이디 형식/금지어 규칙 엔진
+ *
+ * 길이, 문자 구성, 같은 문자 반복, 연속 숫자, 금지어 규칙을 문자열 한 번 순회로 검사
+ * - 정규식, toLowerCase, 부분 문자열 검색을 쓰지 않으며 검사 중 객체 할당 없음
+ * - 금지어는 AhoCorasickMatcher로 검사 (금지어 수와 무관하게 O(아이디 길이))
+ * - 여러 규칙을 위반하면 기존 검사 순서(길이 → 형식 → 반복 → 금지어 → 연속 숫자)의 첫 규칙 결과 반환
+ */
+public final class UsernameRuleEngine {
+
+    public static final int MIN_LENGTH = 4;
+    public static final int MAX_LENGTH = 20;
+    private static final int MAX_REPEAT = 2;
+    private static final int MAX_DIGIT_RUN = 3;
+
+    static final ValidationResult TOO_SHORT = ValidationResult.invalid("아이디는 4자 이상 입력해주세요");
+    static final ValidationResult TOO_LONG = ValidationResult.invalid("아이디는 20자 이하로 입력해주세요");
+    static final ValidationResult INVALID_FORMAT =
+            ValidationResult.invalid("아이디는 영문으로 시작하고 영문, 숫자만 사용 가능합니다");
+    static final ValidationResult REPEATED_CHARACTERS =
+            ValidationResult.invalid("같은 문자를 3회 이상 연속으로 사용할 수 없습니다");
+    static final ValidationResult FORBIDDEN_WORD = ValidationResult.invalid("사용할 수 없는 단어가 포함되어 있습니다");
+    static final ValidationResult DIGIT_SEQUENCE = ValidationResult.invalid("숫자를 4자리 이상 연속으로 사용할 수 없습니다");
+
+    private final AhoCorasickMatcher forbiddenWords;
+
+    public UsernameRuleEngine(AhoCorasickMatcher forbiddenWords) {
+        this.forbiddenWords = forbiddenWords;
+    }
+
+    /**
+     * 규칙 검사
+     *
+     * @param username 검증할 아이디 (null 아님)
+     * @return 위반한 규칙의 검증 결과, 모두 통과하면 null
+     */
+    public ValidationResult check(String username) {
+        int length = username.length();
+        if (length < MIN_LENGTH) {
+            return TOO_SHORT;
+        }
+        if (length > MAX_LENGTH) {
+            return TOO_LONG;
+        }
+
+        int state = AhoCorasickMatcher.ROOT;
+        char previous = 0;
+        int repeat = 0;
+        int digitRun = 0;
+        boolean repeated = false;
+        boolean forbidden = false;
+        boolean digitSequence = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = username.charAt(i);
+            int symbol = AhoCorasickMatcher.symbolOf(c);
+            boolean digit = AhoCorasickMatcher.isDigitSymbol(symbol);
+            if (symbol < 0 || (i == 0 && digit)) {
+                // 형식 오류가 가장 우선이므로 바로 반환
+                return INVALID_FORMAT;
+            }
+
+            repeat = c == previous ? repeat + 1 : 1;
+            previous = c;
+            repeated |= repeat > MAX_REPEAT;
+
+            digitRun = digit ? digitRun + 1 : 0;
+            digitSequence |= digitRun > MAX_DIGIT_RUN;
+
+            if (!forbidden) {
+                state = forbiddenWords.next(state, symbol);
+                forbidden = forbiddenWords.isAccepting(state);
+            }
+        }
+
+        if (repeated) {
+            return REPEATED_CHARACTERS;
+        }
+        if (forbidden) {
+            return FORBIDDEN_WORD;
+        }
+        if (digitSequence) {
+            return DIGIT_SEQUENCE;
+        }
+        return null;
+    }
+}
@@ -1,6 +1,10 @@
 package com.lms.config;
 
 import com.lms.infrastructure.security.JwtAuthenticationFilter;
+import com.lms.infrastructure.security.PasswordEncoderFactory;
+import com.lms.infrastructure.security.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,7 +15,6 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -73,8 +76,19 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // 보안 강화를 위해 라운드 수 증가
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password.hashing.pool-size:0}") int poolSize,
+                                           @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMs,
+                                           @Value("${security.password.bcrypt.strength:12}") int bcryptStrength,
+                                           @Value("${security.password.bcrypt.target-millis:100}") long targetMillis) {
+        int workers = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        // strength가 0이면 배포 하드웨어 기준으로 목표 시간에 맞춰 보정
+        int strength = bcryptStrength > 0 ? bcryptStrength : PasswordEncoderFactory.calibrateBCryptStrength(targetMillis);
+        // {bcrypt} 기본 + 기존 해시 호환, 로그인 시 cost가 낮은 해시는 재해시
+        PasswordEncoder encoder = PasswordEncoderFactory.create(strength);
+        // BCrypt 연산은 요청 스레드가 아닌 전용 풀에서 실행 (포화 시 503)
+        return new PasswordHashingService(encoder, workers, queueCapacity, timeoutMs, meterRegistry);
     }
 
     @Bean
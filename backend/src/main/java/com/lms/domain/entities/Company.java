@@ -1,5 +1,6 @@
 package com.lms.domain.entities;
 
+import com.lms.domain.events.CompanyChangedEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -10,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -25,10 +27,11 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Company {
+public class Company extends AbstractAggregateRoot<Company> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_id_seq")
+    @SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "business_number", unique = true, nullable = false, length = 12)
@@ -79,6 +82,7 @@ public class Company {
         this.email = email;
         this.address = address;
         this.contractStatus = contractStatus != null ? contractStatus : ContractStatus.PENDING;
+        registerEvent(new CompanyChangedEvent(this));
     }
 
     /**
@@ -91,6 +95,7 @@ public class Company {
         this.phone = phone;
         this.email = email;
         this.address = address;
+        registerEvent(new CompanyChangedEvent(this));
     }
 
     /**
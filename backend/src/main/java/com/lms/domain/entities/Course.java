@@ -1,5 +1,6 @@
 package com.lms.domain.entities;
 
+import com.lms.domain.events.CourseChangedEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -11,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -24,10 +26,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Course {
+public class Course extends AbstractAggregateRoot<Course> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_seq")
+    @SequenceGenerator(name = "courses_id_seq", sequenceName = "courses_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -77,6 +80,7 @@ public class Course {
         this.maxParticipants = maxParticipants;
         this.courseType = courseType;
         this.status = status != null ? status : CourseStatus.ACTIVE;
+        registerEvent(new CourseChangedEvent(this));
     }
 
     /**
@@ -89,6 +93,7 @@ public class Course {
         this.targetAudience = targetAudience;
         this.durationHours = durationHours;
         this.maxParticipants = maxParticipants;
+        registerEvent(new CourseChangedEvent(this));
     }
 
     /**
@@ -96,6 +101,7 @@ public class Course {
      */
     public void changeStatus(CourseStatus status) {
         this.status = status;
+        registerEvent(new CourseChangedEvent(this));
     }
 
     /**
@@ -103,6 +109,7 @@ public class Course {
      */
     public void activate() {
         this.status = CourseStatus.ACTIVE;
+        registerEvent(new CourseChangedEvent(this));
     }
 
     /**
@@ -110,6 +117,7 @@ public class Course {
      */
     public void deactivate() {
         this.status = CourseStatus.INACTIVE;
+        registerEvent(new CourseChangedEvent(this));
     }
 
     /**
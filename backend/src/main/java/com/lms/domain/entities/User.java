@@ -1,5 +1,8 @@
 package com.lms.domain.entities;
 
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import com.lms.domain.events.UserProfileChangedEvent;
+import com.lms.domain.events.UserSecurityChangedEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -23,10 +27,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class User {
+public class User extends AbstractAggregateRoot<User> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
@@ -90,10 +95,13 @@ public class User {
         this.company = company;
         this.isEmployee = isEmployee != null ? isEmployee : false;
         this.department = department;
+        registerEvent(new UserIdentifiersChangedEvent(username, email));
+        registerEvent(new UserProfileChangedEvent(this));
     }
 
     public void setUsername(String username) {
         this.username = username;
+        registerEvent(new UserIdentifiersChangedEvent(username, this.email));
     }
 
     public void setPassword(String password) {
@@ -102,10 +110,13 @@ public class User {
 
     public void setEmail(String email) {
         this.email = email;
+        registerEvent(new UserIdentifiersChangedEvent(this.username, email));
+        registerEvent(new UserProfileChangedEvent(this));
     }
 
     public void setName(String name) {
         this.name = name;
+        registerEvent(new UserProfileChangedEvent(this));
     }
 
     public void setRole(String role) {
@@ -123,6 +134,8 @@ public class User {
         this.name = name;
         this.phoneNumber = phoneNumber;
         this.email = email;
+        registerEvent(new UserIdentifiersChangedEvent(this.username, email));
+        registerEvent(new UserProfileChangedEvent(this));
     }
 
     /**
@@ -130,6 +143,7 @@ public class User {
      */
     public void changePassword(String newPassword) {
         this.password = newPassword;
+        registerEvent(new UserSecurityChangedEvent(this.username));
     }
 
     /**
@@ -137,6 +151,7 @@ public class User {
      */
     public void changeStatus(Status status) {
         this.status = status;
+        registerEvent(new UserSecurityChangedEvent(this.username));
     }
 
     /**
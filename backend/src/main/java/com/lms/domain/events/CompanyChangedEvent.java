@@ -0,0 +1,25 @@
+package com.lms.domain.events;
+
+import com.lms.domain.entities.Company;
+import lombok.Getter;
+
+/**
+ * 협약사 정보 변경 도메인 이벤트
+ * 
+ * 협약사가 생성되거나 회사명/대표자명 등 기본 정보가 변경되었을 때 발행
+ * - 관리자 협약사 검색 색인 갱신에 사용
+ * - ID는 저장 후 확정되므로 협약사 객체를 통해 조회
+ */
+@Getter
+public class CompanyChangedEvent {
+
+    private final Company company;
+
+    public CompanyChangedEvent(Company company) {
+        this.company = company;
+    }
+
+    public Long getCompanyId() {
+        return company.getId();
+    }
+}
@@ -0,0 +1,26 @@
+package com.lms.domain.events;
+
+import com.lms.domain.entities.Course;
+import lombok.Getter;
+
+/**
+ * 과정 정보 변경 도메인 이벤트
+ * 
+ * 과정이 생성되거나 기본 정보/상태가 변경되었을 때 발행
+ * - 과정 카탈로그 스냅샷 갱신에 사용
+ * - ID는 저장 후 확정되므로 과정 객체를 통해 조회
+ */
+@Getter
+public class CourseChangedEvent {
+
+    private final Course course;
+    private final long changedAt = System.currentTimeMillis();
+
+    public CourseChangedEvent(Course course) {
+        this.course = course;
+    }
+
+    public Long getCourseId() {
+        return course.getId();
+    }
+}
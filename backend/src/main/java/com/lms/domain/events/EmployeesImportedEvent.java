@@ -0,0 +1,18 @@
+package com.lms.domain.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재직자 일괄 등록 완료 도메인 이벤트
+ * 
+ * JDBC 일괄 저장은 엔티티 이벤트를 거치지 않으므로 등록이 끝난 뒤 협약사 단위로 발행
+ * - 관리자 사용자 검색 색인 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class EmployeesImportedEvent {
+
+    private final Long companyId;
+    private final long createdCount;
+}
@@ -0,0 +1,18 @@
+package com.lms.domain.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 식별 정보 변경 도메인 이벤트
+ * 
+ * 사용자가 생성되거나 아이디/이메일이 변경되었을 때 발행
+ * - 아이디/이메일 중복 검사 필터 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserIdentifiersChangedEvent {
+
+    private final String username;
+    private final String email;
+}
@@ -0,0 +1,25 @@
+package com.lms.domain.events;
+
+import com.lms.domain.entities.User;
+import lombok.Getter;
+
+/**
+ * 사용자 프로필 변경 도메인 이벤트
+ * 
+ * 사용자가 생성되거나 이름/이메일이 변경되었을 때 발행
+ * - 관리자 사용자 검색 색인 갱신에 사용
+ * - ID는 저장 후 확정되므로 사용자 객체를 통해 조회
+ */
+@Getter
+public class UserProfileChangedEvent {
+
+    private final User user;
+
+    public UserProfileChangedEvent(User user) {
+        this.user = user;
+    }
+
+    public Long getUserId() {
+        return user.getId();
+    }
+}
@@ -0,0 +1,17 @@
+package com.lms.domain.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 보안 정보 변경 도메인 이벤트
+ * 
+ * 비밀번호 또는 계정 상태가 변경되었을 때 발행
+ * - 인증 주체 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserSecurityChangedEvent {
+
+    private final String username;
+}
@@ -0,0 +1,28 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.Company;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 협약사 목록 keyset 페이지 조회/내보내기 (CompanyRepository 조각)
+ */
+public interface CompanyListQueries {
+
+    /**
+     * 협약사 목록 keyset 페이지 조회 (ID 오름차순, after 다음부터)
+     * 
+     * - 계약 상태는 null이면 WHERE에서 제외 (승인 대기 목록도 등록 순서 = ID 순서)
+     * - 건수 조회 없음
+     */
+    List<CompanyRepository.CompanyListView> findPageAfter(long after, Company.ContractStatus contractStatus,
+                                                          int limit);
+
+    /**
+     * 협약사 목록 내보내기용 스트림 (ID 오름차순, 계약 상태는 null이면 WHERE에서 제외)
+     * 
+     * - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     */
+    Stream<CompanyRepository.CompanyListView> streamForExport(Company.ContractStatus contractStatus);
+}
@@ -0,0 +1,66 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.Company;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 협약사 목록 keyset 페이지 조회/내보내기 구현 (조건 조합별로 WHERE 생성)
+ */
+class CompanyListQueriesImpl implements CompanyListQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CompanyRepository.CompanyListView> findPageAfter(long after, Company.ContractStatus contractStatus,
+                                                                 int limit) {
+        return KeysetPages.fetch(entityManager, listQuery(after, contractStatus), limit,
+                CompanyRepository.CompanyListView.class);
+    }
+
+    @Override
+    public Stream<CompanyRepository.CompanyListView> streamForExport(Company.ContractStatus contractStatus) {
+        return KeysetPages.stream(entityManager, listQuery(null, contractStatus),
+                CompanyRepository.CompanyListView.class);
+    }
+
+    /**
+     * 목록 조회 쿼리 (after가 null이면 처음부터)
+     */
+    private CriteriaQuery<Tuple> listQuery(Long after, Company.ContractStatus contractStatus) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Company> c = query.from(Company.class);
+
+        List<Predicate> where = new ArrayList<>(2);
+        if (after != null) {
+            where.add(cb.greaterThan(c.get("id"), after));
+        }
+        if (contractStatus != null) {
+            where.add(cb.equal(c.get("contractStatus"), contractStatus));
+        }
+
+        query.multiselect(
+                        c.get("id").alias("id"),
+                        c.get("businessNumber").alias("businessNumber"),
+                        c.get("name").alias("name"),
+                        c.get("representativeName").alias("representativeName"),
+                        c.get("phone").alias("phone"),
+                        c.get("email").alias("email"),
+                        c.get("contractStatus").alias("contractStatus"),
+                        c.get("createdAt").alias("createdAt"))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(c.get("id")));
+        return query;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +14,7 @@ import java.util.Optional;
  * 협약사 Repository 인터페이스
  */
 @Repository
-public interface CompanyRepository extends JpaRepository<Company, Long> {
+public interface CompanyRepository extends JpaRepository<Company, Long>, CompanyListQueries {
 
     /**
      * 사업자등록번호로 협약사 조회
@@ -67,4 +68,18 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
      */
     @Query("SELECT c.contractStatus, COUNT(c) FROM Company c GROUP BY c.contractStatus")
     List<Object[]> countByContractStatus();
-}
\ No newline at end of file
+
+    /**
+     * 협약사 목록 항목 (keyset 페이지 조회/내보내기용 projection)
+     */
+    interface CompanyListView {
+        Long getId();
+        String getBusinessNumber();
+        String getName();
+        String getRepresentativeName();
+        String getPhone();
+        String getEmail();
+        Company.ContractStatus getContractStatus();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,32 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.Course;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 과정 목록 keyset 페이지 조회/내보내기 (CourseRepository 조각)
+ */
+public interface CourseListQueries {
+
+    /**
+     * 과정 목록 keyset 페이지 조회 (ID 오름차순, after 다음부터)
+     * 
+     * - courseTypes에 포함된 유형만 (재직자 대상은 EMPLOYEE + COMMON 등), null이면 WHERE에서 제외
+     * - 상태는 null이면 WHERE에서 제외
+     * - 건수 조회 없음
+     */
+    List<CourseRepository.CourseListView> findPageAfter(long after, Collection<Course.CourseType> courseTypes,
+                                                        Course.CourseStatus status, int limit);
+
+    /**
+     * 과정 목록 내보내기용 스트림 (ID 오름차순)
+     * 
+     * - courseTypes/상태는 null이면 WHERE에서 제외 (전체 유형을 IN 목록으로 넘기지 않음)
+     * - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     */
+    Stream<CourseRepository.CourseListView> streamForExport(Collection<Course.CourseType> courseTypes,
+                                                            Course.CourseStatus status);
+}
@@ -0,0 +1,75 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 과정 목록 keyset 페이지 조회/내보내기 구현 (조건 조합별로 WHERE 생성)
+ */
+class CourseListQueriesImpl implements CourseListQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseRepository.CourseListView> findPageAfter(long after, Collection<Course.CourseType> courseTypes,
+                                                               Course.CourseStatus status, int limit) {
+        return KeysetPages.fetch(entityManager, listQuery(after, courseTypes, status), limit,
+                CourseRepository.CourseListView.class);
+    }
+
+    @Override
+    public Stream<CourseRepository.CourseListView> streamForExport(Collection<Course.CourseType> courseTypes,
+                                                                   Course.CourseStatus status) {
+        return KeysetPages.stream(entityManager, listQuery(null, courseTypes, status),
+                CourseRepository.CourseListView.class);
+    }
+
+    /**
+     * 목록 조회 쿼리 (after가 null이면 처음부터)
+     */
+    private CriteriaQuery<Tuple> listQuery(Long after, Collection<Course.CourseType> courseTypes,
+                                           Course.CourseStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> c = query.from(Course.class);
+
+        List<Predicate> where = new ArrayList<>(3);
+        if (after != null) {
+            where.add(cb.greaterThan(c.get("id"), after));
+        }
+        if (courseTypes != null) {
+            // 유형이 하나면 = 비교 ((course_type, id) 인덱스 범위 조회)
+            where.add(courseTypes.size() == 1
+                    ? cb.equal(c.get("courseType"), courseTypes.iterator().next())
+                    : c.get("courseType").in(courseTypes));
+        }
+        if (status != null) {
+            where.add(cb.equal(c.get("status"), status));
+        }
+
+        query.multiselect(
+                        c.get("id").alias("id"),
+                        c.get("title").alias("title"),
+                        c.get("targetAudience").alias("targetAudience"),
+                        c.get("durationHours").alias("durationHours"),
+                        c.get("maxParticipants").alias("maxParticipants"),
+                        c.get("courseType").alias("courseType"),
+                        c.get("status").alias("status"),
+                        c.get("updatedAt").alias("updatedAt"))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(c.get("id")));
+        return query;
+    }
+}
@@ -1,18 +1,22 @@
 package com.lms.domain.repositories;
 
 import com.lms.domain.entities.Course;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 교육 과정 Repository 인터페이스
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseListQueries {
 
     /**
      * 과정 상태별 조회
@@ -53,12 +57,52 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> findByDurationHoursBetween(Integer minHours, Integer maxHours);
 
     /**
-     * 과정명과 설명에서 키워드 검색
+     * 과정명과 설명에서 키워드 검색 (관련도순, 페이지 단위)
+     * 
+     * - search_vector(tsvector, GIN) 단어 일치 + 과정명/설명 트라이그램(GIN) 부분 일치
+     * - 관련도: 단어 일치 점수(과정명 가중치 A, 설명 B) + 과정명 유사도
+     * - pattern은 LIKE 특수문자를 이스케이프한 '%키워드%'
+     * - 트라이그램 인덱스는 3자 미만 패턴에 쓰이지 않아 1~2자 검색어는 전체 스캔 (검색 색인 구성 전에만 사용)
+     * - PostgreSQL 전용 (V007 마이그레이션)
      */
-    @Query("SELECT c FROM Course c WHERE " +
-           "LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Course> searchByKeyword(@Param("keyword") String keyword);
+    @Query(value = "SELECT c.id AS id, c.title AS title, c.description AS description, " +
+                   "c.target_audience AS targetAudience, c.duration_hours AS durationHours, " +
+                   "c.max_participants AS maxParticipants, c.course_type AS courseType, c.status AS status, " +
+                   "c.updated_at AS updatedAt, " +
+                   "CAST(ts_rank_cd(c.search_vector, q.query) + similarity(c.title, :keyword) AS double precision) AS score " +
+                   "FROM courses c CROSS JOIN websearch_to_tsquery('simple', :keyword) AS q(query) " +
+                   "WHERE c.status = :status " +
+                   "AND (c.search_vector @@ q.query OR c.title ILIKE :pattern OR c.description ILIKE :pattern) " +
+                   "ORDER BY score DESC, c.id",
+           countQuery = "SELECT COUNT(*) FROM courses c CROSS JOIN websearch_to_tsquery('simple', :keyword) AS q(query) " +
+                        "WHERE c.status = :status " +
+                        "AND (c.search_vector @@ q.query OR c.title ILIKE :pattern OR c.description ILIKE :pattern)",
+           nativeQuery = true)
+    Page<CourseSearchView> searchByKeyword(@Param("keyword") String keyword,
+                                           @Param("pattern") String pattern,
+                                           @Param("status") String status,
+                                           Pageable pageable);
+
+    /**
+     * 검색 색인에서 찾은 과정 중 상태가 일치하는 과정 조회 (과정명 일치 우선, 페이지 단위)
+     * 
+     * - 1~2자 검색어용: 트라이그램 인덱스를 쓸 수 없어 CourseSearchIndex로 대상 ID를 먼저 찾음
+     * - pattern은 LIKE 특수문자를 이스케이프한 '%키워드%'
+     */
+    @Query(value = "SELECT c.id AS id, c.title AS title, c.description AS description, " +
+                   "c.target_audience AS targetAudience, c.duration_hours AS durationHours, " +
+                   "c.max_participants AS maxParticipants, c.course_type AS courseType, c.status AS status, " +
+                   "c.updated_at AS updatedAt, " +
+                   "CAST(CASE WHEN c.title ILIKE :pattern THEN 1 ELSE 0 END AS double precision) AS score " +
+                   "FROM courses c " +
+                   "WHERE c.id IN (:ids) AND c.status = :status " +
+                   "ORDER BY score DESC, c.id",
+           countQuery = "SELECT COUNT(*) FROM courses c WHERE c.id IN (:ids) AND c.status = :status",
+           nativeQuery = true)
+    Page<CourseSearchView> searchByIds(@Param("ids") Collection<Long> ids,
+                                       @Param("pattern") String pattern,
+                                       @Param("status") String status,
+                                       Pageable pageable);
 
     /**
      * 과정 유형과 상태로 조회
@@ -76,4 +120,34 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     @Query("SELECT c.courseType, COUNT(c) FROM Course c WHERE c.status = 'ACTIVE' GROUP BY c.courseType")
     List<Object[]> countActiveCoursesByType();
-}
\ No newline at end of file
+
+    /**
+     * 과정 목록 항목 (keyset 페이지 조회/내보내기용 projection, 설명 제외)
+     */
+    interface CourseListView {
+        Long getId();
+        String getTitle();
+        String getTargetAudience();
+        Integer getDurationHours();
+        Integer getMaxParticipants();
+        Course.CourseType getCourseType();
+        Course.CourseStatus getStatus();
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * 키워드 검색 결과 (검색에 필요한 컬럼 + 관련도 점수)
+     */
+    interface CourseSearchView {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getTargetAudience();
+        Integer getDurationHours();
+        Integer getMaxParticipants();
+        Course.CourseType getCourseType();
+        Course.CourseStatus getStatus();
+        LocalDateTime getUpdatedAt();
+        Double getScore();
+    }
+}
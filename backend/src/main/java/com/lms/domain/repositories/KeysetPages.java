@@ -0,0 +1,62 @@
+package com.lms.domain.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 목록 조회 공통 처리 (Criteria 쿼리 → projection, keyset 페이지/내보내기 스트림)
+ *
+ * - 조건은 값이 있는 것만 WHERE에 추가 (":x IS NULL OR col = :x" 형태 사용 안 함)
+ *   → PostgreSQL이 generic plan으로 바꿔도 (조건 컬럼, id) 복합 인덱스 범위 조회 유지
+ * - 선택 컬럼 별칭(alias)을 projection 인터페이스의 속성 이름으로 사용
+ */
+final class KeysetPages {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private KeysetPages() {
+    }
+
+    static <V> List<V> fetch(EntityManager entityManager, CriteriaQuery<Tuple> query, int limit, Class<V> view) {
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        List<V> views = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            views.add(toView(row, view));
+        }
+        return views;
+    }
+
+    /**
+     * 내보내기용 스트림 (읽기 전용, fetch size 단위로 커서에서 나눠 읽음)
+     * - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     */
+    static <V> Stream<V> stream(EntityManager entityManager, CriteriaQuery<Tuple> query, Class<V> view) {
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(row -> toView(row, view));
+    }
+
+    private static <V> V toView(Tuple row, Class<V> view) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : row.getElements()) {
+            values.put(element.getAlias(), row.get(element));
+        }
+        return PROJECTIONS.createProjection(view, values);
+    }
+}
@@ -0,0 +1,31 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 목록 keyset 페이지 조회/내보내기 (UserRepository 조각)
+ */
+public interface UserListQueries {
+
+    /**
+     * 사용자 목록 keyset 페이지 조회 (ID 오름차순, after 다음부터)
+     * 
+     * - 조건은 null이면 WHERE에서 제외 (유형/상태/소속 회사/재직자 여부)
+     * - 목록 화면에 필요한 컬럼만 조회 (엔티티/영속성 컨텍스트 적재 없음)
+     * - 건수 조회 없음
+     */
+    List<UserRepository.UserListView> findPageAfter(long after, User.UserType userType, User.Status status,
+                                                    Long companyId, Boolean employee, int limit);
+
+    /**
+     * 사용자 목록 내보내기용 스트림 (ID 오름차순)
+     * 
+     * - 조건은 null이면 WHERE에서 제외 (유형/상태/소속 회사)
+     * - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     * - fetch size 단위로 커서에서 나눠 읽으므로 전체 행을 메모리에 올리지 않음
+     */
+    Stream<UserRepository.UserListView> streamForExport(User.UserType userType, User.Status status, Long companyId);
+}
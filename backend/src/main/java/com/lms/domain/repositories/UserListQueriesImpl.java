@@ -0,0 +1,79 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 목록 keyset 페이지 조회/내보내기 구현 (조건 조합별로 WHERE 생성)
+ */
+class UserListQueriesImpl implements UserListQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserRepository.UserListView> findPageAfter(long after, User.UserType userType, User.Status status,
+                                                           Long companyId, Boolean employee, int limit) {
+        return KeysetPages.fetch(entityManager, listQuery(after, userType, status, companyId, employee), limit,
+                UserRepository.UserListView.class);
+    }
+
+    @Override
+    public Stream<UserRepository.UserListView> streamForExport(User.UserType userType, User.Status status,
+                                                               Long companyId) {
+        return KeysetPages.stream(entityManager, listQuery(null, userType, status, companyId, null),
+                UserRepository.UserListView.class);
+    }
+
+    /**
+     * 목록 조회 쿼리 (after가 null이면 처음부터)
+     */
+    private CriteriaQuery<Tuple> listQuery(Long after, User.UserType userType, User.Status status,
+                                           Long companyId, Boolean employee) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> u = query.from(User.class);
+
+        List<Predicate> where = new ArrayList<>(5);
+        if (after != null) {
+            where.add(cb.greaterThan(u.get("id"), after));
+        }
+        if (userType != null) {
+            where.add(cb.equal(u.get("userType"), userType));
+        }
+        if (status != null) {
+            where.add(cb.equal(u.get("status"), status));
+        }
+        if (companyId != null) {
+            where.add(cb.equal(u.get("company").get("id"), companyId));
+        }
+        if (employee != null) {
+            where.add(cb.equal(u.get("isEmployee"), employee));
+        }
+
+        query.multiselect(
+                        u.get("id").alias("id"),
+                        u.get("username").alias("username"),
+                        u.get("email").alias("email"),
+                        u.get("name").alias("name"),
+                        u.get("userType").alias("userType"),
+                        u.get("status").alias("status"),
+                        u.get("isEmployee").alias("isEmployee"),
+                        u.get("company").get("id").alias("companyId"),
+                        u.get("department").alias("department"),
+                        u.get("createdAt").alias("createdAt"))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(u.get("id")));
+        return query;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +16,7 @@ import java.util.Optional;
  * 도메인 계층의 Repository 정의
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserListQueries {
 
     /**
      * 사용자명으로 사용자 조회
@@ -36,6 +38,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * 아이디 또는 이메일이 일치하는 사용자의 아이디/이메일 조회 (중복 검사 1회 조회, 최대 2건)
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u " +
+           "WHERE u.username = :username OR u.email = :email")
+    List<IdentifierView> findIdentifierConflicts(@Param("username") String username,
+                                                 @Param("email") String email);
+
+    /**
+     * 아이디 또는 이메일이 목록에 포함된 사용자의 아이디/이메일 조회 (일괄 등록 중복 검사)
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u " +
+           "WHERE u.username IN :usernames OR u.email IN :emails")
+    List<IdentifierView> findIdentifierConflictsIn(@Param("usernames") Collection<String> usernames,
+                                                   @Param("emails") Collection<String> emails);
+
+    /**
+     * 주어진 사용자명 중 이미 존재하는 사용자명 조회 (IN 쿼리 한 번)
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
     /**
      * 사용자 유형별 조회
      */
@@ -78,4 +102,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "(:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')))")
     List<User> findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase(
             @Param("name") String name, @Param("email") String email);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 목록 항목 (keyset 페이지 조회/내보내기용 projection)
+     */
+    interface UserListView {
+        Long getId();
+        String getUsername();
+        String getEmail();
+        String getName();
+        User.UserType getUserType();
+        User.Status getStatus();
+        Boolean getIsEmployee();
+        Long getCompanyId();
+        String getDepartment();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 아이디/이메일 조회 결과 (중복 검사용 projection)
+     */
+    interface IdentifierView {
+        String getUsername();
+        String getEmail();
+    }
+}
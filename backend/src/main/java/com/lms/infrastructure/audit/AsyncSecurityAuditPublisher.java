@@ -0,0 +1,153 @@
+package com.lms.infrastructure.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 보안 감사 이벤트 발행기
+ *
+ * 요청 스레드는 고정 크기 큐에 이벤트를 넣기만 하고 (non-blocking offer)
+ * 전용 writer 스레드가 배치 단위로 SecurityAuditSink에 기록
+ * - 큐 포화 시 AuditOverflowPolicy에 따라 처리
+ * - 종료 시 남은 이벤트를 모두 기록한 뒤 정지
+ * - 큐 깊이, 유실/기록 건수 메트릭 제공
+ */
+@Component
+@Slf4j
+public class AsyncSecurityAuditPublisher {
+
+    private final BlockingQueue<SecurityAuditEvent> queue;
+    private final SecurityAuditSink sink;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final AuditOverflowPolicy overflowPolicy;
+
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    public AsyncSecurityAuditPublisher(SecurityAuditSink sink,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${security.audit.queue-capacity:8192}") int queueCapacity,
+                                       @Value("${security.audit.batch-size:256}") int batchSize,
+                                       @Value("${security.audit.flush-interval-ms:1000}") long flushIntervalMs,
+                                       @Value("${security.audit.overflow-policy:DROP_NEWEST}") AuditOverflowPolicy overflowPolicy) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("security.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Pending security audit events")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("security.audit.events.dropped")
+                .description("Security audit events dropped by the overflow policy")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("security.audit.events.written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("security.audit.events.failed")
+                .register(meterRegistry);
+
+        this.writerThread = new Thread(this::runWriter, "security-audit-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    /**
+     * 남은 이벤트를 모두 기록한 뒤 writer 스레드 종료
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 감사 이벤트 발행 (요청 스레드에서 호출)
+     *
+     * @return 큐 또는 저장소에 전달되었으면 true, 유실되었으면 false
+     */
+    public boolean publish(SecurityAuditEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+                return true;
+            }
+            case CALLER_RUNS -> {
+                writeBatch(List.of(event));
+                return true;
+            }
+            default -> {
+                droppedCounter.increment();
+                return false;
+            }
+        }
+    }
+
+    int pendingCount() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<SecurityAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                SecurityAuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // stop() 호출: 루프 조건에 따라 남은 이벤트를 비운 뒤 종료
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<SecurityAuditEvent> batch) {
+        try {
+            sink.write(batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("보안 감사 이벤트 기록 실패 - {}건", batch.size(), e);
+        }
+    }
+}
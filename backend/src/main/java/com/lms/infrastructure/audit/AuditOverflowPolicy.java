@@ -0,0 +1,13 @@
+package com.lms.infrastructure.audit;
+
+/**
+ * 감사 이벤트 큐가 가득 찼을 때의 처리 정책
+ */
+public enum AuditOverflowPolicy {
+    /** 새 이벤트를 버림 (요청 스레드 지연 없음) */
+    DROP_NEWEST,
+    /** 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 */
+    DROP_OLDEST,
+    /** 요청 스레드에서 직접 기록 (유실 없음, 지연 발생) */
+    CALLER_RUNS
+}
@@ -0,0 +1,57 @@
+package com.lms.infrastructure.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * security_audit_events 테이블에 JDBC 배치 insert로 감사 이벤트 기록
+ * 
+ * DB 저장 실패 시 유실되지 않도록 SECURITY 로거로 대체 기록
+ */
+@Component
+@ConditionalOnProperty(name = "security.audit.sink", havingValue = "jdbc")
+@Slf4j
+public class JdbcSecurityAuditSink implements SecurityAuditSink {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO security_audit_events " +
+            "(event_type, username, client_ip, user_agent, request_uri, description, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSecurityAuditSink(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(List<SecurityAuditEvent> events) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+                ps.setString(1, event.getType().name());
+                ps.setString(2, truncate(event.getUsername(), 255));
+                ps.setString(3, truncate(event.getClientIp(), 45));
+                ps.setString(4, truncate(event.getUserAgent(), 500));
+                ps.setString(5, truncate(event.getRequestUri(), 500));
+                ps.setString(6, truncate(event.getDescription(), 1000));
+                ps.setTimestamp(7, new Timestamp(event.getOccurredAt()));
+            });
+        } catch (DataAccessException e) {
+            log.error("감사 이벤트 DB 저장 실패 - {}건을 로그로 대체 기록", events.size(), e);
+            events.forEach(LoggingSecurityAuditSink::log);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
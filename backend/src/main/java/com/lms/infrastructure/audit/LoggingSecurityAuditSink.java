@@ -0,0 +1,45 @@
+package com.lms.infrastructure.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * SECURITY 로거로 감사 이벤트 기록 (기본 저장소)
+ */
+@Component
+@ConditionalOnProperty(name = "security.audit.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingSecurityAuditSink implements SecurityAuditSink {
+
+    private static final Logger securityLogger = LoggerFactory.getLogger("SECURITY");
+
+    @Override
+    public void write(List<SecurityAuditEvent> events) {
+        for (SecurityAuditEvent event : events) {
+            log(event);
+        }
+    }
+
+    static void log(SecurityAuditEvent event) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getOccurredAt()), ZoneId.systemDefault());
+        
+        switch (event.getType()) {
+            case LOGIN_SUCCESS -> securityLogger.info("LOGIN_SUCCESS - Username: {}, IP: {}, UserAgent: {}, Timestamp: {}", 
+                event.getUsername(), event.getClientIp(), event.getUserAgent(), timestamp);
+            case LOGIN_FAILED -> securityLogger.warn("LOGIN_FAILED - Username: {}, IP: {}, UserAgent: {}, Timestamp: {}", 
+                event.getUsername(), event.getClientIp(), event.getUserAgent(), timestamp);
+            case LOGOUT -> securityLogger.info("LOGOUT - Username: {}, IP: {}, Timestamp: {}", 
+                event.getUsername(), event.getClientIp(), timestamp);
+            case ACCESS_DENIED -> securityLogger.warn("ACCESS_DENIED - Username: {}, URI: {}, IP: {}, Timestamp: {}", 
+                event.getUsername(), event.getRequestUri(), event.getClientIp(), timestamp);
+            case SUSPICIOUS_ACTIVITY -> securityLogger.error("SUSPICIOUS_ACTIVITY - Description: {}, Username: {}, IP: {}, Timestamp: {}", 
+                event.getDescription(), event.getUsername(), event.getClientIp(), timestamp);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.lms.infrastructure.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 보안 감사 이벤트
+ * 
+ * 요청 스레드에서 필요한 값만 추출해 만든 불변 객체
+ * - 포맷팅/저장은 백그라운드 writer 스레드에서 수행
+ */
+@Getter
+@Builder
+public class SecurityAuditEvent {
+
+    private final Type type;
+    private final String username;
+    private final String clientIp;
+    private final String userAgent;
+    private final String requestUri;
+    private final String description;
+    private final long occurredAt; // epoch millis
+
+    /**
+     * 감사 이벤트 유형
+     */
+    public enum Type {
+        LOGIN_SUCCESS,
+        LOGIN_FAILED,
+        LOGOUT,
+        ACCESS_DENIED,
+        SUSPICIOUS_ACTIVITY
+    }
+}
@@ -0,0 +1,13 @@
+package com.lms.infrastructure.audit;
+
+import java.util.List;
+
+/**
+ * 보안 감사 이벤트 저장소
+ * 
+ * writer 스레드에서 배치 단위로 호출됨
+ */
+public interface SecurityAuditSink {
+
+    void write(List<SecurityAuditEvent> events);
+}
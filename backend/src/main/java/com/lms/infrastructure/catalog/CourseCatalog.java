@@ -0,0 +1,243 @@
+package com.lms.infrastructure.catalog;
+
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.domain.entities.Course;
+import com.lms.domain.events.CourseChangedEvent;
+import com.lms.domain.repositories.CourseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 과정 카탈로그 (메모리 스냅샷)
+ *
+ * 공개 과정 목록 조회를 DB 조회 없이 불변 스냅샷에서 처리
+ * - 조회는 volatile 참조 하나만 읽음 (잠금/복사 없음)
+ * - 과정 저장 커밋 후 CourseChangedEvent로 변경된 과정만 다시 읽어 새 스냅샷으로 교체
+ * - 연속된 변경은 모아서 한 번에 반영 (전용 스레드 하나에서 순서대로 처리)
+ * - 엔티티 이벤트를 거치지 않는 변경은 full-refresh-interval-seconds마다 전체 재구성으로 반영
+ * - 과정 수, 스냅샷 경과 시간, 변경 후 반영까지 걸린 시간(refresh lag) 메트릭 제공
+ */
+@Component
+@Slf4j
+public class CourseCatalog implements DisposableBean {
+
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService refresher;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pendingSince = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    private final Timer refreshLagTimer;
+    private final Timer incrementalRefreshTimer;
+    private final Timer fullRefreshTimer;
+
+    private volatile CourseCatalogSnapshot snapshot;
+
+    public CourseCatalog(CourseRepository courseRepository,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${catalog.course.full-refresh-interval-seconds:300}") long fullRefreshIntervalSeconds) {
+        this.courseRepository = courseRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("catalog.courses.size", this, CourseCatalog::size)
+                .description("Courses held in the catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder("catalog.courses.snapshot.age", this, CourseCatalog::snapshotAgeSeconds)
+                .description("Seconds since the current catalog snapshot was built")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.refreshLagTimer = Timer.builder("catalog.courses.refresh.lag")
+                .description("Time from a course change to the snapshot that contains it")
+                .register(meterRegistry);
+        this.incrementalRefreshTimer = Timer.builder("catalog.courses.refresh.duration")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        this.fullRefreshTimer = Timer.builder("catalog.courses.refresh.duration")
+                .tag("type", "full")
+                .register(meterRegistry);
+
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "course-catalog-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (fullRefreshIntervalSeconds > 0) {
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, fullRefreshIntervalSeconds,
+                    fullRefreshIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 활성 과정 목록
+     */
+    public List<CourseSummary> findActiveCourses() {
+        return current().find(null, Course.CourseStatus.ACTIVE);
+    }
+
+    /**
+     * 재직자 신청 가능한 활성 과정 목록 (재직자 + 공통)
+     */
+    public List<CourseSummary> findCoursesForEmployees() {
+        return current().forEmployees();
+    }
+
+    /**
+     * 구직자 신청 가능한 활성 과정 목록 (구직자 + 공통)
+     */
+    public List<CourseSummary> findCoursesForJobSeekers() {
+        return current().forJobSeekers();
+    }
+
+    /**
+     * 유형/상태별 과정 목록 (null은 전체)
+     */
+    public List<CourseSummary> find(Course.CourseType type, Course.CourseStatus status) {
+        return current().find(type, status);
+    }
+
+    public Optional<CourseSummary> findById(Long id) {
+        return Optional.ofNullable(current().get(id));
+    }
+
+    public int size() {
+        CourseCatalogSnapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 과정 저장 커밋 후 변경된 과정 반영 예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        Long courseId = event.getCourseId();
+        if (courseId == null) {
+            return;
+        }
+        pendingIds.add(courseId);
+        pendingSince.accumulateAndGet(event.getChangedAt(), Math::min);
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.execute(this::applyPendingQuietly);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresher.execute(this::refreshQuietly);
+    }
+
+    /**
+     * 전체 과정을 다시 읽어 스냅샷 교체
+     *
+     * @return 스냅샷에 담긴 과정 수
+     */
+    public int refresh() {
+        long started = System.nanoTime();
+        List<CourseSummary> courses = readOnlyTransaction.execute(status ->
+                courseRepository.findAll().stream().map(CourseSummary::fromEntity).toList());
+        CourseCatalogSnapshot next = CourseCatalogSnapshot.of(courses);
+        snapshot = next;
+        fullRefreshTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.debug("과정 카탈로그 전체 재구성 - {}개 과정", next.size());
+        return next.size();
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 모아둔 변경 과정만 다시 읽어 반영 (refresher 스레드에서만 호출)
+     */
+    void applyPending() {
+        refreshScheduled.set(false);
+        long since = pendingSince.getAndSet(Long.MAX_VALUE);
+        Set<Long> ids = new HashSet<>(pendingIds);
+        pendingIds.removeAll(ids);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        CourseCatalogSnapshot current = snapshot;
+        if (current == null) {
+            refresh();
+        } else {
+            long started = System.nanoTime();
+            List<CourseSummary> changed = readOnlyTransaction.execute(status ->
+                    courseRepository.findAllById(ids).stream().map(CourseSummary::fromEntity).toList());
+            List<Long> removed = new ArrayList<>(ids);
+            changed.forEach(course -> removed.remove(course.getId()));
+            snapshot = current.with(changed, removed);
+            incrementalRefreshTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        if (since != Long.MAX_VALUE) {
+            refreshLagTimer.record(Math.max(0, System.currentTimeMillis() - since), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private CourseCatalogSnapshot current() {
+        CourseCatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // 기동 직후 첫 조회: 스냅샷을 한 번만 구성
+        synchronized (this) {
+            if (snapshot == null) {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.error("과정 카탈로그 구성 실패", e);
+                    return CourseCatalogSnapshot.EMPTY;
+                }
+            }
+            return snapshot;
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        CourseCatalogSnapshot current = snapshot;
+        return current != null ? (System.currentTimeMillis() - current.builtAt()) / 1000.0 : 0.0;
+    }
+
+    private void applyPendingQuietly() {
+        try {
+            applyPending();
+        } catch (RuntimeException e) {
+            log.error("과정 카탈로그 변경 반영 실패 - 다음 전체 재구성에서 반영", e);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("과정 카탈로그 전체 재구성 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.lms.infrastructure.catalog;
+
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.domain.entities.Course;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과정 카탈로그 불변 스냅샷
+ *
+ * 생성 시점에 유형/상태별 목록을 모두 계산해 두고 이후 변경하지 않음
+ * - 조회는 미리 만든 불변 리스트를 그대로 반환 (복사/필터링 없음)
+ * - 변경 반영은 새 스냅샷을 만들어 참조를 교체
+ */
+final class CourseCatalogSnapshot {
+
+    static final CourseCatalogSnapshot EMPTY = new CourseCatalogSnapshot(List.of(), 0L);
+
+    private final Map<Long, CourseSummary> byId;
+    private final List<CourseSummary> all;
+    private final Map<Course.CourseStatus, List<CourseSummary>> byStatus;
+    private final Map<Course.CourseType, List<CourseSummary>> byType;
+    private final Map<Course.CourseStatus, Map<Course.CourseType, List<CourseSummary>>> byStatusAndType;
+    private final List<CourseSummary> forEmployees;
+    private final List<CourseSummary> forJobSeekers;
+    private final long builtAt;
+
+    private CourseCatalogSnapshot(Collection<CourseSummary> courses, long builtAt) {
+        List<CourseSummary> sorted = new ArrayList<>(courses);
+        sorted.sort(Comparator.comparing(CourseSummary::getId));
+
+        Map<Long, CourseSummary> ids = new HashMap<>();
+        Map<Course.CourseStatus, List<CourseSummary>> statuses = new EnumMap<>(Course.CourseStatus.class);
+        Map<Course.CourseType, List<CourseSummary>> types = new EnumMap<>(Course.CourseType.class);
+        Map<Course.CourseStatus, Map<Course.CourseType, List<CourseSummary>>> statusTypes =
+                new EnumMap<>(Course.CourseStatus.class);
+        List<CourseSummary> employees = new ArrayList<>();
+        List<CourseSummary> jobSeekers = new ArrayList<>();
+
+        for (CourseSummary course : sorted) {
+            ids.put(course.getId(), course);
+            statuses.computeIfAbsent(course.getStatus(), key -> new ArrayList<>()).add(course);
+            types.computeIfAbsent(course.getCourseType(), key -> new ArrayList<>()).add(course);
+            statusTypes.computeIfAbsent(course.getStatus(), key -> new EnumMap<>(Course.CourseType.class))
+                    .computeIfAbsent(course.getCourseType(), key -> new ArrayList<>())
+                    .add(course);
+            if (course.getStatus() == Course.CourseStatus.ACTIVE) {
+                if (course.getCourseType() != Course.CourseType.JOB_SEEKER) {
+                    employees.add(course);
+                }
+                if (course.getCourseType() != Course.CourseType.EMPLOYEE) {
+                    jobSeekers.add(course);
+                }
+            }
+        }
+
+        this.byId = Collections.unmodifiableMap(ids);
+        this.all = List.copyOf(sorted);
+        this.byStatus = freeze(statuses);
+        this.byType = freeze(types);
+        Map<Course.CourseStatus, Map<Course.CourseType, List<CourseSummary>>> frozen =
+                new EnumMap<>(Course.CourseStatus.class);
+        statusTypes.forEach((status, byCourseType) -> frozen.put(status, freeze(byCourseType)));
+        this.byStatusAndType = Collections.unmodifiableMap(frozen);
+        this.forEmployees = List.copyOf(employees);
+        this.forJobSeekers = List.copyOf(jobSeekers);
+        this.builtAt = builtAt;
+    }
+
+    static CourseCatalogSnapshot of(Collection<CourseSummary> courses) {
+        return new CourseCatalogSnapshot(courses, System.currentTimeMillis());
+    }
+
+    /**
+     * 변경된 과정만 반영한 새 스냅샷 (changed에 없는 removedIds는 삭제된 과정)
+     */
+    CourseCatalogSnapshot with(Collection<CourseSummary> changed, Collection<Long> removedIds) {
+        Map<Long, CourseSummary> next = new HashMap<>(byId);
+        removedIds.forEach(next::remove);
+        changed.forEach(course -> next.put(course.getId(), course));
+        return of(next.values());
+    }
+
+    List<CourseSummary> all() {
+        return all;
+    }
+
+    List<CourseSummary> find(Course.CourseType type, Course.CourseStatus status) {
+        if (type == null && status == null) {
+            return all;
+        }
+        if (type == null) {
+            return byStatus.getOrDefault(status, List.of());
+        }
+        if (status == null) {
+            return byType.getOrDefault(type, List.of());
+        }
+        return byStatusAndType.getOrDefault(status, Map.of()).getOrDefault(type, List.of());
+    }
+
+    List<CourseSummary> forEmployees() {
+        return forEmployees;
+    }
+
+    List<CourseSummary> forJobSeekers() {
+        return forJobSeekers;
+    }
+
+    CourseSummary get(Long id) {
+        return byId.get(id);
+    }
+
+    int size() {
+        return all.size();
+    }
+
+    long builtAt() {
+        return builtAt;
+    }
+
+    private static <K extends Enum<K>> Map<K, List<CourseSummary>> freeze(Map<K, List<CourseSummary>> lists) {
+        Map<K, List<CourseSummary>> frozen = new HashMap<>();
+        lists.forEach((key, list) -> frozen.put(key, List.copyOf(list)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
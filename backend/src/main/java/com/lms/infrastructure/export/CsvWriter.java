@@ -0,0 +1,89 @@
+package com.lms.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 행 단위 출력 (RFC 4180)
+ *
+ * - 행을 버퍼에 쓰고 버퍼가 차면 바로 출력 스트림으로 전송 (행을 모아두지 않음)
+ * - UTF-8 BOM으로 시작해 Excel에서 한글이 깨지지 않도록 처리
+ * - 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고, =,+,-,@로 시작하는 값은 앞에 '를 붙여 Excel 수식 실행 방지
+ * - close()는 출력 스트림을 닫지 않고 남은 버퍼만 전송 (응답 스트림은 컨테이너가 닫음)
+ */
+public final class CsvWriter implements Flushable, Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+    private long rowCount;
+
+    public CsvWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+    }
+
+    /**
+     * 한 행 출력 (null은 빈 칸)
+     */
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+        rowCount++;
+    }
+
+    /**
+     * 출력한 행 수 (헤더 포함)
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (needsQuoting(text)) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package com.lms.infrastructure.registration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.request.EmployeeImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 재직자 일괄 등록 파일 스트리밍 리더 (CSV/JSONL)
+ *
+ * 한 줄씩 읽어 행으로 변환하므로 파일 크기와 무관하게 메모리 사용량 일정
+ * - CSV: 첫 줄은 헤더 (username,password,email,name,phoneNumber,department 순서 무관, 대소문자/밑줄 무시)
+ * - CSV 값은 큰따옴표로 감쌀 수 있으며 "" 는 따옴표 문자 (한 행은 한 줄이어야 함)
+ * - JSONL: 한 줄에 JSON 객체 하나
+ * - 빈 줄은 건너뜀, 변환할 수 없는 줄은 오류 행으로 반환
+ */
+public final class EmployeeImportReader implements Closeable {
+
+    public enum Format {
+        CSV, JSONL
+    }
+
+    private static final Map<String, String> CSV_COLUMNS = Map.of(
+            "username", "username",
+            "password", "password",
+            "email", "email",
+            "name", "name",
+            "phonenumber", "phoneNumber",
+            "phone", "phoneNumber",
+            "department", "department");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private String[] csvHeader;
+    private long lineNumber;
+
+    public EmployeeImportReader(InputStream input, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행 (파일 끝이면 null)
+     */
+    public Row next() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1); // UTF-8 BOM
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvHeader == null) {
+                    csvHeader = parseHeader(line);
+                    continue;
+                }
+                return format == Format.CSV ? csvRow(line) : jsonRow(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row jsonRow(String line) {
+        try {
+            return new Row(lineNumber, objectMapper.readValue(line, EmployeeImportRow.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "JSON 형식이 올바르지 않습니다");
+        }
+    }
+
+    private Row csvRow(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return new Row(lineNumber, null, "CSV 따옴표가 닫히지 않았습니다");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < csvHeader.length && i < values.size(); i++) {
+            if (csvHeader[i] != null) {
+                String value = values.get(i).trim();
+                fields.put(csvHeader[i], value.isEmpty() ? null : value);
+            }
+        }
+        return new Row(lineNumber, EmployeeImportRow.builder()
+                .username(fields.get("username"))
+                .password(fields.get("password"))
+                .email(fields.get("email"))
+                .name(fields.get("name"))
+                .phoneNumber(fields.get("phoneNumber"))
+                .department(fields.get("department"))
+                .build(), null);
+    }
+
+    private static String[] parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        if (names == null) {
+            throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다");
+        }
+        String[] header = new String[names.size()];
+        for (int i = 0; i < header.length; i++) {
+            String key = names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            header[i] = CSV_COLUMNS.get(key);
+        }
+        return header;
+    }
+
+    /**
+     * CSV 한 줄 분리 (따옴표가 닫히지 않으면 null)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 읽은 행 (변환 실패 시 data는 null, error에 사유)
+     */
+    public record Row(long line, EmployeeImportRow data, String error) {
+    }
+}
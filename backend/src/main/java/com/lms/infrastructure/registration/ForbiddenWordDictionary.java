@@ -0,0 +1,139 @@
+package com.lms.infrastructure.registration;
+
+import com.lms.application.validation.AhoCorasickMatcher;
+import com.lms.application.validation.UsernameRuleEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이디 금지어 사전
+ *
+ * registration.forbidden-words.location의 파일을 읽어 규칙 엔진(Aho-Corasick 오토마톤)으로 컴파일
+ * - 재적재 시 새 엔진을 완성한 뒤 참조 하나만 교체하므로 검증 중에 일부만 적재된 사전이 보이지 않음
+ * - 적재 실패 시 기존 사전 유지
+ * - reload-interval-seconds마다 파일 수정 시각을 확인하여 변경 시 재적재 (0이면 비활성화)
+ * - 재적재 후 아이디 검증 결과 캐시 비움
+ */
+@Component
+@Slf4j
+public class ForbiddenWordDictionary implements DisposableBean {
+
+    private final ResourceLoader resourceLoader;
+    private final UsernameValidationCache validationCache;
+    private final String location;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot current;
+
+    public ForbiddenWordDictionary(ResourceLoader resourceLoader,
+                                   UsernameValidationCache validationCache,
+                                   @Value("${registration.forbidden-words.location:classpath:validation/forbidden-words.txt}") String location,
+                                   @Value("${registration.forbidden-words.reload-interval-seconds:60}") long reloadIntervalSeconds) {
+        this.resourceLoader = resourceLoader;
+        this.validationCache = validationCache;
+        this.location = location;
+        this.current = load();
+
+        if (reloadIntervalSeconds > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "forbidden-words-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 현재 사전으로 컴파일된 규칙 엔진
+     */
+    public UsernameRuleEngine ruleEngine() {
+        return current.ruleEngine();
+    }
+
+    /**
+     * 사전 파일 재적재
+     *
+     * @return 적재한 금지어 수 (아이디 검사에 쓰이는 단어 기준)
+     */
+    public synchronized int reload() {
+        Snapshot next = load();
+        current = next;
+        validationCache.invalidateAll();
+        return next.wordCount();
+    }
+
+    public int wordCount() {
+        return current.wordCount();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            if (lastModified(resourceLoader.getResource(location)) != current.lastModified()) {
+                int wordCount = reload();
+                log.info("아이디 금지어 사전 재적재 완료 - {}개", wordCount);
+            }
+        } catch (RuntimeException e) {
+            log.error("아이디 금지어 사전 재적재 실패 - 기존 사전 유지", e);
+        }
+    }
+
+    private Snapshot load() {
+        Resource resource = resourceLoader.getResource(location);
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty() && !word.startsWith("#")) {
+                    words.add(word);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("금지어 사전을 읽을 수 없습니다: " + location, e);
+        }
+
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(words);
+        log.debug("아이디 금지어 사전 적재 - 전체 {}개, 아이디 검사 대상 {}개, 상태 {}개",
+                words.size(), matcher.wordCount(), matcher.stateCount());
+        return new Snapshot(new UsernameRuleEngine(matcher), matcher.wordCount(), lastModified(resource));
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // jar 내부 classpath 리소스 등 수정 시각을 알 수 없는 경우
+            return 0L;
+        }
+    }
+
+    private record Snapshot(UsernameRuleEngine ruleEngine, int wordCount, long lastModified) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.lms.infrastructure.registration;
+
+/**
+ * 멱등성 키 충돌 시 발생 (409)
+ * - 같은 키로 다른 요청을 보낸 경우
+ * - 같은 키의 요청이 대기 시간 내에 끝나지 않은 경우 (inProgress)
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    private final boolean inProgress;
+
+    public IdempotencyKeyConflictException(String message, boolean inProgress) {
+        super(message);
+        this.inProgress = inProgress;
+    }
+
+    public boolean isInProgress() {
+        return inProgress;
+    }
+}
@@ -0,0 +1,146 @@
+package com.lms.infrastructure.registration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lms.application.dto.response.RegistrationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 회원가입 멱등성 키 저장소
+ *
+ * Idempotency-Key 헤더 단위로 회원가입 결과를 ttl-seconds 동안 보관
+ * - 같은 키의 재요청은 비밀번호 해시/중복 조회 없이 저장된 RegistrationResponse 반환
+ * - 같은 키로 처리 중인 요청이 있으면 wait-timeout-seconds까지 그 결과를 기다림
+ * - 예외로 끝난 요청은 저장하지 않음 (같은 키로 재시도 가능, 대기 중인 요청은 같은 예외를 받음)
+ * - 같은 키를 다른 요청(경로/요청 본문)에 사용하면 IdempotencyKeyConflictException
+ * - 노드별 메모리 저장 (로드밸런서에서 같은 클라이언트를 같은 노드로 보내지 않으면 노드 간 중복은 DB 유니크 제약으로 처리)
+ */
+@Component
+public class RegistrationIdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+    private final long waitTimeoutMs;
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+
+    public RegistrationIdempotencyStore(@Value("${registration.idempotency.max-size:10000}") long maxSize,
+                                        @Value("${registration.idempotency.ttl-seconds:300}") long ttlSeconds,
+                                        @Value("${registration.idempotency.wait-timeout-seconds:10}") long waitTimeoutSeconds,
+                                        MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.waitTimeoutMs = TimeUnit.SECONDS.toMillis(waitTimeoutSeconds);
+        this.executedCounter = requestCounter(meterRegistry, "executed");
+        this.replayedCounter = requestCounter(meterRegistry, "replayed");
+    }
+
+    /**
+     * 키 기준 1회 실행
+     *
+     * @param key Idempotency-Key 헤더 값
+     * @param fingerprint 요청 식별값 (같은 키의 다른 요청 판별용)
+     * @param registration 회원가입 처리
+     * @return 처리 결과와 재사용 여부
+     */
+    public Outcome execute(String key, String fingerprint, Supplier<RegistrationResponse> registration) {
+        Entry created = new Entry(fingerprint);
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyConflictException("이미 다른 요청에 사용된 멱등성 키입니다", false);
+            }
+            RegistrationResponse response = await(existing);
+            replayedCounter.increment();
+            return new Outcome(response, true);
+        }
+
+        try {
+            RegistrationResponse response = registration.get();
+            created.result.complete(response);
+            executedCounter.increment();
+            return new Outcome(response, false);
+        } catch (RuntimeException | Error e) {
+            entries.asMap().remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private RegistrationResponse await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyConflictException("같은 멱등성 키의 요청이 처리 중입니다", true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("같은 멱등성 키의 요청이 처리 중입니다", true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("회원가입 처리 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * 요청 식별값 생성 (요청 종류 + 요청 본문 전체의 SHA-256)
+     * - 본문 원문(비밀번호 포함)은 보관하지 않음
+     *
+     * @param type 요청 종류 (employee, job-seeker)
+     * @param body 직렬화된 요청 본문
+     */
+    public static String fingerprint(String type, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return type + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("registration.idempotency.requests")
+                .description("Registration requests carrying an idempotency key by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 결과
+     *
+     * @param replayed 저장된(또는 처리 중이던) 결과를 재사용했는지 여부
+     */
+    public record Outcome(RegistrationResponse response, boolean replayed) {
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final CompletableFuture<RegistrationResponse> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.lms.infrastructure.registration;
+
+import com.lms.domain.entities.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 일괄 저장 (JDBC batch)
+ *
+ * JPA 엔티티 저장 대신 INSERT를 batch로 묶어 전송
+ * - PostgreSQL 드라이버 reWriteBatchedInserts=true 설정 시 다중 VALUES INSERT로 재작성되어 왕복 1회
+ * - insertAll은 하나의 트랜잭션, 유니크 제약 위반 시 전체 롤백 (DataIntegrityViolationException)
+ * - 엔티티 저장을 거치지 않으므로 도메인 이벤트는 호출 측에서 발행해야 함
+ */
+@Component
+public class UserBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO users (username, password, email, name, phone_number, "
+            + "user_type, status, is_employee, department, company_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 사용자 목록을 하나의 batch/트랜잭션으로 저장
+     */
+    public void insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(),
+                        (statement, user) -> bind(statement, user, now)));
+    }
+
+    /**
+     * 사용자 한 명 저장 (batch 실패 시 행별 결과 확인용)
+     */
+    public void insert(User user) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, user, now));
+    }
+
+    private static void bind(PreparedStatement statement, User user, Timestamp now) throws SQLException {
+        statement.setString(1, user.getUsername());
+        statement.setString(2, user.getPassword());
+        statement.setString(3, user.getEmail());
+        statement.setString(4, user.getName());
+        statement.setString(5, user.getPhoneNumber());
+        statement.setString(6, user.getUserType().name());
+        statement.setString(7, user.getStatus().name());
+        statement.setBoolean(8, Boolean.TRUE.equals(user.getIsEmployee()));
+        statement.setString(9, user.getDepartment());
+        if (user.getCompany() != null) {
+            statement.setLong(10, user.getCompany().getId());
+        } else {
+            statement.setNull(10, Types.BIGINT);
+        }
+        statement.setTimestamp(11, now);
+        statement.setTimestamp(12, now);
+    }
+}
@@ -0,0 +1,262 @@
+package com.lms.infrastructure.registration;
+
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import com.lms.domain.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아이디/이메일 중복 검사 필터
+ *
+ * 기존 사용자의 아이디/이메일을 Bloom 필터로 유지하여
+ * 필터에 없는 값은 DB 조회 없이 "사용 가능"으로 응답하고, 필터에 있을 수 있는 값만 DB로 확인
+ * - 기동 후 users 테이블을 스트리밍하여 적재 (적재 전에는 항상 DB 조회)
+ * - 사용자 저장 시 UserIdentifiersChangedEvent로 추가 (저장 시점 + 커밋 후 한 번 더)
+ * - rebuild: 새 필터를 만든 뒤 교체 (아이디/이메일 변경으로 남은 이전 값 정리)
+ *   새 필터는 SELECT 전에 등록하므로 SELECT 이후 커밋된 사용자는 커밋 후 이벤트로 새 필터에 추가됨
+ * - 조회 결과별 건수와 false positive 비율 메트릭 제공
+ *
+ * 필터는 노드별로 유지됨: 다른 노드에서 가입한 사용자는 이 노드의 다음 rebuild 전까지 필터에 없으므로
+ * 다중 노드 배포에서는 저장 시 유니크 제약 위반 처리(EmployeeRegistrationUseCase 등)에 의존
+ */
+@Component
+@Slf4j
+public class UserIdentifierFilter {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter skippedCounter;
+    private final Counter confirmedCounter;
+    private final Counter falsePositiveCounter;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Filters current;
+    private volatile Filters building;
+
+    public UserIdentifierFilter(UserRepository userRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${registration.identifier-filter.enabled:true}") boolean enabled,
+                                @Value("${registration.identifier-filter.expected-insertions:100000}") long minExpectedInsertions,
+                                @Value("${registration.identifier-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.skippedCounter = lookupCounter(meterRegistry, "skipped");
+        this.confirmedCounter = lookupCounter(meterRegistry, "confirmed");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("registration.identifier.filter.observed.fpp", this, UserIdentifierFilter::observedFalsePositiveRate)
+                .description("False positives / lookups that reached the database for absent values")
+                .register(meterRegistry);
+        Gauge.builder("registration.identifier.filter.expected.fpp", this, UserIdentifierFilter::expectedFalsePositiveRate)
+                .description("False positive rate estimated from the filter fill ratio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아이디 사용 여부 (필터에 없으면 DB 조회 생략)
+     */
+    public boolean usernameExists(String username) {
+        Filters filters = current;
+        if (filters != null && !filters.usernames.mightContain(username)) {
+            skippedCounter.increment();
+            return false;
+        }
+        return confirm(filters, userRepository.existsByUsername(username));
+    }
+
+    /**
+     * 이메일 사용 여부 (필터에 없으면 DB 조회 생략)
+     */
+    public boolean emailExists(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails.mightContain(email)) {
+            skippedCounter.increment();
+            return false;
+        }
+        return confirm(filters, userRepository.existsByEmail(email));
+    }
+
+    /**
+     * 여러 아이디 중 이미 사용 중인 아이디
+     * 필터에 없는 값은 제외하고 나머지만 IN 쿼리 한 번으로 확인
+     */
+    public Set<String> existingUsernames(Collection<String> usernames) {
+        Filters filters = current;
+        List<String> probable = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            if (filters == null || filters.usernames.mightContain(username)) {
+                probable.add(username);
+            } else {
+                skippedCounter.increment();
+            }
+        }
+        if (probable.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(probable));
+        if (filters != null) {
+            confirmedCounter.increment(existing.size());
+            falsePositiveCounter.increment(probable.size() - existing.size());
+        }
+        return existing;
+    }
+
+    @EventListener
+    public void onUserIdentifiersChanged(UserIdentifiersChangedEvent event) {
+        // 저장 시점에 동기 추가 (롤백된 값은 false positive로 남을 뿐 결과에는 영향 없음)
+        add(current, event);
+        add(building, event);
+    }
+
+    /**
+     * 커밋 후 다시 추가
+     * 저장 시점에는 재구성 전이었지만 재구성 SELECT 이후에 커밋된 사용자는 새 필터 어디에도 없으므로,
+     * 커밋 후 building(SELECT 전에 등록) → current 순서로 읽어 교체 전후 어느 쪽이든 새 필터에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserIdentifiersCommitted(UserIdentifiersChangedEvent event) {
+        add(building, event);
+        add(current, event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "identifier-filter-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * users 테이블로 새 필터를 만든 뒤 교체
+     *
+     * @return 적재한 사용자 수, 이미 재구성 중이거나 비활성화 상태면 -1
+     */
+    public long rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long expected = Math.max(minExpectedInsertions, (userCount != null ? userCount : 0) * 2);
+            Filters next = new Filters(new BloomFilter(expected, falsePositiveRate),
+                    new BloomFilter(expected, falsePositiveRate));
+            // SELECT 스냅샷 이후 커밋되는 사용자가 커밋 후 이벤트로 추가되도록 SELECT 전에 등록
+            building = next;
+
+            long[] loaded = {0};
+            readOnlyTransaction.executeWithoutResult(status -> {
+                // 트랜잭션 안에서 fetch size를 지정해야 PostgreSQL이 커서로 나눠서 전송
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("SELECT username, email FROM users");
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, (RowCallbackHandler) rs -> {
+                    next.usernames.put(rs.getString(1));
+                    next.emails.put(rs.getString(2));
+                    loaded[0]++;
+                });
+            });
+
+            // current 교체 후 building 해제 (커밋 후 이벤트는 building → current 순으로 읽음)
+            current = next;
+            log.info("아이디/이메일 중복 검사 필터 구성 완료 - 사용자 {}명, {}ms",
+                    loaded[0], System.currentTimeMillis() - started);
+            return loaded[0];
+        } catch (RuntimeException e) {
+            log.error("아이디/이메일 중복 검사 필터 구성 실패 - DB 조회로 처리", e);
+            return -1;
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double absentLookups = falsePositives + skippedCounter.count();
+        return absentLookups == 0 ? 0.0 : falsePositives / absentLookups;
+    }
+
+    double expectedFalsePositiveRate() {
+        Filters filters = current;
+        return filters != null ? filters.usernames.expectedFalsePositiveRate() : 0.0;
+    }
+
+    private boolean confirm(Filters filters, boolean exists) {
+        if (filters == null) {
+            return exists;
+        }
+        if (exists) {
+            confirmedCounter.increment();
+        } else {
+            falsePositiveCounter.increment();
+        }
+        return exists;
+    }
+
+    private static void add(Filters filters, UserIdentifiersChangedEvent event) {
+        if (filters == null) {
+            return;
+        }
+        putIfPresent(filters.usernames, event.getUsername());
+        putIfPresent(filters.emails, event.getEmail());
+    }
+
+    private static void putIfPresent(BloomFilter filter, String value) {
+        if (value != null) {
+            filter.put(value);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("registration.identifier.filter.lookups")
+                .description("Duplicate check lookups by filter outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+}
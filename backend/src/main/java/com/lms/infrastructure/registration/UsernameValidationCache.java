@@ -0,0 +1,109 @@
+package com.lms.infrastructure.registration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lms.application.dto.response.ValidationResult;
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이디 종합 검증 결과 캐시
+ *
+ * 같은 아이디를 반복 검증할 때 규칙 검사와 중복 조회를 생략
+ * - 사용 가능 결과는 ttl-seconds, 이미 사용 중인 아이디(negative)는 negative-ttl-seconds 동안 보관
+ * - 오류 결과는 캐싱하지 않음
+ * - 사용자 저장 커밋 후 해당 아이디 무효화
+ * - hit/miss 통계는 actuator 메트릭(cache.gets 등)과 hit ratio 게이지로 노출
+ */
+@Component
+public class UsernameValidationCache {
+
+    static final String CACHE_NAME = "usernameValidationCache";
+
+    private final Cache<String, CachedResult> cache;
+
+    public UsernameValidationCache(@Value("${registration.validation-cache.max-size:10000}") long maxSize,
+                                   @Value("${registration.validation-cache.ttl-seconds:60}") long ttlSeconds,
+                                   @Value("${registration.validation-cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+                                   MeterRegistry meterRegistry) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedResult>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResult value, long currentTime) {
+                        return value.duplicate() ? negativeTtlNanos : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResult value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResult value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public ValidationResult getIfPresent(String username) {
+        CachedResult cached = cache.getIfPresent(username);
+        return cached != null ? cached.result() : null;
+    }
+
+    /**
+     * 검증 결과 저장
+     *
+     * @param duplicate 이미 사용 중인 아이디라는 결과인지 여부 (negative-ttl-seconds 적용)
+     */
+    public void put(String username, ValidationResult result, boolean duplicate) {
+        if ("ERROR".equals(result.getCode())) {
+            return;
+        }
+        cache.put(username, new CachedResult(result, duplicate));
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 사용자 저장 커밋 후 해당 아이디 무효화 ("사용 가능" 결과 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserIdentifiersChanged(UserIdentifiersChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record CachedResult(ValidationResult result, boolean duplicate) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.lms.infrastructure.search;
+
+import com.lms.domain.events.CompanyChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 협약사 회사명/대표자명 부분 일치 검색 색인
+ *
+ * - 협약사 저장 커밋 후 CompanyChangedEvent로 반영
+ */
+@Component
+public class CompanySearchIndex extends EntitySearchIndex {
+
+    public CompanySearchIndex(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        super("companies", "SELECT id, name, representative_name FROM companies", 2,
+                jdbcTemplate, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 회사명과 대표자명으로 협약사 검색 (null은 조건 없음)
+     *
+     * @return 협약사 ID 목록, 색인 구성 전이면 null
+     */
+    public List<Long> search(String companyName, String representative, int limit) {
+        return search(limit, companyName, representative);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        enqueue(event.getCompanyId());
+    }
+}
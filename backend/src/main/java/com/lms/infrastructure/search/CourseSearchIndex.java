@@ -0,0 +1,70 @@
+package com.lms.infrastructure.search;
+
+import com.lms.domain.events.CourseChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 과정명/설명 부분 일치 검색 색인
+ *
+ * - 과정 저장 커밋 후 CourseChangedEvent로 반영
+ * - 공개 키워드 검색(관련도순)은 DB 전문 검색(CourseSearchUseCase) 사용
+ *   (pg_trgm이 인덱스로 처리하지 못하는 1~2자 검색어는 이 색인으로 대상 과정을 찾음)
+ */
+@Component
+public class CourseSearchIndex extends EntitySearchIndex {
+
+    public CourseSearchIndex(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        super("courses", "SELECT id, title, description FROM courses", 2,
+                jdbcTemplate, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 과정명으로 과정 검색
+     *
+     * @return 과정 ID 목록, 색인 구성 전이면 null
+     */
+    public List<Long> search(String title, int limit) {
+        return search(limit, title, null);
+    }
+
+    /**
+     * 과정명 또는 설명에 키워드가 포함된 과정 검색 (과정명 일치 우선)
+     *
+     * @return 과정 ID 목록 (최대 limit개), 색인 구성 전이면 null
+     */
+    public List<Long> searchTitleOrDescription(String keyword, int limit) {
+        List<Long> titleMatches = search(limit, keyword, null);
+        if (titleMatches == null) {
+            return null;
+        }
+        Set<Long> ids = new LinkedHashSet<>(titleMatches);
+        if (ids.size() < limit) {
+            List<Long> descriptionMatches = search(limit, null, keyword);
+            if (descriptionMatches != null) {
+                for (Long id : descriptionMatches) {
+                    if (ids.size() >= limit) {
+                        break;
+                    }
+                    ids.add(id);
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        enqueue(event.getCourseId());
+    }
+}
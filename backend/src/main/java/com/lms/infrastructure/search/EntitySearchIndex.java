@@ -0,0 +1,253 @@
+package com.lms.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 엔티티 부분 일치 검색 색인 (공통)
+ *
+ * 테이블 한 개의 검색 대상 컬럼을 NgramIndex로 색인
+ * - 기동 후 selectSql 결과를 커서로 나눠 읽어 색인 구성 (구성 전 isReady()는 false, 호출 측은 DB 검색 사용)
+ * - 엔티티 저장 커밋 후 변경된 ID를 모아 전용 스레드에서 다시 읽어 반영 (DB에 없으면 색인에서 제거)
+ * - 색인 구성/변경 반영은 모두 같은 스레드에서 순서대로 처리
+ * - 색인 크기, 검색 시간, 재구성 시간 메트릭 제공 (index 태그로 구분)
+ *
+ * selectSql은 "SELECT id, 필드1, 필드2, ... FROM 테이블" 형식 (WHERE 절 없이)
+ */
+@Slf4j
+public abstract class EntitySearchIndex implements DisposableBean {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int RELOAD_CHUNK_SIZE = 500;
+
+    private final String name;
+    private final String selectSql;
+    private final int fieldCount;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService indexer;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+
+    private final Timer searchTimer;
+    private final Timer rebuildTimer;
+
+    private volatile NgramIndex index;
+
+    protected EntitySearchIndex(String name, String selectSql, int fieldCount,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.name = name;
+        this.selectSql = selectSql;
+        this.fieldCount = fieldCount;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("search.index.size", this, EntitySearchIndex::size)
+                .description("Documents held in the search index")
+                .tag("index", name)
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("search.index.query")
+                .description("Search index query time")
+                .tag("index", name)
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("search.index.rebuild")
+                .description("Full search index rebuild time")
+                .tag("index", name)
+                .register(meterRegistry);
+
+        this.indexer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        indexer.execute(() -> {
+            try {
+                build();
+            } catch (RuntimeException e) {
+                log.error("검색 색인 구성 실패 - DB 검색으로 처리: {}", name, e);
+            }
+        });
+    }
+
+    /**
+     * 테이블 전체를 다시 읽어 새 색인으로 교체 (변경 반영과 같은 스레드에서 처리 후 대기)
+     *
+     * @return 색인한 문서 수
+     */
+    public int rebuild() {
+        try {
+            return indexer.submit(this::build).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("검색 색인 재구성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("검색 색인을 재구성할 수 없습니다", e.getCause());
+        }
+    }
+
+    private int build() {
+        long started = System.nanoTime();
+        Long rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + selectSql + ") t", Long.class);
+        int expectedSize = rowCount != null ? (int) Math.min(rowCount, Integer.MAX_VALUE - 8) : 0;
+        NgramIndex next = new NgramIndex(fieldCount, expectedSize);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // 트랜잭션 안에서 fetch size를 지정해야 PostgreSQL이 커서로 나눠서 전송
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(selectSql);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) rs -> next.put(rs.getLong(1), fieldValues(rs)));
+        });
+        index = next;
+        rebuildTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.info("검색 색인 구성 완료 - {}: {}건, {}ms", name, next.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return next.size();
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public int size() {
+        NgramIndex current = index;
+        return current != null ? current.size() : 0;
+    }
+
+    @Override
+    public void destroy() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * 모든 필드 조건을 만족하는 엔티티 ID (최대 limit개)
+     *
+     * @param queries 필드별 검색어 (null은 조건 없음)
+     * @return 색인 구성 전이면 null
+     */
+    protected List<Long> search(int limit, String... queries) {
+        NgramIndex current = index;
+        if (current == null) {
+            return null;
+        }
+        long started = System.nanoTime();
+        long[] ids = current.search(limit, queries);
+        searchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        List<Long> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 변경된 엔티티 반영 예약 (연속된 변경은 한 번에 처리)
+     */
+    protected void enqueue(Long id) {
+        if (id == null) {
+            return;
+        }
+        pendingIds.add(id);
+        if (reloadScheduled.compareAndSet(false, true)) {
+            indexer.execute(this::reloadPendingQuietly);
+        }
+    }
+
+    /**
+     * 조건에 맞는 행을 다시 읽어 반영 (JDBC로 직접 저장해 엔티티 이벤트가 없는 경우)
+     *
+     * @param condition WHERE 절 조건 (예: "company_id = ?")
+     */
+    protected void reloadWhere(String condition, Object... args) {
+        indexer.execute(() -> {
+            NgramIndex current = index;
+            if (current == null) {
+                return;
+            }
+            try {
+                jdbcTemplate.query(selectSql + " WHERE " + condition,
+                        (RowCallbackHandler) rs -> current.put(rs.getLong(1), fieldValues(rs)), args);
+            } catch (RuntimeException e) {
+                log.error("검색 색인 반영 실패 - {}: {}", name, condition, e);
+            }
+        });
+    }
+
+    /**
+     * 모아둔 ID를 다시 읽어 반영 (indexer 스레드에서만 호출)
+     */
+    void reloadPending() {
+        reloadScheduled.set(false);
+        Set<Long> ids = new HashSet<>(pendingIds);
+        pendingIds.removeAll(ids);
+        NgramIndex current = index;
+        if (ids.isEmpty() || current == null) {
+            // 색인 구성 전 변경은 구성 시 함께 읽음
+            return;
+        }
+
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, idList.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(selectSql + " WHERE id IN (" + placeholders + ")", (RowCallbackHandler) rs -> {
+                long id = rs.getLong(1);
+                missing.remove(id);
+                current.put(id, fieldValues(rs));
+            }, chunk.toArray());
+            missing.forEach(current::remove);
+        }
+    }
+
+    private void reloadPendingQuietly() {
+        try {
+            reloadPending();
+        } catch (RuntimeException e) {
+            log.error("검색 색인 변경 반영 실패 - 다음 재구성에서 반영: {}", name, e);
+        }
+    }
+
+    private String[] fieldValues(ResultSet rs) throws SQLException {
+        String[] values = new String[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            values[field] = rs.getString(field + 2);
+        }
+        return values;
+    }
+}
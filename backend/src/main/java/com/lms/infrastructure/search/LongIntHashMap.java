@@ -0,0 +1,88 @@
+package com.lms.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * long → int 해시 맵 (선형 탐사, 박싱 없음)
+ *
+ * - 키 0은 빈 칸으로 사용하므로 저장 불가 (엔티티 ID는 1부터)
+ * - 삭제 대신 값을 MISSING으로 덮어씀 (색인 재구성 시 정리)
+ * - 동기화는 호출 측(NgramIndex) 책임
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key must not be 0");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            if (++size > resizeAt) {
+                values[slot] = value;
+                rehash(keys.length << 1);
+                return;
+            }
+        }
+        values[slot] = value;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        resizeAt = (int) (capacity * 0.6);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,261 @@
+package com.lms.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 필드별 n-gram 역색인 (부분 일치 검색)
+ *
+ * LIKE '%검색어%'와 같은 결과를 색인으로 찾음
+ * - 문서는 내부 순번(ordinal)으로 관리하고 색인어별 문서 목록은 정렬된 int 배열로 보관
+ * - 검색: 검색어 bigram 목록 중 가장 짧은 목록을 기준으로 나머지 목록에 모두 있는 문서만 남긴 뒤 원문 포함 여부로 확인
+ * - 한 글자 검색어(한글 음절, 초성 포함)는 unigram 문서 목록으로 검색 (전체 문서를 순회하지 않음)
+ * - 추가/수정/삭제는 해당 문서의 색인어만 갱신 (쓰기 잠금), 검색은 읽기 잠금으로 동시 처리
+ * - 삭제된 순번은 재사용하지 않으며 전체 재구성 시 정리
+ */
+final class NgramIndex {
+
+    private static final long REMOVED = 0L;
+
+    private final int fieldCount;
+    private final Map<Integer, Postings>[] dictionaries;
+    private final LongIntHashMap ordinals;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids;
+    private String[][] values;
+    private int nextOrdinal;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    NgramIndex(int fieldCount, int expectedSize) {
+        this.fieldCount = fieldCount;
+        this.dictionaries = new Map[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            dictionaries[field] = new HashMap<>();
+        }
+        int capacity = Math.max(16, expectedSize);
+        this.ordinals = new LongIntHashMap(capacity);
+        this.ids = new long[capacity];
+        this.values = new String[capacity][];
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     *
+     * @param id 엔티티 ID (1 이상)
+     * @param fieldValues 필드별 값 (fieldCount개, null 허용)
+     */
+    void put(long id, String... fieldValues) {
+        if (fieldValues.length != fieldCount) {
+            throw new IllegalArgumentException("expected " + fieldCount + " field values");
+        }
+        String[] normalized = new String[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            normalized[field] = NgramTokenizer.normalize(fieldValues[field]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.get(id);
+            if (ordinal == LongIntHashMap.MISSING) {
+                ordinal = nextOrdinal++;
+                ensureCapacity(nextOrdinal);
+                ordinals.put(id, ordinal);
+                ids[ordinal] = id;
+                size++;
+            } else {
+                if (Arrays.equals(values[ordinal], normalized)) {
+                    return;
+                }
+                unindex(ordinal);
+            }
+            values[ordinal] = normalized;
+            for (int field = 0; field < fieldCount; field++) {
+                for (int term : NgramTokenizer.indexTerms(normalized[field])) {
+                    dictionaries[field].computeIfAbsent(term, key -> new Postings()).add(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.get(id);
+            if (ordinal == LongIntHashMap.MISSING) {
+                return;
+            }
+            unindex(ordinal);
+            ordinals.put(id, LongIntHashMap.MISSING);
+            ids[ordinal] = REMOVED;
+            values[ordinal] = null;
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 필드 조건을 만족하는 문서 ID (색인 순서, 최대 limit개)
+     *
+     * @param queries 필드별 검색어 (null 또는 빈 값은 조건 없음)
+     */
+    long[] search(int limit, String... queries) {
+        if (queries.length != fieldCount) {
+            throw new IllegalArgumentException("expected " + fieldCount + " queries");
+        }
+        String[] normalized = new String[fieldCount];
+        int[][] terms = new int[fieldCount][];
+        boolean anyCondition = false;
+        for (int field = 0; field < fieldCount; field++) {
+            String query = queries[field] != null ? NgramTokenizer.normalize(queries[field].trim()) : "";
+            if (!query.isEmpty()) {
+                normalized[field] = query;
+                terms[field] = NgramTokenizer.queryTerms(query);
+                anyCondition = true;
+            }
+        }
+        if (!anyCondition || limit <= 0) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[][] postings = new Postings[fieldCount][];
+            Postings driver = null;
+            for (int field = 0; field < fieldCount; field++) {
+                if (terms[field] == null) {
+                    continue;
+                }
+                postings[field] = new Postings[terms[field].length];
+                for (int i = 0; i < terms[field].length; i++) {
+                    Postings list = dictionaries[field].get(terms[field][i]);
+                    if (list == null) {
+                        return new long[0];
+                    }
+                    postings[field][i] = list;
+                    if (driver == null || list.size < driver.size) {
+                        driver = list;
+                    }
+                }
+            }
+
+            // 조건이 있는 필드는 색인어가 하나 이상이므로 driver는 항상 존재
+            long[] found = new long[Math.min(limit, size)];
+            int count = 0;
+            for (int i = 0; i < driver.size && count < found.length; i++) {
+                int ordinal = driver.docs[i];
+                if (ids[ordinal] != REMOVED && containsAll(postings, ordinal, driver)
+                        && matchesAll(values[ordinal], normalized)) {
+                    found[count++] = ids[ordinal];
+                }
+            }
+            return count == found.length ? found : Arrays.copyOf(found, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int ordinal) {
+        String[] previous = values[ordinal];
+        for (int field = 0; field < fieldCount; field++) {
+            for (int term : NgramTokenizer.indexTerms(previous[field])) {
+                Postings list = dictionaries[field].get(term);
+                if (list != null && list.remove(ordinal) && list.size == 0) {
+                    dictionaries[field].remove(term);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > ids.length) {
+            int capacity = Math.max(required, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static boolean containsAll(Postings[][] postings, int ordinal, Postings driver) {
+        for (Postings[] fieldPostings : postings) {
+            if (fieldPostings == null) {
+                continue;
+            }
+            for (Postings list : fieldPostings) {
+                if (list != driver && !list.contains(ordinal)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAll(String[] fieldValues, String[] queries) {
+        for (int field = 0; field < queries.length; field++) {
+            if (queries[field] != null && !NgramTokenizer.matches(fieldValues[field], queries[field])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 색인어 하나의 문서 순번 목록 (오름차순 int 배열)
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == 0 || docs[size - 1] < ordinal) {
+                grow();
+                docs[size++] = ordinal;
+                return;
+            }
+            int index = Arrays.binarySearch(docs, 0, size, ordinal);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            grow();
+            System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+            docs[insertAt] = ordinal;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int index = Arrays.binarySearch(docs, 0, size, ordinal);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(docs, 0, size, ordinal) >= 0;
+        }
+
+        private void grow() {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length << 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.lms.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * n-gram 역색인용 토큰 생성
+ *
+ * - 정규화: NFC(자모 분리 입력 결합) + 소문자
+ * - 색인어: 연속한 두 글자(bigram)를 int 하나로 인코딩 ((앞 글자 << 16) | 뒷 글자)
+ * - 한 글자 검색용으로 각 글자(unigram)도 색인 (글자 값 그대로, bigram과 겹치지 않음)
+ * - 한글 음절이 있으면 초성 문자열(홍길동 → ㅎㄱㄷ)의 unigram/bigram도 함께 색인해 초성 검색 지원
+ */
+final class NgramTokenizer {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private NgramTokenizer() {
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 값의 색인어 (중복 제거, 오름차순)
+     */
+    static int[] indexTerms(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        String choseong = choseong(normalized);
+        int[] terms = new int[(normalized.length() * 2 - 1) * (choseong != null ? 2 : 1)];
+        int count = appendUnigrams(normalized, terms, 0);
+        count = appendBigrams(normalized, terms, count);
+        if (choseong != null) {
+            count = appendUnigrams(choseong, terms, count);
+            count = appendBigrams(choseong, terms, count);
+        }
+        return distinct(terms, count);
+    }
+
+    /**
+     * 검색어의 색인어 (한 글자면 unigram, 두 글자 이상이면 bigram)
+     */
+    static int[] queryTerms(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        if (normalized.length() == 1) {
+            return new int[]{normalized.charAt(0)};
+        }
+        int[] terms = new int[normalized.length() - 1];
+        return distinct(terms, appendBigrams(normalized, terms, 0));
+    }
+
+    /**
+     * 검색어 부분 일치 여부 (초성만으로 된 검색어는 초성 문자열과 비교)
+     */
+    static boolean matches(String normalizedText, String normalizedQuery) {
+        if (normalizedText.contains(normalizedQuery)) {
+            return true;
+        }
+        if (!isChoseongOnly(normalizedQuery)) {
+            return false;
+        }
+        String choseong = choseong(normalizedText);
+        return choseong != null && choseong.contains(normalizedQuery);
+    }
+
+    static boolean isChoseongOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (한글 음절이 없으면 null)
+     */
+    static String choseong(String value) {
+        char[] chars = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                if (chars == null) {
+                    chars = value.toCharArray();
+                }
+                chars[i] = CHOSEONG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return chars != null ? new String(chars) : null;
+    }
+
+    private static int appendUnigrams(String value, int[] terms, int offset) {
+        int count = offset;
+        for (int i = 0; i < value.length(); i++) {
+            terms[count++] = value.charAt(i);
+        }
+        return count;
+    }
+
+    private static int appendBigrams(String value, int[] terms, int offset) {
+        int count = offset;
+        for (int i = 0; i + 1 < value.length(); i++) {
+            terms[count++] = (value.charAt(i) << 16) | value.charAt(i + 1);
+        }
+        return count;
+    }
+
+    private static int[] distinct(int[] terms, int count) {
+        Arrays.sort(terms, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || terms[unique - 1] != terms[i]) {
+                terms[unique++] = terms[i];
+            }
+        }
+        return unique == terms.length ? terms : Arrays.copyOf(terms, unique);
+    }
+}
@@ -0,0 +1,50 @@
+package com.lms.infrastructure.search;
+
+import com.lms.domain.events.EmployeesImportedEvent;
+import com.lms.domain.events.UserProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사용자 이름/이메일 부분 일치 검색 색인
+ *
+ * - 사용자 저장 커밋 후 UserProfileChangedEvent로 반영
+ * - 재직자 일괄 등록(JDBC 저장)은 EmployeesImportedEvent로 협약사 소속 사용자를 다시 읽어 반영
+ */
+@Component
+public class UserSearchIndex extends EntitySearchIndex {
+
+    public UserSearchIndex(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        super("users", "SELECT id, name, email FROM users", 2,
+                jdbcTemplate, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 이름과 이메일로 사용자 검색 (null은 조건 없음)
+     *
+     * @return 사용자 ID 목록, 색인 구성 전이면 null
+     */
+    public List<Long> search(String name, String email, int limit) {
+        return search(limit, name, email);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        enqueue(event.getUserId());
+    }
+
+    @EventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        if (event.getCreatedCount() > 0) {
+            reloadWhere("company_id = ?", event.getCompanyId());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.lms.infrastructure.security;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 만료 시각 단위로 항목을 슬롯에 배치하여 tick마다 해당 슬롯만 처리
+ * - 레벨 0: tick 단위 슬롯, 상위 레벨: 하위 레벨 한 바퀴 단위 슬롯
+ * - 상위 레벨 슬롯은 차례가 오면 하위 레벨로 재배치(cascade)
+ * - 만료 처리 비용은 전체 항목 수가 아닌 해당 tick에 도달한 항목 수에 비례
+ * - 스케줄 등록은 lock-free, advanceTo는 단일 스레드에서 호출해야 함
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] spans; // 레벨별 슬롯 하나가 담당하는 tick 수
+    private final ConcurrentLinkedQueue<Entry<T>>[][] buckets;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMs, int wheelSize, long maxDelayMs, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+
+        long maxDelayTicks = Math.max(1L, maxDelayMs / tickMs + 1);
+        int levels = 1;
+        long horizon = wheelSize;
+        while (horizon <= maxDelayTicks) {
+            levels++;
+            horizon *= wheelSize;
+        }
+
+        this.spans = new long[levels];
+        this.buckets = new ConcurrentLinkedQueue[levels][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span *= wheelSize;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = new ConcurrentLinkedQueue<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 만료 시각(ms)에 항목 등록
+     */
+    void schedule(T item, long deadlineMs) {
+        long deadlineTick = Math.max(deadlineMs / tickMs, currentTick + 1);
+        insert(new Entry<>(item, deadlineTick), currentTick);
+    }
+
+    /**
+     * nowMs까지 tick을 진행하며 만료 시각에 도달한 항목을 consumer로 전달
+     */
+    void advanceTo(long nowMs, Consumer<T> expired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            long tick = currentTick + 1;
+            currentTick = tick;
+
+            // 상위 레벨부터 현재 tick 구간 슬롯을 하위 레벨로 재배치
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (tick % spans[level] == 0) {
+                    drain(buckets[level][slotIndex(tick, level)], entry -> insert(entry, tick));
+                }
+            }
+
+            drain(buckets[0][slotIndex(tick, 0)], entry -> {
+                if (entry.deadlineTick <= tick) {
+                    expired.accept(entry.item);
+                } else {
+                    insert(entry, tick);
+                }
+            });
+        }
+    }
+
+    int levelCount() {
+        return spans.length;
+    }
+
+    private void insert(Entry<T> entry, long current) {
+        int topLevel = spans.length - 1;
+        for (int level = 0; level <= topLevel; level++) {
+            long span = spans[level];
+            long alignedCurrent = current - current % span;
+            if (entry.deadlineTick < alignedCurrent + span * wheelSize) {
+                buckets[level][slotIndex(entry.deadlineTick, level)].add(entry);
+                return;
+            }
+        }
+        // 최상위 레벨 범위를 넘는 항목은 가장 먼 슬롯에 두고 재배치 시 다시 판단
+        long span = spans[topLevel];
+        long farthestTick = current - current % span + span * (wheelSize - 1);
+        buckets[topLevel][slotIndex(farthestTick, topLevel)].add(entry);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick / spans[level]) % wheelSize);
+    }
+
+    private void drain(ConcurrentLinkedQueue<Entry<T>> bucket, Consumer<Entry<T>> action) {
+        // 처리 중 같은 슬롯에 다시 들어오는 항목은 다음 차례에 처리
+        int size = bucket.size();
+        for (int i = 0; i < size; i++) {
+            Entry<T> entry = bucket.poll();
+            if (entry == null) {
+                return;
+            }
+            action.accept(entry);
+        }
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
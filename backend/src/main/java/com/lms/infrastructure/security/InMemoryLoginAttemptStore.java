@@ -0,0 +1,150 @@
+package com.lms.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 기반 로그인 시도 저장소
+ * 
+ * 키별 lock-free 슬라이딩 윈도우 카운터
+ * - 윈도우를 BUCKET_COUNT개 구간으로 나누고 구간 번호와 횟수를 long 하나에 담아 CAS로 갱신
+ * - 키 분산은 ConcurrentHashMap의 bin 단위 striping에 맡김
+ * - 키 수가 상한을 넘으면 기록할 때마다 EVICTION_BATCH개씩 이어서 확인하며 윈도우가 지난 카운터 정리
+ *   (전체 순회 없이 기록 1회당 비용 일정, 한 스레드만 정리)
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limiting.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    static final int BUCKET_COUNT = 16;
+    private static final int MAX_TRACKED_KEYS = 100_000;
+    static final int EVICTION_BATCH = 64;
+
+    private final ConcurrentHashMap<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<String, SlidingWindowCounter>> evictionCursor;
+
+    public InMemoryLoginAttemptStore(@Value("${security.rate-limiting.login-attempts.window-minutes:15}") long windowMinutes) {
+        this.bucketMillis = Math.max(1L, TimeUnit.MINUTES.toMillis(windowMinutes) / BUCKET_COUNT);
+    }
+
+    @Override
+    public int recordAttempt(String key, long now) {
+        long bucket = now / bucketMillis;
+        if (counters.size() > MAX_TRACKED_KEYS) {
+            evictIdle(bucket);
+        }
+        return counters.computeIfAbsent(key, k -> new SlidingWindowCounter()).increment(bucket);
+    }
+
+    @Override
+    public int countAttempts(String key, long now) {
+        SlidingWindowCounter counter = counters.get(key);
+        return counter != null ? counter.sum(now / bucketMillis) : 0;
+    }
+
+    @Override
+    public void release(String key, long attemptedAt) {
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter != null) {
+            counter.decrement(attemptedAt / bucketMillis);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        counters.remove(key);
+    }
+
+    int trackedKeyCount() {
+        return counters.size();
+    }
+
+    private void evictIdle(long bucket) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < EVICTION_BATCH; i++) {
+                if (evictionCursor == null || !evictionCursor.hasNext()) {
+                    evictionCursor = counters.entrySet().iterator();
+                    if (!evictionCursor.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<String, SlidingWindowCounter> entry = evictionCursor.next();
+                if (entry.getValue().sum(bucket) == 0) {
+                    counters.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 구간 번호(상위 비트)와 횟수(하위 COUNT_BITS 비트)를 한 슬롯에 저장하는 카운터
+     */
+    static final class SlidingWindowCounter {
+
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray slots = new AtomicLongArray(BUCKET_COUNT);
+
+        int increment(long bucket) {
+            int index = (int) Math.floorMod(bucket, (long) BUCKET_COUNT);
+            while (true) {
+                long current = slots.get(index);
+                long next;
+                if ((current >>> COUNT_BITS) == bucket) {
+                    next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+                } else {
+                    next = (bucket << COUNT_BITS) | 1L;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            return sum(bucket);
+        }
+
+        /**
+         * 해당 구간에 기록한 1회 취소 (구간이 이미 지났거나 횟수가 상한에 도달했으면 무시)
+         */
+        void decrement(long bucket) {
+            int index = (int) Math.floorMod(bucket, (long) BUCKET_COUNT);
+            while (true) {
+                long current = slots.get(index);
+                long count = current & COUNT_MASK;
+                if ((current >>> COUNT_BITS) != bucket || count == 0 || count == COUNT_MASK) {
+                    return;
+                }
+                if (slots.compareAndSet(index, current, current - 1)) {
+                    return;
+                }
+            }
+        }
+
+        int sum(long bucket) {
+            int total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long slot = slots.get(i);
+                long slotBucket = slot >>> COUNT_BITS;
+                if (slotBucket <= bucket && bucket - slotBucket < BUCKET_COUNT) {
+                    total += (int) (slot & COUNT_MASK);
+                }
+            }
+            return total;
+        }
+    }
+}
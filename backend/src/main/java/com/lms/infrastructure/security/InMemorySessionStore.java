@@ -0,0 +1,49 @@
+package com.lms.infrastructure.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 세션 저장소 (단일 노드용)
+ *
+ * 재시작 시 세션이 유지되지 않으며 노드 간 공유되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "security.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
+
+    private final ConcurrentHashMap<String, Long> lastAccessedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String username, long createdAt, long lastAccessedAt) {
+        this.lastAccessedAt.put(username, lastAccessedAt);
+    }
+
+    @Override
+    public void touchAll(Map<String, Long> lastAccessedAtByUsername) {
+        lastAccessedAtByUsername.forEach((username, accessedAt) ->
+                lastAccessedAt.computeIfPresent(username, (key, stored) -> Math.max(stored, accessedAt)));
+    }
+
+    @Override
+    public OptionalLong findLastAccessedAt(String username) {
+        Long accessedAt = lastAccessedAt.get(username);
+        return accessedAt != null ? OptionalLong.of(accessedAt) : OptionalLong.empty();
+    }
+
+    @Override
+    public void remove(String username) {
+        lastAccessedAt.remove(username);
+    }
+
+    @Override
+    public int removeInactiveSince(long cutoff) {
+        int before = lastAccessedAt.size();
+        lastAccessedAt.values().removeIf(accessedAt -> accessedAt <= cutoff);
+        return Math.max(0, before - lastAccessedAt.size());
+    }
+}
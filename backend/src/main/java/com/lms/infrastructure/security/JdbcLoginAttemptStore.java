@@ -0,0 +1,67 @@
+package com.lms.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 기반 로그인 시도 저장소 (다중 노드 배포용)
+ * 
+ * login_attempts 테이블에 시도 시각을 기록하고 윈도우 내 건수를 집계
+ * - 각 요청은 자기 행을 INSERT한 뒤 집계하므로 동시 요청 중 k번째로 집계한 요청은 k건 이상을 봄
+ * - 일정 건수마다 윈도우가 지난 행 정리
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limiting.store", havingValue = "jdbc")
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+    private static final int CLEANUP_EVERY = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long windowMillis;
+    private final AtomicLong recordCount = new AtomicLong();
+
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate,
+                                 @Value("${security.rate-limiting.login-attempts.window-minutes:15}") long windowMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+    }
+
+    @Override
+    public int recordAttempt(String key, long now) {
+        jdbcTemplate.update("INSERT INTO login_attempts (attempt_key, attempted_at) VALUES (?, ?)",
+                key, new Timestamp(now));
+
+        if (recordCount.incrementAndGet() % CLEANUP_EVERY == 0) {
+            jdbcTemplate.update("DELETE FROM login_attempts WHERE attempted_at <= ?",
+                    new Timestamp(now - windowMillis));
+        }
+        return countAttempts(key, now);
+    }
+
+    @Override
+    public int countAttempts(String key, long now) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_attempts WHERE attempt_key = ? AND attempted_at > ?",
+                Integer.class, key, new Timestamp(now - windowMillis));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void release(String key, long attemptedAt) {
+        // 같은 키/시각의 행 중 한 건만 삭제 (login_attempts에 PK가 없어 PostgreSQL ctid 사용)
+        jdbcTemplate.update("DELETE FROM login_attempts WHERE ctid = "
+                        + "(SELECT ctid FROM login_attempts WHERE attempt_key = ? AND attempted_at = ? LIMIT 1)",
+                key, new Timestamp(attemptedAt));
+    }
+
+    @Override
+    public void reset(String key) {
+        jdbcTemplate.update("DELETE FROM login_attempts WHERE attempt_key = ?", key);
+    }
+}
@@ -0,0 +1,67 @@
+package com.lms.infrastructure.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * DB 기반 세션 저장소 (다중 노드 배포용)
+ *
+ * user_sessions (UNLOGGED) 테이블 사용
+ * - 활동 시각은 batch update 한 번으로 반영하며 GREATEST로 다른 노드의 더 최신 값을 보존
+ */
+@Component
+@ConditionalOnProperty(name = "security.session.store", havingValue = "jdbc")
+public class JdbcSessionStore implements SessionStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSessionStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(String username, long createdAt, long lastAccessedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO user_sessions (username, created_at, last_accessed_at) VALUES (?, ?, ?)
+                ON CONFLICT (username) DO UPDATE
+                SET created_at = EXCLUDED.created_at, last_accessed_at = EXCLUDED.last_accessed_at
+                """, username, new Timestamp(createdAt), new Timestamp(lastAccessedAt));
+    }
+
+    @Override
+    public void touchAll(Map<String, Long> lastAccessedAtByUsername) {
+        if (lastAccessedAtByUsername.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(lastAccessedAtByUsername.size());
+        lastAccessedAtByUsername.forEach((username, accessedAt) ->
+                batchArgs.add(new Object[]{new Timestamp(accessedAt), username}));
+        jdbcTemplate.batchUpdate(
+                "UPDATE user_sessions SET last_accessed_at = GREATEST(last_accessed_at, ?) WHERE username = ?",
+                batchArgs);
+    }
+
+    @Override
+    public OptionalLong findLastAccessedAt(String username) {
+        List<Timestamp> result = jdbcTemplate.queryForList(
+                "SELECT last_accessed_at FROM user_sessions WHERE username = ?", Timestamp.class, username);
+        return result.isEmpty() ? OptionalLong.empty() : OptionalLong.of(result.get(0).getTime());
+    }
+
+    @Override
+    public void remove(String username) {
+        jdbcTemplate.update("DELETE FROM user_sessions WHERE username = ?", username);
+    }
+
+    @Override
+    public int removeInactiveSince(long cutoff) {
+        return jdbcTemplate.update("DELETE FROM user_sessions WHERE last_accessed_at <= ?", new Timestamp(cutoff));
+    }
+}
@@ -19,10 +19,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final SessionManager sessionManager;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache, SessionManager sessionManager) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.sessionManager = sessionManager;
     }
 
     @Override
@@ -31,12 +36,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String token = getTokenFromRequest(request);
         
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        VerifiedToken verifiedToken = token != null ? jwtTokenProvider.parseToken(token).orElse(null) : null;
+        
+        // 토큰이 유효해도 세션이 만료/로그아웃된 사용자는 인증하지 않음
+        if (verifiedToken != null && sessionManager.isSessionValid(verifiedToken.getSubject())) {
+            sessionManager.updateSessionActivity(verifiedToken.getSubject());
+            UserDetails userDetails = principalCache.get(verifiedToken.getSubject(), verifiedToken.getIssuedAt(),
+                    userDetailsService::loadUserByUsername);
             UsernamePasswordAuthenticationToken authentication = 
-                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities()); // 로그아웃 시 폐기용 토큰 보관
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -2,29 +2,46 @@ package com.lms.infrastructure.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long jwtExpirationInMs;
+    private final JwtParser jwtParser; // 불변/스레드 안전하므로 한 번만 생성
+    private final VerifiedTokenCache verifiedTokenCache;
 
+    public JwtTokenProvider(String secret, long jwtExpirationInMs) {
+        this(secret, jwtExpirationInMs, VerifiedTokenCache.disabled());
+    }
+
+    @Autowired
     public JwtTokenProvider(@Value("${jwt.secret:defaultSecretKeyForDevelopmentOnlyNotForProduction123456789}") String secret,
-                           @Value("${jwt.expiration:86400000}") long jwtExpirationInMs) {
+                           @Value("${jwt.expiration:86400000}") long jwtExpirationInMs,
+                           VerifiedTokenCache verifiedTokenCache) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String generateToken(String username) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
+        // 클레임 시각은 초 단위 → 같은 초에 재발급해도 토큰이 달라지도록 jti 부여 (폐기 목록 충돌 방지)
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -32,35 +49,49 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 클레임을 반환
+     * 검증 결과 캐시를 먼저 조회하며, 유효하지 않거나 폐기된 토큰이면 빈 값을 반환
+     */
+    public Optional<VerifiedToken> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return verifiedTokenCache.verify(token, this::verifySignature);
+    }
 
-        return claims.getSubject();
+    /**
+     * 토큰 폐기 (로그아웃 시 만료 전까지 재사용 불가)
+     */
+    public void revokeToken(String token) {
+        parseToken(token).ifPresent(verifiedToken -> verifiedTokenCache.revoke(token, verifiedToken));
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String authToken) {
+        return parseToken(authToken).isPresent();
+    }
+
+    public Date getExpirationDateFromToken(String token) {
+        return parseClaims(token).getExpiration();
+    }
+
+    public Date getIssuedAtFromToken(String token) {
+        return parseClaims(token).getIssuedAt();
+    }
+
+    private Optional<VerifiedToken> verifySignature(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
+            return Optional.of(VerifiedToken.from(parseClaims(token)));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration();
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.lms.infrastructure.security;
+
+/**
+ * 로그인 시도 횟수 저장소 (슬라이딩 윈도우)
+ *
+ * - InMemoryLoginAttemptStore: 단일 노드 기본 구현
+ * - JdbcLoginAttemptStore: 다중 노드 배포용 공유 구현
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 시도 1회 기록 후 윈도우 내 시도 횟수 반환
+     * 기록과 집계를 한 번에 처리하므로 동시 요청도 각자 다른 횟수를 받음
+     */
+    int recordAttempt(String key, long now);
+
+    /**
+     * 윈도우 내 시도 횟수 조회
+     */
+    int countAttempts(String key, long now);
+
+    /**
+     * recordAttempt로 기록한 시도 1회 취소 (기록 시 전달한 now 값 사용)
+     */
+    void release(String key, long attemptedAt);
+
+    /**
+     * 시도 기록 초기화
+     */
+    void reset(String key);
+}
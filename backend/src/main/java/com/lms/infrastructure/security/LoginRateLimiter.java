@@ -0,0 +1,96 @@
+package com.lms.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한
+ *
+ * security.rate-limiting.login-attempts 설정에 따라 아이디/IP별 시도 횟수를 제한
+ * - AuthenticationManager(BCrypt) 호출 전에 시도를 먼저 기록(예약)하고 제한을 넘으면 차단
+ *   → 동시에 몰린 요청도 제한 횟수까지만 BCrypt 연산 수행
+ * - 예약한 시도는 실패로 남고, 로그인 성공 시 아이디 기록 초기화 + IP 예약 취소
+ * - 비밀번호 검증을 수행하지 못한 시도(해시 풀 포화 등)는 예약 취소
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final LoginAttemptStore loginAttemptStore;
+    private final int maxAttempts;
+    private final int ipMaxAttempts;
+    private final long windowSeconds;
+
+    public LoginRateLimiter(LoginAttemptStore loginAttemptStore,
+                            @Value("${security.rate-limiting.login-attempts.max-attempts:5}") int maxAttempts,
+                            @Value("${security.rate-limiting.login-attempts.ip-max-attempts:50}") int ipMaxAttempts,
+                            @Value("${security.rate-limiting.login-attempts.window-minutes:15}") long windowMinutes) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.maxAttempts = maxAttempts;
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.windowSeconds = TimeUnit.MINUTES.toSeconds(windowMinutes);
+    }
+
+    /**
+     * 로그인 시도 예약 (아이디/IP 시도 횟수를 원자적으로 증가시킨 뒤 제한 확인)
+     *
+     * @return 예약 시각 (recordSuccess/release에 전달)
+     * @throws LoginThrottledException 시도 횟수 초과 시 (예약은 취소됨)
+     */
+    public long acquire(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        String usernameKey = USERNAME_PREFIX + username;
+        String ipKey = clientIp != null ? IP_PREFIX + clientIp : null;
+
+        // 이미 초과한 경우 기록 없이 차단 (공격 중 저장소 쓰기 방지)
+        if (loginAttemptStore.countAttempts(usernameKey, now) >= maxAttempts) {
+            throw accountThrottled();
+        }
+        if (ipKey != null && loginAttemptStore.countAttempts(ipKey, now) >= ipMaxAttempts) {
+            throw addressThrottled();
+        }
+
+        if (loginAttemptStore.recordAttempt(usernameKey, now) > maxAttempts) {
+            loginAttemptStore.release(usernameKey, now);
+            throw accountThrottled();
+        }
+        if (ipKey != null && loginAttemptStore.recordAttempt(ipKey, now) > ipMaxAttempts) {
+            loginAttemptStore.release(ipKey, now);
+            loginAttemptStore.release(usernameKey, now);
+            throw addressThrottled();
+        }
+        return now;
+    }
+
+    /**
+     * 로그인 성공 시 아이디 기준 기록 초기화 및 IP 예약 취소
+     */
+    public void recordSuccess(String username, String clientIp, long attemptedAt) {
+        loginAttemptStore.reset(USERNAME_PREFIX + username);
+        if (clientIp != null) {
+            loginAttemptStore.release(IP_PREFIX + clientIp, attemptedAt);
+        }
+    }
+
+    /**
+     * 비밀번호 검증을 수행하지 못한 시도의 예약 취소
+     */
+    public void release(String username, String clientIp, long attemptedAt) {
+        loginAttemptStore.release(USERNAME_PREFIX + username, attemptedAt);
+        if (clientIp != null) {
+            loginAttemptStore.release(IP_PREFIX + clientIp, attemptedAt);
+        }
+    }
+
+    private LoginThrottledException accountThrottled() {
+        return new LoginThrottledException("Too many failed login attempts for this account", windowSeconds);
+    }
+
+    private LoginThrottledException addressThrottled() {
+        return new LoginThrottledException("Too many failed login attempts from this address", windowSeconds);
+    }
+}
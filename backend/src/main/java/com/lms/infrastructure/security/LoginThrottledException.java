@@ -0,0 +1,17 @@
+package com.lms.infrastructure.security;
+
+import lombok.Getter;
+
+/**
+ * 로그인 시도 제한 초과 예외
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lms.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 생성 및 BCrypt 작업 계수 보정
+ * 
+ * - {id} 접두어 기반 DelegatingPasswordEncoder (기본 bcrypt)
+ * - 접두어 없는 기존 BCrypt 해시도 검증 가능하며, 로그인 시 재해시 대상(upgradeEncoding)으로 판단
+ * - 배포 환경 하드웨어에서 목표 시간에 맞는 BCrypt cost 산출
+ */
+@Slf4j
+public final class PasswordEncoderFactory {
+
+    public static final String DEFAULT_ENCODER_ID = "bcrypt";
+    public static final int MIN_BCRYPT_STRENGTH = 10;
+    public static final int MAX_BCRYPT_STRENGTH = 16;
+
+    private static final String CALIBRATION_PASSWORD = "CalibrationPassword123!";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoderFactory() {
+        // Utility class
+    }
+
+    /**
+     * 지정한 BCrypt cost를 기본으로 하는 DelegatingPasswordEncoder 생성
+     */
+    public static PasswordEncoder create(int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(DEFAULT_ENCODER_ID, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(DEFAULT_ENCODER_ID, encoders);
+        // 접두어 없는 기존 해시 ($2a$12$...) 검증용
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+        return delegatingPasswordEncoder;
+    }
+
+    /**
+     * 목표 해시 시간(ms)에 도달하는 최소 BCrypt cost 산출
+     * 
+     * 최소 cost에서 실측한 뒤 cost 1 증가마다 2배로 외삽
+     */
+    public static int calibrateBCryptStrength(long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+        encoder.encode(CALIBRATION_PASSWORD); // JIT 워밍업
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        int strength = MIN_BCRYPT_STRENGTH;
+        double estimatedMillis = bestNanos / 1_000_000.0;
+        while (strength < MAX_BCRYPT_STRENGTH && estimatedMillis < targetMillis) {
+            strength++;
+            estimatedMillis *= 2;
+        }
+
+        log.info("BCrypt cost 보정 완료 - 목표: {}ms, cost: {}, 예상 소요: {}ms",
+                targetMillis, strength, Math.round(estimatedMillis));
+        return strength;
+    }
+}
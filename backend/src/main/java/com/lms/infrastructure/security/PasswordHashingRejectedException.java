@@ -0,0 +1,11 @@
+package com.lms.infrastructure.security;
+
+/**
+ * 비밀번호 해시 풀 포화로 요청을 처리할 수 없을 때 발생 (503)
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
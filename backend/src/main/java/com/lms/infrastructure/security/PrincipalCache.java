@@ -0,0 +1,78 @@
+package com.lms.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lms.domain.events.UserSecurityChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증 주체(UserDetails) 캐시
+ *
+ * JWT 인증 요청마다 users 테이블을 조회하지 않도록 UserDetails를 보관
+ * - (username, 토큰 발급 시각) 단위로 캐싱
+ * - 최대 크기 및 TTL 제한
+ * - 비밀번호/상태 변경, 로그아웃 시 무효화
+ * - hit/miss 통계는 actuator 메트릭(cache.gets 등)으로 노출
+ */
+@Component
+public class PrincipalCache {
+
+    static final String CACHE_NAME = "principalCache";
+
+    private final Cache<PrincipalKey, UserDetails> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 인증 주체 조회 (없으면 loader로 적재)
+     */
+    public UserDetails get(String username, long issuedAt, Function<String, UserDetails> loader) {
+        return cache.get(new PrincipalKey(username, issuedAt), key -> loader.apply(key.username()));
+    }
+
+    /**
+     * 특정 사용자의 캐시 항목 전체 무효화
+     */
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.username().equals(username));
+    }
+
+    /**
+     * 비밀번호/상태 변경 커밋 후 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    /**
+     * 현재 캐시 크기 (추정치)
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record PrincipalKey(String username, long issuedAt) {
+    }
+}
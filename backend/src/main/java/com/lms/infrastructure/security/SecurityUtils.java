@@ -24,6 +24,17 @@ public class SecurityUtils {
         return Optional.empty();
     }
 
+    /**
+     * Get the raw bearer token of the current request (set by JwtAuthenticationFilter)
+     */
+    public static Optional<String> getCurrentToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getCredentials() instanceof String token) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Get the current authentication object
      */
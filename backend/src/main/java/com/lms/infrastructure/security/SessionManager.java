@@ -1,53 +1,260 @@
 package com.lms.infrastructure.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
+/**
+ * 사용자 세션 관리
+ *
+ * - security.session.timeout-minutes 기준 비활성 세션 만료
+ * - 만료 처리는 계층형 타이밍 휠로 수행 (전체 세션 스캔 없음)
+ * - 활동 갱신 시에는 휠을 건드리지 않고, 만료 차례가 온 세션만 마지막 활동 시각으로 재등록
+ * - 활동 시각은 세션별 long 슬롯에 touch-granularity-ms 이상 지난 경우에만 기록 (할당/잠금 없음)
+ * - 사용자당 세션 1개 (새 로그인은 기존 세션 대체, max-concurrent-sessions는 1만 허용)
+ * - 세션 수, 만료/대체 건수 메트릭 제공
+ * - 생성/삭제는 SessionStore에 즉시 반영, 활동 시각은 모아서 flush-interval-seconds마다 일괄 반영
+ * - 로컬에 없거나 로컬 기준 만료된 세션은 SessionStore에서 다시 확인 (다른 노드의 활동 반영)
+ * - 로컬 세션도 마지막 저장소 확인 후 flush-interval-seconds가 지나면 다시 확인 (다른 노드의 로그아웃 반영)
+ * - 로컬 만료와 저장소 확인은 같은 Clock 기준
+ */
 @Component
-public class SessionManager {
+@Slf4j
+public class SessionManager implements DisposableBean {
 
-    private final ConcurrentHashMap<String, Long> activeSessions = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    private final long sessionTimeoutMs = 30 * 60 * 1000; // 30 minutes
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 64;
 
-    public SessionManager() {
-        // Clean up expired sessions every 5 minutes
-        scheduler.scheduleAtFixedRate(this::cleanupExpiredSessions, 5, 5, TimeUnit.MINUTES);
+    private final ConcurrentHashMap<String, SessionEntry> activeSessions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<SessionEntry> dirtySessions = new ConcurrentLinkedQueue<>();
+    private final HierarchicalTimingWheel<SessionEntry> expiryWheel;
+    private final SessionStore sessionStore;
+    private final ScheduledExecutorService scheduler;
+    private final long sessionTimeoutMs;
+    private final long touchGranularityMs;
+    private final long flushIntervalMs;
+    private final int maxConcurrentSessions;
+    private final Clock clock;
+
+    private final Counter expiredCounter;
+    private final Counter replacedCounter;
+
+    @Autowired
+    public SessionManager(SessionStore sessionStore,
+                          @Value("${security.session.timeout-minutes:30}") long timeoutMinutes,
+                          @Value("${security.session.max-concurrent-sessions:1}") int maxConcurrentSessions,
+                          @Value("${security.session.flush-interval-seconds:5}") long flushIntervalSeconds,
+                          @Value("${security.session.touch-granularity-ms:1000}") long touchGranularityMs,
+                          MeterRegistry meterRegistry) {
+        this(sessionStore, timeoutMinutes, maxConcurrentSessions, flushIntervalSeconds, touchGranularityMs,
+                meterRegistry, Clock.systemUTC());
+    }
+
+    SessionManager(SessionStore sessionStore, long timeoutMinutes, int maxConcurrentSessions,
+                   long flushIntervalSeconds, long touchGranularityMs, MeterRegistry meterRegistry, Clock clock) {
+        if (maxConcurrentSessions != 1) {
+            // 세션은 사용자 단위로 관리되어 새 로그인은 항상 기존 세션을 대체 (설정과 다르게 동작하지 않도록 기동 실패)
+            throw new IllegalArgumentException(
+                    "security.session.max-concurrent-sessions는 1만 지원합니다: " + maxConcurrentSessions);
+        }
+        this.sessionStore = sessionStore;
+        this.touchGranularityMs = touchGranularityMs;
+        this.flushIntervalMs = TimeUnit.SECONDS.toMillis(flushIntervalSeconds);
+        this.sessionTimeoutMs = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.maxConcurrentSessions = maxConcurrentSessions;
+        this.clock = clock;
+        this.expiryWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, sessionTimeoutMs, clock.millis());
+
+        Gauge.builder("security.sessions.active", activeSessions, ConcurrentHashMap::size)
+                .description("Active user sessions")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("security.sessions.expired")
+                .description("Sessions expired by inactivity")
+                .register(meterRegistry);
+        this.replacedCounter = Counter.builder("security.sessions.replaced")
+                .description("Sessions terminated by a newer login of the same user")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // tick 단위로 만료 시각에 도달한 세션만 처리
+        scheduler.scheduleAtFixedRate(this::expireSessions, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::flushSessions, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
     }
 
     public void createSession(String username) {
-        activeSessions.put(username, System.currentTimeMillis());
+        long now = clock.millis();
+        SessionEntry session = new SessionEntry(username, now);
+        sessionStore.save(username, now, now);
+        SessionEntry previous = activeSessions.put(username, session);
+        if (previous != null) {
+            replacedCounter.increment();
+        }
+        expiryWheel.schedule(session, now + sessionTimeoutMs);
     }
 
     public void updateSessionActivity(String username) {
-        if (activeSessions.containsKey(username)) {
-            activeSessions.put(username, System.currentTimeMillis());
+        SessionEntry session = activeSessions.get(username);
+        if (session == null) {
+            return;
+        }
+        // 같은 구간 내 반복 요청은 읽기만 하고 종료 (캐시 라인 공유 상태 유지)
+        long now = clock.millis();
+        if (now - session.lastAccessedAt < touchGranularityMs) {
+            return;
+        }
+        session.lastAccessedAt = now;
+        if (session.dirty == 0 && SessionEntry.DIRTY.compareAndSet(session, 0, 1)) {
+            dirtySessions.add(session);
         }
     }
 
     public boolean isSessionValid(String username) {
-        Long lastActivity = activeSessions.get(username);
-        if (lastActivity == null) {
+        long now = clock.millis();
+        SessionEntry session = activeSessions.get(username);
+        if (session != null && now - session.lastAccessedAt < sessionTimeoutMs
+                && now - session.storeCheckedAt < flushIntervalMs) {
+            return true;
+        }
+
+        // 저장소에 없으면 다른 노드에서 로그아웃/만료 처리된 세션
+        OptionalLong storedAccessedAt = sessionStore.findLastAccessedAt(username);
+        if (storedAccessedAt.isEmpty()) {
+            if (session != null) {
+                activeSessions.remove(username, session);
+            }
             return false;
         }
-        return System.currentTimeMillis() - lastActivity < sessionTimeoutMs;
+
+        // 저장소 값은 flush 주기만큼 늦을 수 있으므로 로컬 활동 시각과 큰 쪽으로 판단
+        long lastAccessedAt = Math.max(storedAccessedAt.getAsLong(), session != null ? session.lastAccessedAt : 0);
+        if (now - lastAccessedAt >= sessionTimeoutMs) {
+            return false;
+        }
+
+        // 다른 노드에서 생성/갱신된 세션을 로컬 테이블에 반영
+        if (session != null) {
+            session.lastAccessedAt = lastAccessedAt;
+            session.storeCheckedAt = now;
+        } else {
+            SessionEntry restored = new SessionEntry(username, storedAccessedAt.getAsLong());
+            restored.storeCheckedAt = now;
+            if (activeSessions.putIfAbsent(username, restored) == null) {
+                expiryWheel.schedule(restored, restored.lastAccessedAt + sessionTimeoutMs);
+            }
+        }
+        return true;
     }
 
     public void removeSession(String username) {
         activeSessions.remove(username);
-    }
-
-    private void cleanupExpiredSessions() {
-        long currentTime = System.currentTimeMillis();
-        activeSessions.entrySet().removeIf(entry -> 
-            currentTime - entry.getValue() > sessionTimeoutMs);
+        sessionStore.remove(username);
     }
 
     public int getActiveSessionCount() {
         return activeSessions.size();
     }
-}
\ No newline at end of file
+
+    public int getMaxConcurrentSessions() {
+        return maxConcurrentSessions;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        flushSessions();
+    }
+
+    private void expireSessions() {
+        try {
+            expireSessions(clock.millis());
+        } catch (RuntimeException e) {
+            log.error("세션 만료 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 모아둔 활동 시각을 SessionStore에 일괄 반영하고 비활성 세션 정리
+     */
+    void flushSessions() {
+        try {
+            Map<String, Long> touches = new HashMap<>();
+            SessionEntry session;
+            while ((session = dirtySessions.poll()) != null) {
+                SessionEntry.DIRTY.set(session, 0);
+                if (activeSessions.get(session.username) == session) {
+                    touches.put(session.username, session.lastAccessedAt);
+                }
+            }
+            sessionStore.touchAll(touches);
+            sessionStore.removeInactiveSince(clock.millis() - sessionTimeoutMs);
+        } catch (RuntimeException e) {
+            log.error("세션 저장소 반영 중 오류 발생", e);
+        }
+    }
+
+    void expireSessions(long now) {
+        expiryWheel.advanceTo(now, session -> onDeadline(session, now));
+    }
+
+    private void onDeadline(SessionEntry session, long now) {
+        // 제거되었거나 재로그인으로 대체된 세션
+        // (로컬 만료 후에도 다른 노드에서 갱신된 세션은 isSessionValid에서 저장소 조회로 복원)
+        if (activeSessions.get(session.username) != session) {
+            return;
+        }
+
+        long deadline = session.lastAccessedAt + sessionTimeoutMs;
+        if (deadline <= now) {
+            if (activeSessions.remove(session.username, session)) {
+                expiredCounter.increment();
+            }
+        } else {
+            // 그 사이 활동이 있었던 세션은 마지막 활동 기준으로 재등록
+            expiryWheel.schedule(session, deadline);
+        }
+    }
+
+    /**
+     * 세션 정보 (마지막 활동 시각만 변경됨)
+     * - dirty: 저장소에 아직 반영되지 않은 활동이 있어 반영 대기열에 들어가 있는지 여부 (0/1)
+     * - storeCheckedAt: 저장소와 마지막으로 맞춰 본 시각 (생성/복원 시각으로 시작)
+     */
+    static final class SessionEntry {
+
+        static final AtomicIntegerFieldUpdater<SessionEntry> DIRTY =
+                AtomicIntegerFieldUpdater.newUpdater(SessionEntry.class, "dirty");
+
+        final String username;
+        final long createdAt;
+        volatile long lastAccessedAt;
+        volatile int dirty;
+        volatile long storeCheckedAt;
+
+        SessionEntry(String username, long createdAt) {
+            this.username = username;
+            this.createdAt = createdAt;
+            this.lastAccessedAt = createdAt;
+            this.storeCheckedAt = createdAt;
+        }
+    }
+}
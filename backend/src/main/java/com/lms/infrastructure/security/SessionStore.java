@@ -0,0 +1,38 @@
+package com.lms.infrastructure.security;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 세션 저장소
+ *
+ * SessionManager의 로컬 세션 테이블 뒤에서 노드 간 세션을 공유하는 저장소
+ * - 생성/삭제는 즉시 반영, 활동 시각은 SessionManager가 모아서 일괄 반영
+ * - 시각은 모두 epoch millis
+ */
+public interface SessionStore {
+
+    /**
+     * 세션 저장 (같은 사용자의 기존 세션은 대체)
+     */
+    void save(String username, long createdAt, long lastAccessedAt);
+
+    /**
+     * 마지막 활동 시각 일괄 갱신 (저장된 값보다 이후인 경우만)
+     */
+    void touchAll(Map<String, Long> lastAccessedAtByUsername);
+
+    /**
+     * 마지막 활동 시각 조회
+     */
+    OptionalLong findLastAccessedAt(String username);
+
+    void remove(String username);
+
+    /**
+     * cutoff 이전에 마지막으로 활동한 세션 삭제
+     *
+     * @return 삭제된 세션 수
+     */
+    int removeInactiveSince(long cutoff);
+}
@@ -0,0 +1,37 @@
+package com.lms.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ * 
+ * 한 번의 파싱/서명 검증 결과를 재사용하기 위한 불변 객체
+ */
+@Getter
+@RequiredArgsConstructor
+public final class VerifiedToken {
+
+    private final String subject;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(claims.getSubject(), toMillis(claims.getIssuedAt()), toMillis(claims.getExpiration()));
+    }
+
+    public Date getIssuedAtDate() {
+        return new Date(issuedAt);
+    }
+
+    public Date getExpirationDate() {
+        return new Date(expiresAt);
+    }
+
+    private static long toMillis(Date date) {
+        return date != null ? date.getTime() : 0L;
+    }
+}
@@ -0,0 +1,149 @@
+package com.lms.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 JWT 캐시
+ *
+ * 같은 토큰이 유효기간 동안 반복 전송되므로 HMAC 검증 결과를 재사용
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트 앞 128비트 (long 2개)
+ * - 토큰 만료 시각에 맞춰 항목 만료
+ * - 로그아웃 시 폐기(revoke)된 토큰은 만료 시각까지 거부
+ * - 캐시 사용 여부와 관계없이 폐기 목록은 항상 적용
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "jwtVerifiedCache";
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    });
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, VerifiedToken> verified;
+    // 폐기 목록은 크기 제한으로 밀려나면 안 되므로 만료 시각으로만 제거
+    private final Cache<TokenDigest, Long> revoked;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.verified-cache.max-size:100000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry<VerifiedToken>(VerifiedToken::getExpiresAt))
+                .recordStats()
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new TokenExpiry<Long>(Long::longValue))
+                .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+        }
+    }
+
+    /**
+     * 캐시를 사용하지 않는 인스턴스 (폐기 목록만 동작)
+     */
+    public static VerifiedTokenCache disabled() {
+        return new VerifiedTokenCache(false, 0, null);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 verifier로 검증하고 결과를 저장
+     */
+    public Optional<VerifiedToken> verify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        if (!enabled && revoked.asMap().isEmpty()) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        if (revoked.getIfPresent(digest) != null) {
+            return Optional.empty();
+        }
+
+        if (enabled) {
+            VerifiedToken cached = verified.getIfPresent(digest);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<VerifiedToken> result = verifier.apply(token);
+        if (enabled) {
+            result.ifPresent(verifiedToken -> verified.put(digest, verifiedToken));
+        }
+        return result;
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각까지 거부)
+     */
+    public void revoke(String token, VerifiedToken verifiedToken) {
+        TokenDigest digest = TokenDigest.of(token);
+        verified.invalidate(digest);
+        revoked.put(digest, verifiedToken.getExpiresAt());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 원문 대신 보관하는 고정 크기 키 (SHA-256 앞 128비트)
+     */
+    record TokenDigest(long high, long low) {
+
+        static TokenDigest of(String token) {
+            byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(hash);
+            return new TokenDigest(buffer.getLong(0), buffer.getLong(8));
+        }
+    }
+
+    /**
+     * 항목별 만료: 토큰의 exp 시각까지 남은 시간
+     */
+    private static final class TokenExpiry<V> implements Expiry<TokenDigest, V> {
+
+        private final Function<V, Long> expiresAt;
+
+        private TokenExpiry(Function<V, Long> expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, V value, long currentTime) {
+            long remainingMs = expiresAt.apply(value) - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
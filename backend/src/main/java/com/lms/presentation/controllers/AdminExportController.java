@@ -0,0 +1,91 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.usecases.admin.AdminExportUseCase;
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 관리자 목록 내보내기 컨트롤러 (관리자 전용)
+ * 
+ * - 회원/협약사/과정 목록 CSV 다운로드 (UTF-8 BOM, Excel에서 바로 열림)
+ * - 응답 스트림에 조회되는 대로 한 행씩 전송
+ */
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final AdminExportUseCase adminExportUseCase;
+
+    /**
+     * 회원 목록 내보내기 API
+     * 
+     * @param userType 사용자 유형
+     * @param status 사용자 상태
+     * @param companyId 소속 협약사 ID
+     * @return 회원 목록 CSV
+     */
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) User.UserType userType,
+            @RequestParam(required = false) User.Status status,
+            @RequestParam(required = false) Long companyId) {
+        log.info("회원 목록 내보내기 요청 - 유형: {}, 상태: {}, 회사 ID: {}", userType, status, companyId);
+        return csv("users", output -> adminExportUseCase.exportUsers(userType, status, companyId, output));
+    }
+
+    /**
+     * 협약사 목록 내보내기 API
+     * 
+     * @param contractStatus 계약 상태
+     * @return 협약사 목록 CSV
+     */
+    @GetMapping("/companies")
+    public ResponseEntity<StreamingResponseBody> exportCompanies(
+            @RequestParam(required = false) Company.ContractStatus contractStatus) {
+        log.info("협약사 목록 내보내기 요청 - 계약 상태: {}", contractStatus);
+        return csv("companies", output -> adminExportUseCase.exportCompanies(contractStatus, output));
+    }
+
+    /**
+     * 과정 목록 내보내기 API
+     * 
+     * @param courseType 과정 유형
+     * @param status 과정 상태
+     * @return 과정 목록 CSV
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+            @RequestParam(required = false) Course.CourseType courseType,
+            @RequestParam(required = false) Course.CourseStatus status) {
+        log.info("과정 목록 내보내기 요청 - 유형: {}, 상태: {}", courseType, status);
+        return csv("courses", output -> adminExportUseCase.exportCourses(courseType, status, output));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(String name, StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".csv";
+        ContentDisposition disposition = ContentDisposition.attachment().filename(filename).build();
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,114 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.dto.response.ApiResponse;
+import com.lms.application.dto.response.CursorPage;
+import com.lms.application.usecases.admin.AdminListUseCase;
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 목록 조회 컨트롤러 (관리자 전용)
+ * 
+ * - 회원/협약사/협약사 소속 직원/과정 목록 API
+ * - keyset 페이지: 응답의 nextCursor를 다음 요청의 after로 전달 (limit 기본 50, 최대 500)
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminListController {
+
+    private final AdminListUseCase adminListUseCase;
+
+    /**
+     * 회원 목록 API
+     * 
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기
+     * @param userType 사용자 유형
+     * @param status 사용자 상태
+     * @param employee 재직자 여부
+     * @return 회원 목록 페이지
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<CursorPage<UserRepository.UserListView>>> listUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) User.UserType userType,
+            @RequestParam(required = false) User.Status status,
+            @RequestParam(required = false) Boolean employee) {
+        CursorPage<UserRepository.UserListView> page =
+                adminListUseCase.listUsers(after, limit, userType, status, null, employee);
+        return ResponseEntity.ok(ApiResponse.success("회원 목록 조회 성공", page));
+    }
+
+    /**
+     * 협약사 목록 API
+     * 
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기
+     * @param contractStatus 계약 상태 (PENDING: 승인 대기, 등록 순)
+     * @return 협약사 목록 페이지
+     */
+    @GetMapping("/companies")
+    public ResponseEntity<ApiResponse<CursorPage<CompanyRepository.CompanyListView>>> listCompanies(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Company.ContractStatus contractStatus) {
+        CursorPage<CompanyRepository.CompanyListView> page =
+                adminListUseCase.listCompanies(after, limit, contractStatus);
+        return ResponseEntity.ok(ApiResponse.success("협약사 목록 조회 성공", page));
+    }
+
+    /**
+     * 협약사 소속 직원 목록 API
+     * 
+     * @param companyId 협약사 ID
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기
+     * @param status 사용자 상태 (PENDING: 승인 대기 재직자)
+     * @return 직원 목록 페이지
+     */
+    @GetMapping("/companies/{companyId}/employees")
+    public ResponseEntity<ApiResponse<CursorPage<UserRepository.UserListView>>> listEmployees(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) User.Status status) {
+        CursorPage<UserRepository.UserListView> page =
+                adminListUseCase.listUsers(after, limit, null, status, companyId, null);
+        return ResponseEntity.ok(ApiResponse.success("직원 목록 조회 성공", page));
+    }
+
+    /**
+     * 과정 목록 API
+     * 
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기
+     * @param courseType 과정 유형
+     * @param includeCommon 유형 지정 시 공통 과정 포함 여부
+     * @param status 과정 상태
+     * @return 과정 목록 페이지
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<ApiResponse<CursorPage<CourseRepository.CourseListView>>> listCourses(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Course.CourseType courseType,
+            @RequestParam(defaultValue = "false") boolean includeCommon,
+            @RequestParam(required = false) Course.CourseStatus status) {
+        CursorPage<CourseRepository.CourseListView> page =
+                adminListUseCase.listCourses(after, limit, courseType, includeCommon, status);
+        return ResponseEntity.ok(ApiResponse.success("과정 목록 조회 성공", page));
+    }
+}
@@ -0,0 +1,112 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.dto.response.ApiResponse;
+import com.lms.application.dto.response.CompanySummary;
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.application.dto.response.UserResponse;
+import com.lms.application.usecases.search.AdminSearchUseCase;
+import com.lms.infrastructure.search.CompanySearchIndex;
+import com.lms.infrastructure.search.CourseSearchIndex;
+import com.lms.infrastructure.search.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 검색 컨트롤러 (관리자 전용)
+ * 
+ * - 회원/협약사/과정 부분 일치 검색 API (한글 초성 검색 지원)
+ * - 검색 색인 재구성 API
+ */
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminSearchController {
+
+    private final AdminSearchUseCase adminSearchUseCase;
+    private final UserSearchIndex userSearchIndex;
+    private final CompanySearchIndex companySearchIndex;
+    private final CourseSearchIndex courseSearchIndex;
+
+    /**
+     * 회원 검색 API
+     * 
+     * @param name 이름 (부분 일치)
+     * @param email 이메일 (부분 일치)
+     * @param limit 최대 결과 수 (기본 50, 최대 200)
+     * @return 검색된 회원 목록
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Integer limit) {
+        List<UserResponse> users = adminSearchUseCase.searchUsers(name, email, limit);
+        return ResponseEntity.ok(ApiResponse.success("회원 검색 성공", users));
+    }
+
+    /**
+     * 협약사 검색 API
+     * 
+     * @param companyName 회사명 (부분 일치)
+     * @param representative 대표자명 (부분 일치)
+     * @param limit 최대 결과 수 (기본 50, 최대 200)
+     * @return 검색된 협약사 목록
+     */
+    @GetMapping("/companies")
+    public ResponseEntity<ApiResponse<List<CompanySummary>>> searchCompanies(
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) String representative,
+            @RequestParam(required = false) Integer limit) {
+        List<CompanySummary> companies = adminSearchUseCase.searchCompanies(companyName, representative, limit);
+        return ResponseEntity.ok(ApiResponse.success("협약사 검색 성공", companies));
+    }
+
+    /**
+     * 과정 검색 API
+     * 
+     * @param title 과정명 (부분 일치)
+     * @param limit 최대 결과 수 (기본 50, 최대 200)
+     * @return 검색된 과정 목록 (상태 무관)
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> searchCourses(
+            @RequestParam String title,
+            @RequestParam(required = false) Integer limit) {
+        List<CourseSummary> courses = adminSearchUseCase.searchCourses(title, limit);
+        return ResponseEntity.ok(ApiResponse.success("과정 검색 성공", courses));
+    }
+
+    /**
+     * 검색 색인 재구성 API
+     * 
+     * @return 색인별 문서 수
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> rebuild() {
+        log.info("검색 색인 재구성 요청");
+
+        try {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("users", userSearchIndex.rebuild());
+            counts.put("companies", companySearchIndex.rebuild());
+            counts.put("courses", courseSearchIndex.rebuild());
+            return ResponseEntity.ok(ApiResponse.success("검색 색인을 재구성했습니다", counts));
+        } catch (Exception e) {
+            log.error("검색 색인 재구성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("검색 색인을 재구성할 수 없습니다 (기존 색인 유지)"));
+        }
+    }
+}
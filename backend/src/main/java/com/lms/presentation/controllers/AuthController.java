@@ -43,7 +43,9 @@ public class AuthController {
     public ResponseEntity<ApiResponse<UserResponse>> loginUser(@Valid @RequestBody LoginRequest request, 
                                                               HttpServletRequest httpRequest) {
         try {
-            UserResponse userResponse = loginUseCase.execute(request);
+            // IP별 제한 키는 X-Forwarded-For(클라이언트가 조작 가능) 대신 접속 주소 사용
+            // 신뢰 프록시 뒤에서는 RemoteIpValve가 remoteAddr을 실제 클라이언트 주소로 바꿔 줌 (server.tomcat.remoteip)
+            UserResponse userResponse = loginUseCase.execute(request, httpRequest.getRemoteAddr());
             securityAuditLogger.logLoginAttempt(request.getUsername(), true, httpRequest);
             return new ResponseEntity<>(ApiResponse.success("Login successful.", userResponse), HttpStatus.OK);
         } catch (Exception e) {
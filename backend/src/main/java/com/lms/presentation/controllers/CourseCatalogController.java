@@ -0,0 +1,92 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.dto.response.ApiResponse;
+import com.lms.application.dto.response.CourseSearchResponse;
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.application.usecases.course.CourseSearchUseCase;
+import com.lms.domain.entities.Course;
+import com.lms.infrastructure.catalog.CourseCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 공개 과정 목록 컨트롤러
+ *
+ * - 활성(ACTIVE) 과정만 노출
+ * - 목록/상세는 DB 대신 과정 카탈로그 스냅샷에서 조회
+ * - 키워드 검색은 DB 검색 인덱스 사용 (관련도순, 페이지 단위)
+ */
+@RestController
+@RequestMapping("/api/public/courses")
+@RequiredArgsConstructor
+@Slf4j
+public class CourseCatalogController {
+
+    private final CourseCatalog courseCatalog;
+    private final CourseSearchUseCase courseSearchUseCase;
+
+    /**
+     * 과정 목록 조회 API
+     *
+     * @param audience 신청 대상 (EMPLOYEE: 재직자 신청 가능, JOB_SEEKER: 구직자 신청 가능, 공통 과정 포함)
+     * @param type 과정 유형 (audience보다 우선, 해당 유형만)
+     * @return 활성 과정 목록
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> getCourses(
+            @RequestParam(required = false) Course.CourseType audience,
+            @RequestParam(required = false) Course.CourseType type) {
+        List<CourseSummary> courses;
+        if (type != null) {
+            courses = courseCatalog.find(type, Course.CourseStatus.ACTIVE);
+        } else if (audience == Course.CourseType.EMPLOYEE) {
+            courses = courseCatalog.findCoursesForEmployees();
+        } else if (audience == Course.CourseType.JOB_SEEKER) {
+            courses = courseCatalog.findCoursesForJobSeekers();
+        } else {
+            courses = courseCatalog.findActiveCourses();
+        }
+        return ResponseEntity.ok(ApiResponse.success("과정 목록 조회 성공", courses));
+    }
+
+    /**
+     * 과정 키워드 검색 API
+     *
+     * @param keyword 검색어 (과정명/설명)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 50)
+     * @return 관련도순 활성 과정 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CourseSearchResponse>> searchCourses(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        CourseSearchResponse response = courseSearchUseCase.search(keyword, page, size);
+        return ResponseEntity.ok(ApiResponse.success("과정 검색 성공", response));
+    }
+
+    /**
+     * 과정 상세 조회 API
+     *
+     * @param courseId 과정 ID
+     * @return 활성 과정 정보
+     */
+    @GetMapping("/{courseId}")
+    public ResponseEntity<ApiResponse<CourseSummary>> getCourse(@PathVariable Long courseId) {
+        return courseCatalog.findById(courseId)
+                .filter(course -> course.getStatus() == Course.CourseStatus.ACTIVE)
+                .map(course -> ResponseEntity.ok(ApiResponse.success("과정 조회 성공", course)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("과정을 찾을 수 없습니다")));
+    }
+}
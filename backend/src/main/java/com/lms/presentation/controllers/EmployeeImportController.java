@@ -0,0 +1,92 @@
+package com.lms.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.response.ApiResponse;
+import com.lms.application.dto.response.EmployeeImportSummary;
+import com.lms.application.usecases.user.EmployeeBulkImportUseCase;
+import com.lms.domain.entities.Company;
+import com.lms.infrastructure.registration.EmployeeImportReader;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 협약사 재직자 일괄 등록 컨트롤러 (관리자 전용)
+ *
+ * - 요청 본문: text/csv (헤더 포함) 또는 application/x-ndjson (JSONL)
+ * - 응답: application/x-ndjson, 행별 결과를 처리되는 대로 한 줄씩 전송하고 마지막 줄에 요약({"summary": ...})
+ */
+@RestController
+@RequestMapping("/api/admin/companies/{companyId}/employees")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeImportController {
+
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    static final String JSONL_VALUE = "application/jsonl";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final EmployeeBulkImportUseCase employeeBulkImportUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 재직자 일괄 등록 API
+     *
+     * @param companyId 협약사 ID
+     * @param contentType 업로드 형식
+     * @return 행별 등록 결과 스트림
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", NDJSON_VALUE, JSONL_VALUE}, produces = NDJSON_VALUE)
+    public ResponseEntity<?> importEmployees(@PathVariable Long companyId,
+                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                             HttpServletRequest request) throws IOException {
+        Optional<Company> company = employeeBulkImportUseCase.findCompany(companyId);
+        if (company.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("협약사를 찾을 수 없습니다"));
+        }
+
+        EmployeeImportReader.Format format = TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? EmployeeImportReader.Format.CSV
+                : EmployeeImportReader.Format.JSONL;
+        log.info("재직자 일괄 등록 요청 - 회사 ID: {}, 형식: {}", companyId, format);
+
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> {
+            EmployeeImportSummary summary = employeeBulkImportUseCase.execute(company.get(), input, format,
+                    result -> writeLine(output, result));
+            writeLine(output, Map.of("summary", summary));
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.dto.response.ApiResponse;
+import com.lms.infrastructure.catalog.CourseCatalog;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원가입 관리 컨트롤러 (관리자 전용)
+ * 
+ * - 아이디/이메일 중복 검사 필터 재구성 API
+ * - 아이디 금지어 사전 재적재 API
+ * - 과정 카탈로그 전체 재구성 API
+ */
+@RestController
+@RequestMapping("/api/admin/registration")
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationAdminController {
+
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+    private final CourseCatalog courseCatalog;
+
+    /**
+     * 아이디/이메일 중복 검사 필터 재구성 API
+     * 
+     * @return 적재한 사용자 수
+     */
+    @PostMapping("/identifier-filter/rebuild")
+    public ResponseEntity<ApiResponse<Long>> rebuildIdentifierFilter() {
+        log.info("아이디/이메일 중복 검사 필터 재구성 요청");
+
+        long loaded = userIdentifierFilter.rebuild();
+        if (loaded < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("필터를 재구성할 수 없습니다 (비활성화 또는 재구성 중)"));
+        }
+        return ResponseEntity.ok(ApiResponse.success("중복 검사 필터를 재구성했습니다", loaded));
+    }
+
+    /**
+     * 아이디 금지어 사전 재적재 API
+     * 
+     * @return 아이디 검사에 적용된 금지어 수
+     */
+    @PostMapping("/forbidden-words/reload")
+    public ResponseEntity<ApiResponse<Integer>> reloadForbiddenWords() {
+        log.info("아이디 금지어 사전 재적재 요청");
+
+        try {
+            int wordCount = forbiddenWordDictionary.reload();
+            return ResponseEntity.ok(ApiResponse.success("금지어 사전을 재적재했습니다", wordCount));
+        } catch (Exception e) {
+            log.error("아이디 금지어 사전 재적재 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("금지어 사전을 재적재할 수 없습니다 (기존 사전 유지)"));
+        }
+    }
+
+    /**
+     * 과정 카탈로그 전체 재구성 API (DB를 직접 수정한 경우)
+     * 
+     * @return 카탈로그에 적재한 과정 수
+     */
+    @PostMapping("/course-catalog/refresh")
+    public ResponseEntity<ApiResponse<Integer>> refreshCourseCatalog() {
+        log.info("과정 카탈로그 전체 재구성 요청");
+
+        try {
+            int courseCount = courseCatalog.refresh();
+            return ResponseEntity.ok(ApiResponse.success("과정 카탈로그를 재구성했습니다", courseCount));
+        } catch (Exception e) {
+            log.error("과정 카탈로그 전체 재구성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("과정 카탈로그를 재구성할 수 없습니다 (기존 스냅샷 유지)"));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.lms.presentation.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lms.application.dto.request.EmployeeRegistrationRequest;
 import com.lms.application.dto.request.IdentityVerificationRequest;
 import com.lms.application.dto.request.JobSeekerRegistrationRequest;
@@ -11,7 +13,10 @@ import com.lms.application.usecases.user.EmployeeRegistrationUseCase;
 import com.lms.application.usecases.user.IdentityVerificationUseCase;
 import com.lms.application.usecases.user.JobSeekerRegistrationUseCase;
 import com.lms.application.usecases.user.UsernameValidationUseCase;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.IdempotencyKeyConflictException;
+import com.lms.infrastructure.registration.RegistrationIdempotencyStore;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +25,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.function.Supplier;
+
 /**
  * 회원가입 컨트롤러
  * 
@@ -40,7 +47,13 @@ public class RegistrationController {
     private final EmployeeRegistrationUseCase employeeRegistrationUseCase;
     private final JobSeekerRegistrationUseCase jobSeekerRegistrationUseCase;
     private final UsernameValidationUseCase usernameValidationUseCase;
-    private final UserRepository userRepository;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final RegistrationIdempotencyStore registrationIdempotencyStore;
+    private final ObjectMapper objectMapper;
+    
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
     
     /**
      * 본인인증 API
@@ -77,26 +90,32 @@ public class RegistrationController {
      * 재직자 회원가입 API
      * 
      * @param request 재직자 회원가입 요청
+     * @param idempotencyKey 멱등성 키 (같은 키의 재요청은 처리 결과 재사용)
      * @return 가입 결과
      */
     @PostMapping("/employee")
     public ResponseEntity<ApiResponse<RegistrationResponse>> registerEmployee(
-            @Valid @RequestBody EmployeeRegistrationRequest request) {
+            @Valid @RequestBody EmployeeRegistrationRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
         log.info("재직자 회원가입 요청 - 아이디: {}, 회사: {}", 
                 request.getUsername(), request.getCompanyName());
         
         try {
-            RegistrationResponse response = employeeRegistrationUseCase.execute(request);
+            RegistrationIdempotencyStore.Outcome outcome = register(idempotencyKey,
+                    "employee", request, () -> employeeRegistrationUseCase.execute(request));
+            RegistrationResponse response = outcome.response();
             
             if (response.getSuccess()) {
-                return ResponseEntity.status(HttpStatus.CREATED)
+                return replayAware(ResponseEntity.status(HttpStatus.CREATED), outcome)
                         .body(ApiResponse.success("재직자 회원가입이 완료되었습니다", response));
             } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                return replayAware(ResponseEntity.status(HttpStatus.BAD_REQUEST), outcome)
                         .body(ApiResponse.error(response.getErrorMessage()));
             }
             
+        } catch (PasswordHashingRejectedException | IdempotencyKeyConflictException e) {
+            throw e; // GlobalExceptionHandler에서 503/409 처리
         } catch (Exception e) {
             log.error("재직자 회원가입 처리 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -108,26 +127,32 @@ public class RegistrationController {
      * 구직자 회원가입 API
      * 
      * @param request 구직자 회원가입 요청
+     * @param idempotencyKey 멱등성 키 (같은 키의 재요청은 처리 결과 재사용)
      * @return 가입 결과
      */
     @PostMapping("/job-seeker")
     public ResponseEntity<ApiResponse<RegistrationResponse>> registerJobSeeker(
-            @Valid @RequestBody JobSeekerRegistrationRequest request) {
+            @Valid @RequestBody JobSeekerRegistrationRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
         log.info("구직자 회원가입 요청 - 아이디: {}, 희망직종: {}", 
                 request.getUsername(), request.getDesiredField());
         
         try {
-            RegistrationResponse response = jobSeekerRegistrationUseCase.execute(request);
+            RegistrationIdempotencyStore.Outcome outcome = register(idempotencyKey,
+                    "job-seeker", request, () -> jobSeekerRegistrationUseCase.execute(request));
+            RegistrationResponse response = outcome.response();
             
             if (response.getSuccess()) {
-                return ResponseEntity.status(HttpStatus.CREATED)
+                return replayAware(ResponseEntity.status(HttpStatus.CREATED), outcome)
                         .body(ApiResponse.success("구직자 회원가입이 완료되었습니다", response));
             } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                return replayAware(ResponseEntity.status(HttpStatus.BAD_REQUEST), outcome)
                         .body(ApiResponse.error(response.getErrorMessage()));
             }
             
+        } catch (PasswordHashingRejectedException | IdempotencyKeyConflictException e) {
+            throw e; // GlobalExceptionHandler에서 503/409 처리
         } catch (Exception e) {
             log.error("구직자 회원가입 처리 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -206,16 +231,20 @@ public class RegistrationController {
      * 중복된 아이디 입력 시 대안 제공
      * 
      * @param baseUsername 기본 아이디
+     * @param count 추천 개수 (미지정 시 3개, 3~20)
      * @return 추천 아이디 목록
      */
     @GetMapping("/recommend-username")
     public ResponseEntity<ApiResponse<String[]>> recommendUsername(
-            @RequestParam String baseUsername) {
+            @RequestParam String baseUsername,
+            @RequestParam(required = false) Integer count) {
         
-        log.info("아이디 추천 요청 - 기본 아이디: {}", baseUsername);
+        log.info("아이디 추천 요청 - 기본 아이디: {}, 개수: {}", baseUsername, count);
         
         try {
-            String[] recommendations = usernameValidationUseCase.generateRecommendations(baseUsername);
+            String[] recommendations = count == null
+                    ? usernameValidationUseCase.generateRecommendations(baseUsername)
+                    : usernameValidationUseCase.generateRecommendations(baseUsername, count);
             
             return ResponseEntity.ok(
                     ApiResponse.success("추천 아이디 목록입니다", recommendations)
@@ -284,7 +313,7 @@ public class RegistrationController {
                         .body(ApiResponse.error("올바른 이메일 형식을 입력해주세요"));
             }
             
-            boolean isDuplicate = userRepository.existsByEmail(email);
+            boolean isDuplicate = userIdentifierFilter.emailExists(email);
             
             if (isDuplicate) {
                 return ResponseEntity.ok(
@@ -354,4 +383,29 @@ public class RegistrationController {
         }
         return email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
     }
-}
\ No newline at end of file
+    
+    /**
+     * 멱등성 키가 있으면 키 기준 1회 실행, 없으면 바로 실행
+     * - 요청 식별값은 요청 본문 전체 기준 (같은 키로 아이디 외 항목만 바꾼 요청도 충돌로 처리)
+     */
+    private RegistrationIdempotencyStore.Outcome register(String idempotencyKey, String type, Object request,
+                                                          Supplier<RegistrationResponse> registration)
+            throws JsonProcessingException {
+        if (idempotencyKey == null) {
+            return new RegistrationIdempotencyStore.Outcome(registration.get(), false);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return new RegistrationIdempotencyStore.Outcome(RegistrationResponse.builder()
+                    .success(false)
+                    .errorMessage("멱등성 키는 1~" + MAX_IDEMPOTENCY_KEY_LENGTH + "자여야 합니다")
+                    .build(), false);
+        }
+        String fingerprint = RegistrationIdempotencyStore.fingerprint(type, objectMapper.writeValueAsBytes(request));
+        return registrationIdempotencyStore.execute(idempotencyKey, fingerprint, registration);
+    }
+    
+    private static ResponseEntity.BodyBuilder replayAware(ResponseEntity.BodyBuilder builder,
+                                                          RegistrationIdempotencyStore.Outcome outcome) {
+        return outcome.replayed() ? builder.header(IDEMPOTENT_REPLAYED_HEADER, "true") : builder;
+    }
+}
@@ -4,6 +4,7 @@ import com.lms.application.dto.request.CreateUserRequest;
 import com.lms.application.dto.response.UserResponse;
 import com.lms.application.usecases.user.CreateUserUseCase;
 import com.lms.application.dto.response.ApiResponse;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -55,6 +56,10 @@ public class UserController {
             ApiResponse<UserResponse> response = ApiResponse.error(e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
             
+        } catch (PasswordHashingRejectedException e) {
+            // 해시 풀 포화 (GlobalExceptionHandler에서 503 처리)
+            throw e;
+            
         } catch (Exception e) {
             // 기타 예외
             ApiResponse<UserResponse> response = ApiResponse.error("사용자 생성 중 오류가 발생했습니다");
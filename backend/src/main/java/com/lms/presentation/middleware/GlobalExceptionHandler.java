@@ -1,7 +1,11 @@
 package com.lms.presentation.middleware;
 
 import com.lms.application.dto.response.ApiResponse;
+import com.lms.infrastructure.registration.IdempotencyKeyConflictException;
+import com.lms.infrastructure.security.LoginThrottledException;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -44,6 +48,46 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("Invalid credentials"));
     }
 
+    /**
+     * 로그인 시도 제한 초과 예외 처리
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLoginThrottled(LoginThrottledException ex, HttpServletRequest request) {
+        String clientIp = getClientIpAddress(request);
+        securityLogger.warn("LOGIN_THROTTLED - IP: {}, Message: {}, Timestamp: {}", 
+            clientIp, ex.getMessage(), LocalDateTime.now());
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error("Too many login attempts. Please try again later"));
+    }
+
+    /**
+     * 비밀번호 해시 풀 포화 예외 처리
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        log.warn("Password hashing rejected: {}", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("Service is busy. Please try again shortly"));
+    }
+
+    /**
+     * 멱등성 키 충돌 예외 처리
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex) {
+        log.warn("Idempotency key conflict: {}", ex.getMessage());
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (ex.isInProgress()) {
+            builder.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return builder.body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * 인증 예외 처리
      */
@@ -1,51 +1,71 @@
 package com.lms.presentation.middleware;
 
+import com.lms.infrastructure.audit.AsyncSecurityAuditPublisher;
+import com.lms.infrastructure.audit.SecurityAuditEvent;
 import jakarta.servlet.http.HttpServletRequest;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.util.Enumeration;
-
+/**
+ * 보안 감사 로거
+ * 
+ * 요청 스레드에서는 요청 정보만 추출해 이벤트를 발행하고
+ * 포맷팅 및 저장은 AsyncSecurityAuditPublisher의 writer 스레드에서 배치로 처리
+ */
 @Component
 public class SecurityAuditLogger {
 
-    private static final Logger logger = LoggerFactory.getLogger(SecurityAuditLogger.class);
-    private static final Logger securityLogger = LoggerFactory.getLogger("SECURITY");
+    private final AsyncSecurityAuditPublisher auditPublisher;
+    private final boolean enabled;
+
+    public SecurityAuditLogger(AsyncSecurityAuditPublisher auditPublisher,
+                               @Value("${security.audit.enabled:true}") boolean enabled) {
+        this.auditPublisher = auditPublisher;
+        this.enabled = enabled;
+    }
 
     public void logLoginAttempt(String username, boolean success, HttpServletRequest request) {
-        String clientIp = getClientIpAddress(request);
-        String userAgent = request.getHeader("User-Agent");
-        
-        if (success) {
-            securityLogger.info("LOGIN_SUCCESS - Username: {}, IP: {}, UserAgent: {}, Timestamp: {}", 
-                username, clientIp, userAgent, LocalDateTime.now());
-        } else {
-            securityLogger.warn("LOGIN_FAILED - Username: {}, IP: {}, UserAgent: {}, Timestamp: {}", 
-                username, clientIp, userAgent, LocalDateTime.now());
-        }
+        publish(SecurityAuditEvent.builder()
+                .type(success ? SecurityAuditEvent.Type.LOGIN_SUCCESS : SecurityAuditEvent.Type.LOGIN_FAILED)
+                .username(username)
+                .clientIp(getClientIpAddress(request))
+                .userAgent(request.getHeader("User-Agent")));
     }
 
     public void logLogout(String username, HttpServletRequest request) {
-        String clientIp = getClientIpAddress(request);
-        securityLogger.info("LOGOUT - Username: {}, IP: {}, Timestamp: {}", 
-            username, clientIp, LocalDateTime.now());
+        publish(SecurityAuditEvent.builder()
+                .type(SecurityAuditEvent.Type.LOGOUT)
+                .username(username)
+                .clientIp(getClientIpAddress(request)));
     }
 
     public void logAccessDenied(String username, String requestUri, HttpServletRequest request) {
-        String clientIp = getClientIpAddress(request);
-        securityLogger.warn("ACCESS_DENIED - Username: {}, URI: {}, IP: {}, Timestamp: {}", 
-            username, requestUri, clientIp, LocalDateTime.now());
+        publish(SecurityAuditEvent.builder()
+                .type(SecurityAuditEvent.Type.ACCESS_DENIED)
+                .username(username)
+                .requestUri(requestUri)
+                .clientIp(getClientIpAddress(request)));
     }
 
     public void logSuspiciousActivity(String description, String username, HttpServletRequest request) {
-        String clientIp = getClientIpAddress(request);
-        securityLogger.error("SUSPICIOUS_ACTIVITY - Description: {}, Username: {}, IP: {}, Timestamp: {}", 
-            description, username, clientIp, LocalDateTime.now());
+        publish(SecurityAuditEvent.builder()
+                .type(SecurityAuditEvent.Type.SUSPICIOUS_ACTIVITY)
+                .description(description)
+                .username(username)
+                .clientIp(getClientIpAddress(request)));
+    }
+
+    private void publish(SecurityAuditEvent.SecurityAuditEventBuilder builder) {
+        if (!enabled) {
+            return;
+        }
+        auditPublisher.publish(builder.occurredAt(System.currentTimeMillis()).build());
     }
 
-    private String getClientIpAddress(HttpServletRequest request) {
+    /**
+     * 클라이언트 IP 주소 추출 (프록시 헤더 우선)
+     */
+    public String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
             return xForwardedFor.split(",")[0].trim();
@@ -58,4 +78,4 @@ public class SecurityAuditLogger {
         
         return request.getRemoteAddr();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.lms.presentation.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.response.UsernameValidationUpdate;
+import com.lms.application.usecases.user.LiveUsernameValidationUseCase;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 실시간 아이디 검증 WebSocket 엔드포인트
+ *
+ * 연결 하나로 입력과 검증 결과를 주고받아 키 입력마다 HTTP 요청을 보내지 않음
+ * - 클라이언트 → 서버: 텍스트 메시지 하나가 현재 입력값 전체
+ * - 서버 → 클라이언트: UsernameValidationUpdate JSON (형식 검증 → debounce 후 종합 검증)
+ * - 최대 채널 수를 넘으면 1013(TRY_AGAIN_LATER)으로 종료
+ * - 연결마다 인스턴스 생성 (UsernameValidationSocketRegistrar에서 등록)
+ */
+@Slf4j
+public class UsernameValidationSocketEndpoint extends Endpoint {
+
+    static final int MAX_MESSAGE_LENGTH = 256;
+
+    private final LiveUsernameValidationUseCase liveUsernameValidationUseCase;
+    private final ObjectMapper objectMapper;
+    private final long idleTimeoutMs;
+
+    private volatile String channelId;
+
+    public UsernameValidationSocketEndpoint(LiveUsernameValidationUseCase liveUsernameValidationUseCase,
+                                            ObjectMapper objectMapper,
+                                            long idleTimeoutMs) {
+        this.liveUsernameValidationUseCase = liveUsernameValidationUseCase;
+        this.objectMapper = objectMapper;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        session.setMaxIdleTimeout(idleTimeoutMs);
+        session.setMaxTextMessageBufferSize(MAX_MESSAGE_LENGTH);
+
+        // 결과 전송은 채널 잠금 안에서 순서대로 호출되므로 동시 전송 없음
+        String id = liveUsernameValidationUseCase.open(update -> send(session, update));
+        if (id == null) {
+            closeQuietly(session, new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "too many channels"));
+            return;
+        }
+        channelId = id;
+        session.addMessageHandler(String.class, (MessageHandler.Whole<String>) username -> {
+            if (!liveUsernameValidationUseCase.submit(id, username)) {
+                closeQuietly(session, new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "channel closed"));
+            }
+        });
+        log.debug("실시간 아이디 검증 채널 생성 - 채널: {}", id);
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        closeChannel();
+    }
+
+    @Override
+    public void onError(Session session, Throwable throwable) {
+        log.debug("실시간 아이디 검증 연결 오류 - 채널: {}", channelId, throwable);
+        closeChannel();
+    }
+
+    private void send(Session session, UsernameValidationUpdate update) {
+        try {
+            session.getBasicRemote().sendText(objectMapper.writeValueAsString(update));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검증 결과를 직렬화할 수 없습니다", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeChannel() {
+        String id = channelId;
+        if (id != null) {
+            liveUsernameValidationUseCase.close(id);
+        }
+    }
+
+    private static void closeQuietly(Session session, CloseReason reason) {
+        try {
+            session.close(reason);
+        } catch (IOException e) {
+            log.debug("실시간 아이디 검증 연결 종료 실패", e);
+        }
+    }
+}
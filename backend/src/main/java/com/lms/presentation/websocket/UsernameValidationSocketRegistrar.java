@@ -0,0 +1,71 @@
+package com.lms.presentation.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.usecases.user.LiveUsernameValidationUseCase;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.ServletContextAware;
+
+/**
+ * 실시간 아이디 검증 WebSocket 엔드포인트 등록
+ *
+ * - 내장 Tomcat의 WebSocket 컨테이너(spring-boot-starter-web에 포함)에 직접 등록 (추가 의존성 없음)
+ * - 웹 서버가 시작된 뒤 빈 초기화가 끝나면 등록 (ServletContext에 ServerContainer가 있을 때만)
+ * - MockMvc 테스트처럼 WebSocket 컨테이너가 없으면 등록하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UsernameValidationSocketRegistrar implements ServletContextAware, SmartInitializingSingleton {
+
+    static final String PATH = "/api/v1/registration/username-validation/socket";
+
+    private final LiveUsernameValidationUseCase liveUsernameValidationUseCase;
+    private final ObjectMapper objectMapper;
+
+    @Value("${registration.live-validation.channel-timeout-seconds:300}")
+    private long channelTimeoutSeconds;
+
+    private ServletContext servletContext;
+
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        this.servletContext = servletContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ServerContainer container = servletContext != null
+                ? (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName())
+                : null;
+        if (container == null) {
+            log.debug("WebSocket 컨테이너가 없어 실시간 아이디 검증 엔드포인트를 등록하지 않습니다");
+            return;
+        }
+
+        long idleTimeoutMs = channelTimeoutSeconds * 1000;
+        ServerEndpointConfig config = ServerEndpointConfig.Builder
+                .create(UsernameValidationSocketEndpoint.class, PATH)
+                .configurator(new ServerEndpointConfig.Configurator() {
+                    @Override
+                    public <T> T getEndpointInstance(Class<T> endpointClass) {
+                        return endpointClass.cast(new UsernameValidationSocketEndpoint(
+                                liveUsernameValidationUseCase, objectMapper, idleTimeoutMs));
+                    }
+                })
+                .build();
+        try {
+            container.addEndpoint(config);
+        } catch (DeploymentException e) {
+            throw new IllegalStateException("실시간 아이디 검증 엔드포인트를 등록할 수 없습니다", e);
+        }
+        log.info("실시간 아이디 검증 WebSocket 엔드포인트 등록 - {}", PATH);
+    }
+}
@@ -0,0 +1,21 @@
+-- V002__Create_security_audit_events.sql
+-- 보안 감사 이벤트 테이블 (비동기 배치 insert)
+
+CREATE TABLE security_audit_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    username VARCHAR(255),
+    client_ip VARCHAR(45),
+    user_agent VARCHAR(500),
+    request_uri VARCHAR(500),
+    description VARCHAR(1000),
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_security_audit_events_occurred_at ON security_audit_events(occurred_at);
+CREATE INDEX idx_security_audit_events_username ON security_audit_events(username);
+
+-- 코멘트 추가
+COMMENT ON TABLE security_audit_events IS '보안 감사 이벤트 (로그인, 로그아웃, 접근 거부 등)';
+COMMENT ON COLUMN security_audit_events.event_type IS 'LOGIN_SUCCESS, LOGIN_FAILED, LOGOUT, ACCESS_DENIED, SUSPICIOUS_ACTIVITY';
@@ -0,0 +1,15 @@
+-- V003__Create_login_attempts.sql
+-- 로그인 실패 기록 테이블 (다중 노드 로그인 시도 제한용)
+
+CREATE TABLE login_attempts (
+    attempt_key VARCHAR(300) NOT NULL,
+    attempted_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_login_attempts_key_attempted_at ON login_attempts(attempt_key, attempted_at);
+CREATE INDEX idx_login_attempts_attempted_at ON login_attempts(attempted_at);
+
+-- 코멘트 추가
+COMMENT ON TABLE login_attempts IS '로그인 실패 기록 (슬라이딩 윈도우 집계)';
+COMMENT ON COLUMN login_attempts.attempt_key IS 'u:{username} 또는 ip:{client ip}';
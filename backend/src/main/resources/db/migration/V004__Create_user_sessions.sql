@@ -0,0 +1,16 @@
+-- V004__Create_user_sessions.sql
+-- 사용자 세션 테이블 (다중 노드 세션 공유용)
+-- 재시작 후 세션 복원 외에는 내구성이 필요 없으므로 UNLOGGED로 WAL 기록 생략
+
+CREATE UNLOGGED TABLE user_sessions (
+    username VARCHAR(50) PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL,
+    last_accessed_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_user_sessions_last_accessed_at ON user_sessions(last_accessed_at);
+
+-- 코멘트 추가
+COMMENT ON TABLE user_sessions IS '사용자 세션 (UNLOGGED, 비정상 종료 시 비워질 수 있음)';
+COMMENT ON COLUMN user_sessions.last_accessed_at IS '노드별로 모아서 주기적으로 반영되는 마지막 활동 시각';
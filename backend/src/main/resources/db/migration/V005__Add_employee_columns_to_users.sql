@@ -0,0 +1,9 @@
+-- V005__Add_employee_columns_to_users.sql
+-- 재직자 정보 컬럼 추가 (User 엔티티 매핑과 일치, JDBC 일괄 등록에서 사용)
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS phone_number VARCHAR(20);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS is_employee BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS department VARCHAR(100);
+
+COMMENT ON COLUMN users.is_employee IS '재직자 여부';
+COMMENT ON COLUMN users.department IS '재직자 소속 부서';
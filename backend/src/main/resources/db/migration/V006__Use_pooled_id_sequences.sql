@@ -0,0 +1,9 @@
+-- V006__Use_pooled_id_sequences.sql
+-- users/companies/courses ID를 IDENTITY 대신 시퀀스(pooled, allocationSize 50)로 채번
+-- Hibernate가 nextval 한 번으로 ID 50개를 확보하므로 INSERT를 JDBC batch로 묶을 수 있음
+-- 엔티티 @SequenceGenerator의 allocationSize와 INCREMENT BY 값이 같아야 함
+-- 컬럼 DEFAULT nextval은 유지 (JDBC 직접 INSERT는 시퀀스 값을 그대로 사용하며 Hibernate 구간과 겹치지 않음)
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE companies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE courses_id_seq INCREMENT BY 50;
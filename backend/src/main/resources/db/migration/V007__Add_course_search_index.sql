@@ -0,0 +1,19 @@
+-- V007__Add_course_search_index.sql
+-- 과정 검색용 전문 검색(tsvector) + 트라이그램 인덱스
+-- 'simple' 설정: 한국어 형태소 사전이 없으므로 공백 단위 토큰을 그대로 색인 (과정명 A, 설명 B 가중치)
+-- 조사가 붙은 단어/부분 일치는 pg_trgm GIN 인덱스로 ILIKE '%키워드%' 검색을 처리
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE courses
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX idx_courses_search_vector ON courses USING GIN (search_vector);
+CREATE INDEX idx_courses_title_trgm ON courses USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_courses_description_trgm ON courses USING GIN (description gin_trgm_ops);
+
+COMMENT ON COLUMN courses.search_vector IS '과정명/설명 전문 검색 벡터 (자동 생성)';
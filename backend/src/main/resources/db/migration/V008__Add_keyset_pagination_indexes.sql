@@ -0,0 +1,16 @@
+-- V008__Add_keyset_pagination_indexes.sql
+-- 목록 keyset 페이지 조회용 복합 인덱스 (조건 컬럼, id)
+-- WHERE 조건 = ? AND id > :after ORDER BY id LIMIT n 을 인덱스 범위 조회로 처리
+-- 선두 컬럼이 같은 단일 컬럼 인덱스는 복합 인덱스로 대체
+
+CREATE INDEX idx_users_user_type_id ON users(user_type, id);
+CREATE INDEX idx_users_status_id ON users(status, id);
+CREATE INDEX idx_users_company_id_id ON users(company_id, id);
+DROP INDEX IF EXISTS idx_users_company_id;
+
+CREATE INDEX idx_companies_contract_status_id ON companies(contract_status, id);
+
+CREATE INDEX idx_courses_course_type_id ON courses(course_type, id);
+CREATE INDEX idx_courses_status_id ON courses(status, id);
+DROP INDEX IF EXISTS idx_courses_course_type;
+DROP INDEX IF EXISTS idx_courses_status;
@@ -0,0 +1,193 @@
+package com.lms.application.usecases.admin;
+
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관리자 목록 내보내기 UseCase 테스트")
+class AdminExportUseCaseTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private AdminExportUseCase adminExportUseCase;
+
+    @Test
+    @DisplayName("헤더와 회원 행을 CSV로 출력하고 스트림을 닫음")
+    void exportUsers_ShouldWriteRowsAndCloseStream() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepository.streamForExport(User.UserType.STUDENT, null, null))
+                .thenReturn(Stream.of(user(1L, "개발팀"), user(2L, null)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = adminExportUseCase.exportUsers(User.UserType.STUDENT, null, null, output);
+
+        // Then
+        assertThat(exported).isEqualTo(2);
+        assertThat(closed).isTrue();
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "\uFEFFID,아이디,이메일,이름,사용자 유형,상태,재직자 여부,회사 ID,부서,가입일시",
+                "1,user1,user1@email.com,사용자1,STUDENT,ACTIVE,true,10,개발팀,2024-03-01T09:30",
+                "2,user2,user2@email.com,사용자2,STUDENT,ACTIVE,true,10,,2024-03-01T09:30");
+    }
+
+    @Test
+    @DisplayName("과정 유형 미지정 시 유형 조건 없이 조회 (전체 유형 목록을 넘기지 않음)")
+    void exportCourses_WithoutType_ShouldOmitTypeFilter() throws IOException {
+        // Given
+        when(courseRepository.streamForExport(null, null)).thenReturn(Stream.empty());
+        when(courseRepository.streamForExport(EnumSet.of(Course.CourseType.EMPLOYEE), Course.CourseStatus.ACTIVE))
+                .thenReturn(Stream.empty());
+
+        // When
+        long all = adminExportUseCase.exportCourses(null, null, new ByteArrayOutputStream());
+        long employee = adminExportUseCase.exportCourses(Course.CourseType.EMPLOYEE, Course.CourseStatus.ACTIVE,
+                new ByteArrayOutputStream());
+
+        // Then
+        assertThat(all).isZero();
+        assertThat(employee).isZero();
+        verify(courseRepository).streamForExport(null, null);
+    }
+
+    @Test
+    @DisplayName("내보내는 행 수가 10배가 되어도 힙 사용량은 일정 (행을 모아두지 않음)")
+    void exportUsers_HeapUsage_ShouldStayFlatAcrossSizes() throws IOException {
+        // Given: 행마다 약 1KB 부서명 → 모아두면 200,000행에 약 200MB
+        long smallExportHeap = heapWhileExporting(20_000);
+        long largeExportHeap = heapWhileExporting(200_000);
+
+        // Then
+        assertThat(largeExportHeap - smallExportHeap).isLessThan(32L * 1024 * 1024);
+    }
+
+    /**
+     * 마지막 행을 만들 때(그 전 행은 모두 출력된 상태)의 GC 후 힙 사용량
+     */
+    private long heapWhileExporting(int rowCount) throws IOException {
+        long[] usedHeap = new long[1];
+        Stream<UserRepository.UserListView> rows = LongStream.rangeClosed(1, rowCount).mapToObj(id -> {
+            if (id == rowCount) {
+                usedHeap[0] = usedHeapAfterGc();
+            }
+            return user(id, "부서".repeat(256));
+        });
+        when(userRepository.streamForExport(null, null, null)).thenReturn(rows);
+        CountingOutputStream output = new CountingOutputStream();
+
+        long exported = adminExportUseCase.exportUsers(null, null, null, output);
+
+        assertThat(exported).isEqualTo(rowCount);
+        assertThat(output.count).isGreaterThan(rowCount * 1024L);
+        return usedHeap[0];
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static UserRepository.UserListView user(long id, String department) {
+        return new UserRepository.UserListView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return "user" + id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + id + "@email.com";
+            }
+
+            @Override
+            public String getName() {
+                return "사용자" + id;
+            }
+
+            @Override
+            public User.UserType getUserType() {
+                return User.UserType.STUDENT;
+            }
+
+            @Override
+            public User.Status getStatus() {
+                return User.Status.ACTIVE;
+            }
+
+            @Override
+            public Boolean getIsEmployee() {
+                return true;
+            }
+
+            @Override
+            public Long getCompanyId() {
+                return 10L;
+            }
+
+            @Override
+            public String getDepartment() {
+                return department;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+        };
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
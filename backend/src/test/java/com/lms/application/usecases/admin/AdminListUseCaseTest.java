@@ -0,0 +1,110 @@
+package com.lms.application.usecases.admin;
+
+import com.lms.application.dto.response.CursorPage;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관리자 목록 조회 UseCase 테스트")
+class AdminListUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private AdminListUseCase adminListUseCase;
+
+    @Test
+    @DisplayName("limit보다 한 건 더 조회되면 마지막 항목 ID를 다음 커서로 반환")
+    void listUsers_WithMoreRows_ShouldReturnNextCursor() {
+        // Given
+        List<UserRepository.UserListView> rows = users(101, 102, 103, 104);
+        when(userRepository.findPageAfter(100L, User.UserType.STUDENT, null, null, null, 4)).thenReturn(rows);
+
+        // When
+        CursorPage<UserRepository.UserListView> page =
+                adminListUseCase.listUsers(100L, 3, User.UserType.STUDENT, null, null, null);
+
+        // Then
+        assertThat(page.getItems()).extracting(UserRepository.UserListView::getId).containsExactly(101L, 102L, 103L);
+        assertThat(page.getLimit()).isEqualTo(3);
+        assertThat(page.getNextCursor()).isEqualTo(103L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서 없음, after 생략 시 처음부터")
+    void listUsers_LastPage_ShouldHaveNoCursor() {
+        // Given
+        List<UserRepository.UserListView> rows = users(1, 2);
+        when(userRepository.findPageAfter(0L, null, User.Status.PENDING, 7L, null, 51)).thenReturn(rows);
+
+        // When
+        CursorPage<UserRepository.UserListView> page =
+                adminListUseCase.listUsers(null, null, null, User.Status.PENDING, 7L, null);
+
+        // Then
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getLimit()).isEqualTo(50);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대 500으로 제한")
+    void listCompanies_ShouldClampLimit() {
+        // Given
+        when(companyRepository.findPageAfter(0L, null, 501)).thenReturn(List.of());
+
+        // When
+        CursorPage<CompanyRepository.CompanyListView> page = adminListUseCase.listCompanies(0L, 10_000, null);
+
+        // Then
+        assertThat(page.getLimit()).isEqualTo(500);
+        assertThat(page.getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("과정 유형 지정 시 공통 과정 포함 여부에 따라 유형 목록 구성, 미지정 시 유형 조건 없음")
+    void listCourses_ShouldResolveCourseTypes() {
+        // Given
+        when(courseRepository.findPageAfter(0L, EnumSet.of(Course.CourseType.EMPLOYEE, Course.CourseType.COMMON),
+                Course.CourseStatus.ACTIVE, 21)).thenReturn(List.of());
+        when(courseRepository.findPageAfter(0L, null, null, 21)).thenReturn(List.of());
+
+        // When & Then
+        assertThat(adminListUseCase.listCourses(null, 20, Course.CourseType.EMPLOYEE, true,
+                Course.CourseStatus.ACTIVE).getItems()).isEmpty();
+        assertThat(adminListUseCase.listCourses(null, 20, null, true, null).getItems()).isEmpty();
+    }
+
+    private static List<UserRepository.UserListView> users(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            UserRepository.UserListView view = mock(UserRepository.UserListView.class);
+            lenient().when(view.getId()).thenReturn(id);
+            return view;
+        }).toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.lms.application.usecases.course;
+
+import com.lms.application.dto.response.CourseSearchResponse;
+import com.lms.domain.entities.Course;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.infrastructure.search.CourseSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("과정 키워드 검색 UseCase 테스트")
+class CourseSearchUseCaseTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @InjectMocks
+    private CourseSearchUseCase courseSearchUseCase;
+
+    @Test
+    @DisplayName("검색어 정리 후 활성 과정을 관련도순으로 조회")
+    void search_ShouldQueryActiveCoursesWithNormalizedKeyword() {
+        // Given
+        CourseRepository.CourseSearchView view = mock(CourseRepository.CourseSearchView.class);
+        when(view.getId()).thenReturn(7L);
+        when(view.getTitle()).thenReturn("자바 웹 개발");
+        when(view.getCourseType()).thenReturn(Course.CourseType.COMMON);
+        when(view.getStatus()).thenReturn(Course.CourseStatus.ACTIVE);
+        when(courseRepository.searchByKeyword("자바 웹", "%자바 웹%", "ACTIVE",
+                PageRequest.of(1, 10)))
+                .thenReturn(new PageImpl<>(List.of(view), PageRequest.of(1, 10), 25));
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("  자바   웹 ", 1, 10);
+
+        // Then
+        assertThat(response.getKeyword()).isEqualTo("자바 웹");
+        assertThat(response.getCourses()).hasSize(1);
+        assertThat(response.getCourses().get(0).getId()).isEqualTo(7L);
+        assertThat(response.getCourses().get(0).getCourseType()).isEqualTo(Course.CourseType.COMMON);
+        assertThat(response.getTotalElements()).isEqualTo(25);
+        assertThat(response.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("LIKE 특수문자는 이스케이프")
+    void search_ShouldEscapeLikeWildcards() {
+        // Given
+        when(courseRepository.searchByKeyword(eq("100%_달성"), eq("%100\\%\\_달성%"), eq("ACTIVE"), any()))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("100%_달성", null, null);
+
+        // Then
+        assertThat(response.getCourses()).isEmpty();
+        assertThat(response.getSize()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대 50으로 제한")
+    void search_ShouldClampPageSize() {
+        // Given
+        when(courseRepository.searchByKeyword(anyString(), anyString(), anyString(), eq(PageRequest.of(0, 50))))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("데이터", -1, 1000);
+
+        // Then
+        assertThat(response.getPage()).isZero();
+        assertThat(response.getSize()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("두 글자 검색어는 검색 색인에서 찾은 과정만 조회 (트라이그램 인덱스 미사용)")
+    void search_TwoSyllableKeyword_ShouldUseSearchIndex() {
+        // Given
+        CourseRepository.CourseSearchView view = mock(CourseRepository.CourseSearchView.class);
+        when(view.getId()).thenReturn(3L);
+        when(courseSearchIndex.searchTitleOrDescription(eq("자바"), anyInt())).thenReturn(List.of(3L, 9L));
+        when(courseRepository.searchByIds(List.of(3L, 9L), "%자바%", "ACTIVE", PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of(view), PageRequest.of(0, 20), 1));
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("자바", null, null);
+
+        // Then
+        assertThat(response.getCourses()).extracting("id").containsExactly(3L);
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        verify(courseRepository, never()).searchByKeyword(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("두 글자 검색어가 색인에 없으면 DB 조회 없이 빈 결과")
+    void search_TwoSyllableKeywordWithoutMatches_ShouldNotQuery() {
+        // Given
+        when(courseSearchIndex.searchTitleOrDescription(eq("코틀"), anyInt())).thenReturn(List.of());
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("코틀", 0, 20);
+
+        // Then
+        assertThat(response.getCourses()).isEmpty();
+        assertThat(response.getTotalElements()).isZero();
+        verify(courseRepository, never()).searchByIds(any(), anyString(), anyString(), any());
+        verify(courseRepository, never()).searchByKeyword(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("검색 색인 구성 전에는 두 글자 검색어도 DB 검색")
+    void search_TwoSyllableKeywordBeforeIndexReady_ShouldFallBackToDatabase() {
+        // Given
+        when(courseSearchIndex.searchTitleOrDescription(eq("자바"), anyInt())).thenReturn(null);
+        when(courseRepository.searchByKeyword("자바", "%자바%", "ACTIVE", PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("자바", 0, 20);
+
+        // Then
+        assertThat(response.getCourses()).isEmpty();
+        verify(courseRepository, never()).searchByIds(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 DB 조회 없이 빈 결과")
+    void search_BlankKeyword_ShouldNotQuery() {
+        // When
+        CourseSearchResponse response = courseSearchUseCase.search("   ", 0, 20);
+
+        // Then
+        assertThat(response.getCourses()).isEmpty();
+        assertThat(response.getTotalElements()).isZero();
+        verify(courseRepository, never()).searchByKeyword(anyString(), anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,104 @@
+package com.lms.application.usecases.search;
+
+import com.lms.application.dto.response.UserResponse;
+import com.lms.domain.entities.User;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.CourseRepository;
+import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.search.CompanySearchIndex;
+import com.lms.infrastructure.search.CourseSearchIndex;
+import com.lms.infrastructure.search.UserSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관리자 검색 UseCase 테스트")
+class AdminSearchUseCaseTest {
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    @Mock
+    private CompanySearchIndex companySearchIndex;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private AdminSearchUseCase adminSearchUseCase;
+
+    @Test
+    @DisplayName("색인에서 찾은 ID 순서대로 회원 반환")
+    void searchUsers_WithReadyIndex_ShouldKeepIndexOrder() {
+        // Given
+        when(userSearchIndex.search("길동", null, 50)).thenReturn(List.of(3L, 1L));
+        when(userRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(user(1L, "홍길동"), user(3L, "김길동")));
+
+        // When
+        List<UserResponse> users = adminSearchUseCase.searchUsers(" 길동 ", "  ", null);
+
+        // Then
+        assertThat(users).extracting(UserResponse::getId).containsExactly(3L, 1L);
+        verify(userRepository, never()).findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase(any(), any());
+    }
+
+    @Test
+    @DisplayName("색인 구성 전에는 DB 검색 결과를 limit까지 반환")
+    void searchUsers_BeforeIndexReady_ShouldFallBackToRepository() {
+        // Given
+        when(userSearchIndex.search("홍", null, 1)).thenReturn(null);
+        when(userRepository.findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase("홍", null))
+                .thenReturn(List.of(user(1L, "홍길동"), user(2L, "홍길순")));
+
+        // When
+        List<UserResponse> users = adminSearchUseCase.searchUsers("홍", null, 1);
+
+        // Then
+        assertThat(users).extracting(UserResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 조건이 없으면 조회 없이 빈 결과")
+    void searchCompanies_WithoutConditions_ShouldReturnEmpty() {
+        // When & Then
+        assertThat(adminSearchUseCase.searchCompanies(null, " ", 10)).isEmpty();
+        verify(companySearchIndex, never()).search(any(), any(), anyInt());
+        verifyNoInteractions(companyRepository);
+    }
+
+    private static User user(Long id, String name) {
+        User user = User.builder()
+                .username("user" + id)
+                .password("encoded")
+                .email("user" + id + "@email.com")
+                .name(name)
+                .userType(User.UserType.STUDENT)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,211 @@
+package com.lms.application.usecases.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.response.EmployeeImportResult;
+import com.lms.application.dto.response.EmployeeImportSummary;
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.User;
+import com.lms.domain.events.EmployeesImportedEvent;
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import com.lms.domain.repositories.CompanyRepository;
+import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.EmployeeImportReader;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserBatchWriter;
+import com.lms.infrastructure.registration.UsernameValidationCache;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 협약사 재직자 일괄 등록 Use Case 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("재직자 일괄 등록 Use Case 테스트")
+class EmployeeBulkImportUseCaseTest {
+
+    private static final String HEADER = "username,password,email,name,phoneNumber,department\n";
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserBatchWriter userBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EmployeeBulkImportUseCase useCase;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new EmployeeBulkImportUseCase(companyRepository, userRepository, passwordEncoder,
+                userBatchWriter, eventPublisher, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ForbiddenWordDictionary(new DefaultResourceLoader(), mock(UsernameValidationCache.class),
+                        "classpath:validation/forbidden-words.txt", 0),
+                new ObjectMapper(), 3, 2);
+        company = mock(Company.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.destroy();
+    }
+
+    @Test
+    @DisplayName("형식 오류/파일 내 중복/기존 중복을 제외하고 chunk 단위로 저장")
+    void execute_WithMixedRows_ShouldReportPerRowResults() {
+        // Given
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.findIdentifierConflictsIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(identifiers("taken01", "someone@company.com")));
+        String csv = HEADER
+                + "kimcoder,Password1!,kim@company.com,김코더,010-1234-5678,개발팀\n"
+                + "bad,short,not-an-email,,,\n"
+                + "kimcoder,Password1!,kim2@company.com,김코더,,\n"
+                + "taken01,Password1!,taken@company.com,기존,,\n"
+                + "leecoder,Password1!,lee@company.com,이코더,,\n";
+        List<EmployeeImportResult> results = new ArrayList<>();
+
+        // When
+        EmployeeImportSummary summary = useCase.execute(company, input(csv), EmployeeImportReader.Format.CSV,
+                results::add);
+
+        // Then
+        assertThat(results).extracting(EmployeeImportResult::getLine).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(results).extracting(EmployeeImportResult::getStatus).containsExactly(
+                EmployeeImportResult.Status.CREATED,
+                EmployeeImportResult.Status.INVALID,
+                EmployeeImportResult.Status.DUPLICATE,
+                EmployeeImportResult.Status.DUPLICATE,
+                EmployeeImportResult.Status.CREATED);
+        assertThat(results.get(3).getMessage()).isEqualTo(RegistrationConflicts.USERNAME_TAKEN);
+        assertThat(summary.getTotal()).isEqualTo(5);
+        assertThat(summary.getCreated()).isEqualTo(2);
+        assertThat(summary.getRejected()).isEqualTo(3);
+        verify(userBatchWriter, times(2)).insertAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(UserIdentifiersChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(EmployeesImportedEvent.class));
+    }
+
+    @Test
+    @DisplayName("batch 저장 중 제약 위반 시 행별로 다시 저장해 중복 행만 실패 처리")
+    void execute_WhenBatchViolatesConstraint_ShouldFallBackToRowInserts() {
+        // Given
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.findIdentifierConflictsIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userBatchWriter).insertAll(anyList());
+        doAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if ("leecoder".equals(user.getUsername())) {
+                throw new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("duplicate key", new SQLException("duplicate key"),
+                                "users_email_key"));
+            }
+            return null;
+        }).when(userBatchWriter).insert(any(User.class));
+        String csv = HEADER
+                + "kimcoder,Password1!,kim@company.com,김코더,,\n"
+                + "leecoder,Password1!,lee@company.com,이코더,,\n";
+        List<EmployeeImportResult> results = new ArrayList<>();
+
+        // When
+        useCase.execute(company, input(csv), EmployeeImportReader.Format.CSV, results::add);
+
+        // Then
+        assertThat(results).extracting(EmployeeImportResult::getStatus).containsExactly(
+                EmployeeImportResult.Status.CREATED,
+                EmployeeImportResult.Status.DUPLICATE);
+        assertThat(results.get(1).getMessage()).isEqualTo(RegistrationConflicts.EMAIL_TAKEN);
+    }
+
+    @Test
+    @DisplayName("회원가입 아이디 규칙(금지어/반복/연속 숫자/시작 문자) 위반 행은 형식 오류로 보고")
+    void execute_WithRuleEngineViolations_ShouldReportInvalidRows() {
+        // Given
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.findIdentifierConflictsIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        String csv = HEADER
+                + "kimadmin,Password1!,admin@company.com,김관리,,\n"
+                + "kimmmcoder,Password1!,repeat@company.com,김반복,,\n"
+                + "kim12345,Password1!,digits@company.com,김숫자,,\n"
+                + "1kimcoder,Password1!,first@company.com,김시작,,\n"
+                + "kimcoder,Password1!,kim@company.com,김코더,,\n";
+        List<EmployeeImportResult> results = new ArrayList<>();
+
+        // When
+        EmployeeImportSummary summary = useCase.execute(company, input(csv), EmployeeImportReader.Format.CSV,
+                results::add);
+
+        // Then
+        assertThat(results).extracting(EmployeeImportResult::getStatus).containsExactly(
+                EmployeeImportResult.Status.INVALID,
+                EmployeeImportResult.Status.INVALID,
+                EmployeeImportResult.Status.INVALID,
+                EmployeeImportResult.Status.INVALID,
+                EmployeeImportResult.Status.CREATED);
+        assertThat(results).extracting(EmployeeImportResult::getMessage).startsWith(
+                "사용할 수 없는 단어가 포함되어 있습니다",
+                "같은 문자를 3회 이상 연속으로 사용할 수 없습니다",
+                "숫자를 4자리 이상 연속으로 사용할 수 없습니다",
+                "아이디는 영문으로 시작하고 영문, 숫자만 사용 가능합니다");
+        assertThat(summary.getCreated()).isEqualTo(1);
+        verify(userRepository).findIdentifierConflictsIn(
+                argThat(usernames -> usernames.size() == 1 && usernames.contains("kimcoder")), anyCollection());
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UserRepository.IdentifierView identifiers(String username, String email) {
+        return new UserRepository.IdentifierView() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
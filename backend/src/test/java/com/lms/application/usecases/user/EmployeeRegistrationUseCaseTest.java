@@ -12,9 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -59,7 +63,7 @@ class EmployeeRegistrationUseCaseTest {
                 .email("employee@company.com")
                 .phoneNumber("010-1234-5678")
                 .companyName("테스트 회사")
-                .businessNumber("123-45-67890")
+                .businessNumber("123-45-67891")
                 .department("개발팀")
                 .position("개발자")
                 .supervisorName("김담당")
@@ -108,10 +112,9 @@ class EmployeeRegistrationUseCaseTest {
         // Given
         when(identityVerificationUseCase.validateToken(anyString())).thenReturn(true);
         when(identityVerificationUseCase.getVerifiedUserInfo(anyString())).thenReturn(verificationResponse);
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.findIdentifierConflicts(anyString(), anyString())).thenReturn(List.of());
         when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         // When
         RegistrationResponse response = employeeRegistrationUseCase.execute(validRequest);
@@ -127,7 +130,7 @@ class EmployeeRegistrationUseCaseTest {
         assertTrue(response.getRequiresApproval());
         assertFalse(response.getCanLogin());
 
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
         verify(passwordEncoder, times(1)).encode("password123!");
     }
 
@@ -143,7 +146,7 @@ class EmployeeRegistrationUseCaseTest {
                 .email("employee@company.com")
                 .phoneNumber("010-1234-5678")
                 .companyName("테스트 회사")
-                .businessNumber("123-45-67890")
+                .businessNumber("123-45-67891")
                 .department("개발팀")
                 .position("개발자")
                 .privacyAgreement(true)
@@ -158,7 +161,7 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("비밀번호가 일치하지 않습니다", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -175,7 +178,7 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("유효하지 않은 본인인증 토큰입니다. 본인인증을 다시 진행해주세요", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -184,7 +187,8 @@ class EmployeeRegistrationUseCaseTest {
         // Given
         when(identityVerificationUseCase.validateToken(anyString())).thenReturn(true);
         when(identityVerificationUseCase.getVerifiedUserInfo(anyString())).thenReturn(verificationResponse);
-        when(userRepository.existsByUsername(anyString())).thenReturn(true); // 중복된 아이디
+        when(userRepository.findIdentifierConflicts(anyString(), anyString()))
+                .thenReturn(List.of(identifiers("employee123", "other@company.com"))); // 중복된 아이디
 
         // When
         RegistrationResponse response = employeeRegistrationUseCase.execute(validRequest);
@@ -194,7 +198,7 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("이미 사용 중인 아이디입니다", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -203,8 +207,8 @@ class EmployeeRegistrationUseCaseTest {
         // Given
         when(identityVerificationUseCase.validateToken(anyString())).thenReturn(true);
         when(identityVerificationUseCase.getVerifiedUserInfo(anyString())).thenReturn(verificationResponse);
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(true); // 중복된 이메일
+        when(userRepository.findIdentifierConflicts(anyString(), anyString()))
+                .thenReturn(List.of(identifiers("otheruser", "employee@company.com"))); // 중복된 이메일
 
         // When
         RegistrationResponse response = employeeRegistrationUseCase.execute(validRequest);
@@ -214,7 +218,7 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("이미 사용 중인 이메일입니다", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -229,7 +233,7 @@ class EmployeeRegistrationUseCaseTest {
                 .email("employee@company.com")
                 .phoneNumber("010-1234-5678")
                 .companyName("테스트 회사")
-                .businessNumber("123-45-67890")
+                .businessNumber("123-45-67891")
                 .department("개발팀")
                 .position("개발자")
                 .privacyAgreement(false) // 동의 안함
@@ -244,7 +248,7 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("개인정보 수집 및 이용에 동의해야 합니다", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -253,8 +257,7 @@ class EmployeeRegistrationUseCaseTest {
         // Given
         when(identityVerificationUseCase.validateToken(anyString())).thenReturn(true);
         when(identityVerificationUseCase.getVerifiedUserInfo(anyString())).thenReturn(verificationResponse);
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.findIdentifierConflicts(anyString(), anyString())).thenReturn(List.of());
 
         EmployeeRegistrationRequest invalidRequest = EmployeeRegistrationRequest.builder()
                 .verificationToken("valid-token-123")
@@ -279,6 +282,67 @@ class EmployeeRegistrationUseCaseTest {
         assertFalse(response.getSuccess());
         assertEquals("올바른 사업자등록번호를 입력해주세요", response.getErrorMessage());
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시 가입으로 유니크 제약 위반 시 중복 아이디 안내 메시지를 반환해야 한다")
+    void should_ReturnErrorResponse_When_UniqueConstraintViolatedOnSave() {
+        // Given
+        givenRegistrationReachesSave();
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_username_key"));
+
+        // When
+        RegistrationResponse response = employeeRegistrationUseCase.execute(validRequest);
+
+        // Then
+        assertNotNull(response);
+        assertFalse(response.getSuccess());
+        assertEquals("이미 사용 중인 아이디입니다", response.getErrorMessage());
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    @DisplayName("동시 가입으로 이메일 유니크 제약 위반 시 중복 이메일 안내 메시지를 반환해야 한다")
+    void should_ReturnErrorResponse_When_EmailUniqueConstraintViolatedOnSave() {
+        // Given
+        givenRegistrationReachesSave();
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_email_key"));
+
+        // When
+        RegistrationResponse response = employeeRegistrationUseCase.execute(validRequest);
+
+        // Then
+        assertNotNull(response);
+        assertFalse(response.getSuccess());
+        assertEquals("이미 사용 중인 이메일입니다", response.getErrorMessage());
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+    }
+
+    private void givenRegistrationReachesSave() {
+        when(identityVerificationUseCase.validateToken(anyString())).thenReturn(true);
+        when(identityVerificationUseCase.getVerifiedUserInfo(anyString())).thenReturn(verificationResponse);
+        when(userRepository.findIdentifierConflicts(anyString(), anyString())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"),
+                        constraintName));
+    }
+
+    private static UserRepository.IdentifierView identifiers(String username, String email) {
+        return new UserRepository.IdentifierView() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package com.lms.application.usecases.user;
+
+import com.lms.application.dto.response.UsernameValidationUpdate;
+import com.lms.application.dto.response.ValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실시간 아이디 검증 UseCase 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("실시간 아이디 검증 UseCase 테스트")
+class LiveUsernameValidationUseCaseTest {
+    
+    @Mock
+    private UsernameValidationUseCase usernameValidationUseCase;
+    
+    private LiveUsernameValidationUseCase liveUsernameValidationUseCase;
+    private BlockingQueue<UsernameValidationUpdate> updates;
+    
+    @BeforeEach
+    void setUp() {
+        liveUsernameValidationUseCase = new LiveUsernameValidationUseCase(
+                usernameValidationUseCase, new SimpleMeterRegistry(), 100, 2, 1);
+        updates = new LinkedBlockingQueue<>();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        liveUsernameValidationUseCase.destroy();
+    }
+    
+    @Test
+    @DisplayName("연속 입력 시 마지막 아이디만 종합 검증")
+    void submit_WithRapidInput_ShouldValidateOnlyLatest() throws Exception {
+        // Given
+        when(usernameValidationUseCase.quickValidate(anyString())).thenReturn(ValidationResult.valid("입력 중..."));
+        when(usernameValidationUseCase.validateUsername("kimcoder"))
+                .thenReturn(ValidationResult.valid("사용 가능한 아이디입니다"));
+        String channelId = liveUsernameValidationUseCase.open(updates::add);
+        
+        // When
+        for (String input : List.of("kimc", "kimco", "kimcod", "kimcode", "kimcoder")) {
+            liveUsernameValidationUseCase.submit(channelId, input);
+        }
+        
+        // Then
+        verify(usernameValidationUseCase, timeout(1000)).validateUsername("kimcoder");
+        verify(usernameValidationUseCase, never()).validateUsername("kimcode");
+        
+        UsernameValidationUpdate complete = null;
+        for (UsernameValidationUpdate update; (update = updates.poll(1, TimeUnit.SECONDS)) != null; ) {
+            if (update.isComplete()) {
+                complete = update;
+                break;
+            }
+        }
+        assertThat(complete).isNotNull();
+        assertThat(complete.getUsername()).isEqualTo("kimcoder");
+        assertThat(complete.getSequence()).isEqualTo(5);
+        assertThat(complete.getResult().isValid()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("형식 오류는 DB 조회 없이 즉시 완료 결과 전송")
+    void submit_WithMalformedInput_ShouldCompleteWithoutFullValidation() throws Exception {
+        // Given
+        when(usernameValidationUseCase.quickValidate("1abc"))
+                .thenReturn(ValidationResult.invalid("영문으로 시작하고 영문, 숫자만 사용 가능합니다"));
+        String channelId = liveUsernameValidationUseCase.open(updates::add);
+        
+        // When
+        boolean accepted = liveUsernameValidationUseCase.submit(channelId, "1abc");
+        
+        // Then
+        assertThat(accepted).isTrue();
+        UsernameValidationUpdate update = updates.poll(1, TimeUnit.SECONDS);
+        assertThat(update).isNotNull();
+        assertThat(update.isComplete()).isTrue();
+        assertThat(update.getResult().isValid()).isFalse();
+        verify(usernameValidationUseCase, never()).validateUsername(anyString());
+    }
+    
+    @Test
+    @DisplayName("전송 실패 시 채널 종료")
+    void submit_WhenSinkFails_ShouldCloseChannel() {
+        // Given
+        when(usernameValidationUseCase.quickValidate(anyString())).thenReturn(ValidationResult.valid("입력 중..."));
+        String channelId = liveUsernameValidationUseCase.open(update -> {
+            throw new IllegalStateException("disconnected");
+        });
+        
+        // When
+        liveUsernameValidationUseCase.submit(channelId, "kimcoder");
+        
+        // Then
+        assertThat(liveUsernameValidationUseCase.getChannelCount()).isZero();
+        assertThat(liveUsernameValidationUseCase.submit(channelId, "kimcoder2")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("최대 채널 수 초과 시 채널 생성 거부")
+    void open_WhenLimitReached_ShouldReturnNull() {
+        // Given
+        liveUsernameValidationUseCase.open(updates::add);
+        liveUsernameValidationUseCase.open(updates::add);
+        
+        // When
+        String channelId = liveUsernameValidationUseCase.open(updates::add);
+        
+        // Then
+        assertThat(channelId).isNull();
+    }
+    
+    @Test
+    @DisplayName("동시에 채널을 생성해도 최대 채널 수를 넘지 않고, 종료한 채널만큼 다시 생성 가능")
+    void open_Concurrently_ShouldNotExceedLimit() throws Exception {
+        // Given
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return liveUsernameValidationUseCase.open(updates::add);
+            }));
+        }
+        
+        // When
+        start.countDown();
+        List<String> opened = new ArrayList<>();
+        for (Future<String> result : results) {
+            String channelId = result.get(5, TimeUnit.SECONDS);
+            if (channelId != null) {
+                opened.add(channelId);
+            }
+        }
+        executor.shutdown();
+        
+        // Then
+        assertThat(opened).hasSize(2);
+        assertThat(liveUsernameValidationUseCase.getChannelCount()).isEqualTo(2);
+        liveUsernameValidationUseCase.close(opened.get(0));
+        liveUsernameValidationUseCase.close(opened.get(0));
+        assertThat(liveUsernameValidationUseCase.open(updates::add)).isNotNull();
+        assertThat(liveUsernameValidationUseCase.open(updates::add)).isNull();
+    }
+}
@@ -6,6 +6,9 @@ import com.lms.domain.entities.User;
 import com.lms.domain.entities.User.UserType;
 import com.lms.domain.repositories.UserRepository;
 import com.lms.infrastructure.security.JwtTokenProvider;
+import com.lms.infrastructure.security.LoginRateLimiter;
+import com.lms.infrastructure.security.LoginThrottledException;
+import com.lms.infrastructure.security.PasswordHashingRejectedException;
 import com.lms.infrastructure.security.SessionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,12 +20,14 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +47,12 @@ class LoginUseCaseTest {
     @Mock
     private SessionManager sessionManager;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @Mock
     private Authentication authentication;
 
@@ -49,7 +60,8 @@ class LoginUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(authenticationManager, userRepository, jwtTokenProvider, sessionManager);
+        loginUseCase = new LoginUseCase(authenticationManager, userRepository, jwtTokenProvider, sessionManager,
+                loginRateLimiter, passwordEncoder);
     }
 
     @Test
@@ -139,6 +151,45 @@ class LoginUseCaseTest {
         verify(userRepository, never()).findByUsername(anyString());
         verify(jwtTokenProvider, never()).generateToken(anyString());
         verify(sessionManager, never()).createSession(anyString());
+        verify(loginRateLimiter).acquire("testuser", null);
+        verify(loginRateLimiter, never()).recordSuccess(anyString(), any(), anyLong());
+        verify(loginRateLimiter, never()).release(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한 초과 시 인증 수행 전 차단 테스트")
+    void execute_WhenThrottled_ShouldRejectBeforeAuthentication() {
+        // Given
+        LoginRequest request = new LoginRequest();
+        request.setUsername("testuser");
+        request.setPassword("password123");
+
+        doThrow(new LoginThrottledException("Too many failed login attempts", 900))
+                .when(loginRateLimiter).acquire("testuser", "10.0.0.1");
+
+        // When & Then
+        assertThrows(LoginThrottledException.class, () -> loginUseCase.execute(request, "10.0.0.1"));
+
+        verify(authenticationManager, never()).authenticate(any());
+        verify(loginRateLimiter, never()).release(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 풀 포화로 검증하지 못한 시도는 예약 취소 테스트")
+    void execute_WhenHashingRejected_ShouldReleaseAttempt() {
+        // Given
+        LoginRequest request = new LoginRequest();
+        request.setUsername("testuser");
+        request.setPassword("password123");
+
+        when(loginRateLimiter.acquire("testuser", "10.0.0.1")).thenReturn(1_000L);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PasswordHashingRejectedException("Password hashing capacity exceeded"));
+
+        // When & Then
+        assertThrows(PasswordHashingRejectedException.class, () -> loginUseCase.execute(request, "10.0.0.1"));
+
+        verify(loginRateLimiter).release("testuser", "10.0.0.1", 1_000L);
     }
 
     @Test
@@ -175,4 +226,70 @@ class LoginUseCaseTest {
         verify(userRepository).findByUsername(normalizedUsername);
         verify(jwtTokenProvider).generateToken(normalizedUsername);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("오래된 비밀번호 해시는 로그인 시 재해시 테스트")
+    void execute_WithOutdatedHash_ShouldRehashPassword() {
+        // Given
+        String username = "testuser";
+        String password = "password123";
+
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+
+        User user = User.builder()
+                .username(username)
+                .password("$2a$10$legacyHash")
+                .email("test@example.com")
+                .name("Test User")
+                .userType(UserType.STUDENT)
+                .build();
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(passwordEncoder.upgradeEncoding("$2a$10$legacyHash")).thenReturn(true);
+        when(passwordEncoder.encode(password)).thenReturn("{bcrypt}$2a$12$upgradedHash");
+        when(jwtTokenProvider.generateToken(username)).thenReturn("jwt.token.here");
+
+        // When
+        loginUseCase.execute(request);
+
+        // Then
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}$2a$12$upgradedHash");
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    @DisplayName("최신 비밀번호 해시는 재해시하지 않음 테스트")
+    void execute_WithCurrentHash_ShouldNotRehashPassword() {
+        // Given
+        String username = "testuser";
+
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword("password123");
+
+        User user = User.builder()
+                .username(username)
+                .password("{bcrypt}$2a$12$currentHash")
+                .email("test@example.com")
+                .name("Test User")
+                .userType(UserType.STUDENT)
+                .build();
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(passwordEncoder.upgradeEncoding("{bcrypt}$2a$12$currentHash")).thenReturn(false);
+        when(jwtTokenProvider.generateToken(username)).thenReturn("jwt.token.here");
+
+        // When
+        loginUseCase.execute(request);
+
+        // Then
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any());
+    }
+}
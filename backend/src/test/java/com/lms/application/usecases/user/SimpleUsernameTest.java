@@ -1,17 +1,22 @@
 package com.lms.application.usecases.user;
 
 import com.lms.application.dto.response.ValidationResult;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
+import com.lms.infrastructure.registration.UsernameValidationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -22,14 +27,22 @@ import static org.mockito.Mockito.when;
 class SimpleUsernameTest {
     
     @Mock
-    private UserRepository userRepository;
+    private UserIdentifierFilter userIdentifierFilter;
+    
+    @Mock
+    private UsernameValidationCache validationCache;
+    
+    @Spy
+    private ForbiddenWordDictionary forbiddenWordDictionary = new ForbiddenWordDictionary(
+            new DefaultResourceLoader(), mock(UsernameValidationCache.class),
+            "classpath:validation/forbidden-words.txt", 0);
     
     @InjectMocks
     private UsernameValidationUseCase usernameValidationUseCase;
     
     @BeforeEach
     void setUp() {
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
+        when(userIdentifierFilter.usernameExists(anyString())).thenReturn(false);
     }
     
     @Test
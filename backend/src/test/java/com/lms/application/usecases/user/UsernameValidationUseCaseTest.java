@@ -1,17 +1,29 @@
 package com.lms.application.usecases.user;
 
 import com.lms.application.dto.response.ValidationResult;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.ForbiddenWordDictionary;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
+import com.lms.infrastructure.registration.UsernameValidationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,15 +40,23 @@ import static org.mockito.Mockito.when;
 class UsernameValidationUseCaseTest {
     
     @Mock
-    private UserRepository userRepository;
+    private UserIdentifierFilter userIdentifierFilter;
+    
+    @Mock
+    private UsernameValidationCache validationCache;
+    
+    @Spy
+    private ForbiddenWordDictionary forbiddenWordDictionary = new ForbiddenWordDictionary(
+            new DefaultResourceLoader(), mock(UsernameValidationCache.class),
+            "classpath:validation/forbidden-words.txt", 0);
     
     @InjectMocks
     private UsernameValidationUseCase usernameValidationUseCase;
     
     @BeforeEach
     void setUp() {
-        // 기본적으로 중복되지 않은 상태로 설정
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
+        // 기본적으로 중복되지 않은 상태로 설정 (추천 테스트는 existingUsernames만 사용)
+        lenient().when(userIdentifierFilter.usernameExists(anyString())).thenReturn(false);
     }
     
     @Test
@@ -185,7 +205,7 @@ class UsernameValidationUseCaseTest {
     void should_ReturnInvalid_When_DuplicateUsername() {
         // Given
         String duplicateUsername = "testuser";
-        when(userRepository.existsByUsername(duplicateUsername)).thenReturn(true);
+        when(userIdentifierFilter.usernameExists(duplicateUsername)).thenReturn(true);
         
         // When
         ValidationResult result = usernameValidationUseCase.validateUsername(duplicateUsername);
@@ -241,16 +261,17 @@ class UsernameValidationUseCaseTest {
     @DisplayName("아이디 추천 - 기본 아이디로 추천 생성")
     void should_GenerateRecommendations_When_ValidBaseUsername() {
         // Given
-        String baseUsername = "testuser";
+        String baseUsername = "gildong";
         
         // When
         String[] recommendations = usernameValidationUseCase.generateRecommendations(baseUsername);
         
         // Then
         assertThat(recommendations).hasSize(3);
-        assertThat(recommendations[0]).startsWith("testuser");
-        assertThat(recommendations[1]).startsWith("testuser");
-        assertThat(recommendations[2]).startsWith("testuser");
+        assertThat(recommendations[0]).startsWith("gildong");
+        assertThat(recommendations[1]).startsWith("gildong");
+        assertThat(recommendations[2]).startsWith("gildong");
+        assertThat(recommendations).allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid());
     }
     
     @Test
@@ -264,7 +285,79 @@ class UsernameValidationUseCaseTest {
         
         // Then
         assertThat(recommendations).hasSize(3);
-        // 짧은 아이디는 "user"가 추가되어야 함
-        assertThat(recommendations[0]).startsWith("abuser");
+        // 짧은 아이디는 접미사만으로 4자 이상이 됨 (금지어 "user"를 붙이지 않음)
+        assertThat(recommendations).allMatch(name -> name.startsWith("ab") && !name.contains("user"));
+        assertThat(recommendations).allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid());
+    }
+    
+    @Test
+    @DisplayName("아이디 추천 - 한글 이름은 로마자로 변환해 추천")
+    void should_GenerateRecommendations_When_HangulBaseUsername() {
+        // When
+        String[] recommendations = usernameValidationUseCase.generateRecommendations("홍길동");
+        
+        // Then
+        assertThat(recommendations).hasSize(3);
+        assertThat(recommendations).allMatch(name -> name.startsWith("honggildong") || name.startsWith("hngg"));
+        assertThat(recommendations).allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid());
+    }
+    
+    @Test
+    @DisplayName("아이디 추천 - 영문으로 바꿀 수 없는 기본 아이디는 대체 기본 아이디로 추천")
+    void should_GenerateFallbackRecommendations_When_BaseHasNoUsableCharacters() {
+        // When
+        String[] recommendations = usernameValidationUseCase.generateRecommendations("山田");
+        
+        // Then
+        assertThat(recommendations).hasSize(3);
+        assertThat(recommendations).allMatch(name -> name.startsWith("lms"));
+        assertThat(recommendations).allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid());
+    }
+    
+    @Test
+    @DisplayName("아이디 추천 - 규칙(연속 숫자, 금지어)을 위반하는 후보는 제외")
+    void should_ReturnOnlyRuleCompliantRecommendations() {
+        // When
+        String[] digitEnding = usernameValidationUseCase.generateRecommendations("kim99", 20);
+        String[] forbidden = usernameValidationUseCase.generateRecommendations("testuser", 5);
+        
+        // Then
+        assertThat(digitEnding).isNotEmpty()
+                .allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid());
+        // 금지어가 들어간 기본 아이디는 모음 생략형만 추천
+        assertThat(forbidden).isNotEmpty()
+                .allMatch(name -> usernameValidationUseCase.validateUsername(name).isValid())
+                .noneMatch(name -> name.contains("test") || name.contains("user"));
+    }
+    
+    @Test
+    @DisplayName("아이디 추천 - 사용 중인 후보를 제외하고 요청 개수만큼 반환")
+    void should_ReturnOnlyAvailableRecommendations_When_CountRequested() {
+        // Given
+        when(userIdentifierFilter.existingUsernames(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> candidates = invocation.getArgument(0);
+                    return candidates.stream().limit(2).collect(Collectors.toSet());
+                });
+        
+        // When
+        String[] recommendations = usernameValidationUseCase.generateRecommendations("kimcoder", 10);
+        
+        // Then
+        assertThat(recommendations).hasSize(10).doesNotHaveDuplicates();
+        assertThat(recommendations).allMatch(name -> name.length() <= 20 && name.matches("^[a-z][a-z0-9]+$"));
+        verify(userIdentifierFilter, atMost(3)).existingUsernames(anyCollection());
+    }
+    
+    @Test
+    @DisplayName("아이디 추천 - 요청 개수는 3~20개로 조정")
+    void should_ClampRecommendationCount() {
+        // When
+        String[] tooMany = usernameValidationUseCase.generateRecommendations("kimcoder", 100);
+        String[] tooFew = usernameValidationUseCase.generateRecommendations("kimcoder", 1);
+        
+        // Then
+        assertThat(tooMany).hasSize(20);
+        assertThat(tooFew).hasSize(3);
     }
-}
\ No newline at end of file
+}
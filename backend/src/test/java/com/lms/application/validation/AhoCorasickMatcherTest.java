@@ -0,0 +1,35 @@
+package com.lms.application.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Aho-Corasick 금지어 매처 테스트")
+class AhoCorasickMatcherTest {
+
+    @Test
+    @DisplayName("겹치거나 접미사로 끝나는 금지어도 검출")
+    void containsAny_WithOverlappingWords_ShouldMatch() {
+        // Given
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile("admin", "administrator", "min", "test");
+
+        // When & Then
+        assertThat(matcher.containsAny("adminx")).isTrue();
+        assertThat(matcher.containsAny("xadmi")).isFalse();
+        assertThat(matcher.containsAny("admixmin")).isTrue();
+        assertThat(matcher.containsAny("tesTEST")).isTrue();
+        assertThat(matcher.containsAny("tes-t")).isFalse();
+    }
+
+    @Test
+    @DisplayName("아이디에 쓸 수 없는 문자가 포함된 단어는 제외")
+    void compile_WithUnmatchableWords_ShouldSkipThem() {
+        // When
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile("root", "관리자", "su do", "", "ROOT");
+
+        // Then
+        assertThat(matcher.wordCount()).isEqualTo(1);
+        assertThat(matcher.containsAny("myroot1")).isTrue();
+    }
+}
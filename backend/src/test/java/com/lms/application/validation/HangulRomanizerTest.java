@@ -0,0 +1,27 @@
+package com.lms.application.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("한글 로마자 변환 테스트")
+class HangulRomanizerTest {
+
+    @Test
+    @DisplayName("음절을 초성/중성/종성 표기로 변환")
+    void romanize_WithHangulName_ShouldUseRevisedRomanization() {
+        // When & Then
+        assertThat(HangulRomanizer.romanize("홍길동")).isEqualTo("honggildong");
+        assertThat(HangulRomanizer.romanize("김철수")).isEqualTo("gimcheolsu");
+        assertThat(HangulRomanizer.romanize("닭")).isEqualTo("dak");
+    }
+
+    @Test
+    @DisplayName("한글 음절이 아닌 문자는 그대로 유지")
+    void romanize_WithMixedText_ShouldKeepOtherCharacters() {
+        // When & Then
+        assertThat(HangulRomanizer.romanize("kim영희2")).isEqualTo("kimyeonghui2");
+        assertThat(HangulRomanizer.romanize("ㄱ山")).isEqualTo("ㄱ山");
+    }
+}
@@ -0,0 +1,114 @@
+package com.lms.application.validation;
+
+import com.lms.application.dto.response.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아이디 규칙 엔진 테스트
+ * 
+ * 기존 정규식 기반 구현과 같은 결과를 내는지 비교 (differential test)
+ */
+@DisplayName("아이디 규칙 엔진 테스트")
+class UsernameRuleEngineTest {
+
+    private static final String[] FORBIDDEN_WORDS = {
+        "admin", "administrator", "root", "test", "guest", "null", "undefined",
+        "password", "passwd", "login", "logout", "system", "user", "member",
+        "master", "operator", "moderator", "manager", "support", "service"
+    };
+
+    private final UsernameRuleEngine engine = new UsernameRuleEngine(AhoCorasickMatcher.compile(FORBIDDEN_WORDS));
+
+    @Test
+    @DisplayName("대표 입력에 대해 기존 구현과 같은 결과")
+    void check_WithKnownInputs_ShouldMatchLegacyRules() {
+        List<String> inputs = List.of(
+                "abc", "abcd", "a1234", "testuser", "TESTUSER", "myAdmin", "goodname12", "good1234name",
+                "aaab", "abbbc", "aAa1", "1abcd", "a_bcd", "ab cd", "한글아이디", "abcdefghijklmnopqrst",
+                "abcdefghijklmnopqrstu", "rooot", "nulll", "user111", "xx1111", "passwdd", "Moderator99",
+                "abcd\n", "abcéd", "zzz", "q9999", "servicemaster");
+
+        for (String input : inputs) {
+            assertSameResult(input);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 입력 10만 건에 대해 기존 구현과 같은 결과")
+    void check_WithRandomInputs_ShouldMatchLegacyRules() {
+        Random random = new Random(20241017L);
+        String alphabet = "abcdemnorstuAMSTU0123456789_ -가";
+        List<String> fragments = List.of("admin", "Root", "TEST", "user", "000", "aaa", "pass", "wd");
+
+        for (int n = 0; n < 100_000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int length = 1 + random.nextInt(24);
+            while (builder.length() < length) {
+                if (random.nextInt(6) == 0) {
+                    builder.append(fragments.get(random.nextInt(fragments.size())));
+                } else {
+                    builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String input = builder.toString();
+            if (!input.trim().isEmpty()) {
+                assertSameResult(input);
+            }
+        }
+    }
+
+    private void assertSameResult(String input) {
+        ValidationResult expected = LegacyRules.check(input);
+        ValidationResult actual = engine.check(input);
+        if (expected == null) {
+            assertThat(actual).as(input).isNull();
+        } else {
+            assertThat(actual).as(input).isNotNull();
+            assertThat(actual.getMessage()).as(input).isEqualTo(expected.getMessage());
+            assertThat(actual.getCode()).as(input).isEqualTo(expected.getCode());
+            assertThat(actual.isValid()).as(input).isEqualTo(expected.isValid());
+        }
+    }
+
+    /**
+     * 기존 UsernameValidationUseCase의 정규식 기반 규칙 검사
+     */
+    private static final class LegacyRules {
+
+        private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9]{3,19}$");
+        private static final Pattern CONSECUTIVE_PATTERN = Pattern.compile("(.)\\1{2,}");
+
+        static ValidationResult check(String username) {
+            if (username.length() < 4) {
+                return ValidationResult.invalid("아이디는 4자 이상 입력해주세요");
+            }
+            if (username.length() > 20) {
+                return ValidationResult.invalid("아이디는 20자 이하로 입력해주세요");
+            }
+            if (!USERNAME_PATTERN.matcher(username).matches()) {
+                return ValidationResult.invalid("아이디는 영문으로 시작하고 영문, 숫자만 사용 가능합니다");
+            }
+            if (CONSECUTIVE_PATTERN.matcher(username).find()) {
+                return ValidationResult.invalid("같은 문자를 3회 이상 연속으로 사용할 수 없습니다");
+            }
+            String lowerUsername = username.toLowerCase();
+            for (String forbidden : FORBIDDEN_WORDS) {
+                if (lowerUsername.contains(forbidden)) {
+                    return ValidationResult.invalid("사용할 수 없는 단어가 포함되어 있습니다");
+                }
+            }
+            if (username.matches(".*\\d{4,}.*")) {
+                return ValidationResult.invalid("숫자를 4자리 이상 연속으로 사용할 수 없습니다");
+            }
+            return null;
+        }
+    }
+}
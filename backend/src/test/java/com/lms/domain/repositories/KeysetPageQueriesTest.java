@@ -0,0 +1,209 @@
+package com.lms.domain.repositories;
+
+import com.lms.domain.entities.Company;
+import com.lms.domain.entities.Course;
+import com.lms.domain.entities.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 keyset 페이지 조회 테스트
+ * 조건은 값이 있는 것만 WHERE에 포함되는지 실행된 SQL로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.lms.domain.repositories.KeysetPageQueriesTest$SqlCapture")
+@ActiveProfiles("test")
+@DisplayName("목록 keyset 페이지 조회 테스트")
+class KeysetPageQueriesTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Company approved;
+
+    @BeforeEach
+    void setUp() {
+        approved = companyRepository.save(company("123-45-67891", Company.ContractStatus.APPROVED));
+        companyRepository.save(company("220-81-62517", Company.ContractStatus.PENDING));
+        userRepository.save(user("student01", User.UserType.STUDENT, User.Status.ACTIVE, null));
+        userRepository.save(user("student02", User.UserType.STUDENT, User.Status.PENDING_APPROVAL, approved));
+        userRepository.save(user("teacher01", User.UserType.INSTRUCTOR, User.Status.ACTIVE, null));
+        userRepository.save(user("student03", User.UserType.STUDENT, User.Status.ACTIVE, approved));
+        courseRepository.save(course("재직자 과정", Course.CourseType.EMPLOYEE));
+        courseRepository.save(course("구직자 과정", Course.CourseType.JOB_SEEKER));
+        courseRepository.save(course("공통 과정", Course.CourseType.COMMON));
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("사용자 목록은 지정한 조건만 WHERE에 포함하고 ID 순서로 after 다음부터 조회")
+    void findUserPage_ShouldOnlyIncludeGivenFilters() {
+        // When
+        List<UserRepository.UserListView> students =
+                userRepository.findPageAfter(0L, User.UserType.STUDENT, null, null, null, 2);
+        String sql = lastSelect();
+        List<UserRepository.UserListView> next = userRepository.findPageAfter(students.get(1).getId(),
+                User.UserType.STUDENT, null, null, null, 2);
+        List<UserRepository.UserListView> employees = userRepository.findPageAfter(0L, null,
+                User.Status.ACTIVE, approved.getId(), null, 10);
+        String filteredSql = lastSelect();
+
+        // Then
+        assertThat(students).extracting(UserRepository.UserListView::getUsername)
+                .containsExactly("student01", "student02");
+        assertThat(next).extracting(UserRepository.UserListView::getUsername).containsExactly("student03");
+        assertThat(employees).extracting(UserRepository.UserListView::getUsername).containsExactly("student03");
+        assertThat(employees.get(0).getCompanyId()).isEqualTo(approved.getId());
+        assertThat(employees.get(0).getStatus()).isEqualTo(User.Status.ACTIVE);
+
+        assertThat(sql).doesNotContain("is null").contains("user_type").doesNotContain("company_id=");
+        assertThat(filteredSql).doesNotContain("is null").doesNotContain("user_type=")
+                .contains("status").contains("company_id");
+    }
+
+    @Test
+    @DisplayName("협약사 목록은 계약 상태 미지정 시 상태 조건 없이 조회")
+    void findCompanyPage_WithoutStatus_ShouldOmitPredicate() {
+        // When
+        List<CompanyRepository.CompanyListView> all = companyRepository.findPageAfter(0L, null, 10);
+        String sql = lastSelect();
+        List<CompanyRepository.CompanyListView> pending =
+                companyRepository.findPageAfter(0L, Company.ContractStatus.PENDING, 10);
+
+        // Then
+        assertThat(all).hasSize(2);
+        assertThat(sql).doesNotContain("is null").doesNotContain("contract_status=");
+        assertThat(pending).extracting(CompanyRepository.CompanyListView::getContractStatus)
+                .containsExactly(Company.ContractStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("과정 목록은 유형 미지정 시 유형 조건 없이, 지정 시 해당 유형만 조회")
+    void findCoursePage_ShouldResolveTypePredicate() {
+        // When
+        List<CourseRepository.CourseListView> all = courseRepository.findPageAfter(0L, null, null, 10);
+        String sql = lastSelect();
+        List<CourseRepository.CourseListView> forEmployees = courseRepository.findPageAfter(0L,
+                EnumSet.of(Course.CourseType.EMPLOYEE, Course.CourseType.COMMON), Course.CourseStatus.ACTIVE, 10);
+
+        // Then
+        assertThat(all).hasSize(3);
+        assertThat(sql).doesNotContain("is null").doesNotContain("course_type");
+        assertThat(forEmployees).extracting(CourseRepository.CourseListView::getTitle)
+                .containsExactly("재직자 과정", "공통 과정");
+    }
+
+    @Test
+    @DisplayName("내보내기 스트림도 지정한 조건만 WHERE에 포함")
+    void streamForExport_ShouldOnlyIncludeGivenFilters() {
+        // When
+        List<UserRepository.UserListView> students;
+        try (Stream<UserRepository.UserListView> rows =
+                     userRepository.streamForExport(User.UserType.STUDENT, null, null)) {
+            students = rows.toList();
+        }
+        String userSql = lastSelect();
+        List<CompanyRepository.CompanyListView> companies;
+        try (Stream<CompanyRepository.CompanyListView> rows = companyRepository.streamForExport(null)) {
+            companies = rows.toList();
+        }
+        String companySql = lastSelect();
+        List<CourseRepository.CourseListView> courses;
+        try (Stream<CourseRepository.CourseListView> rows = courseRepository.streamForExport(null, null)) {
+            courses = rows.toList();
+        }
+        String courseSql = lastSelect();
+
+        // Then
+        assertThat(students).extracting(UserRepository.UserListView::getUsername)
+                .containsExactly("student01", "student02", "student03");
+        assertThat(userSql).doesNotContain("is null").contains("user_type").doesNotContain("status=");
+        assertThat(companies).hasSize(2);
+        assertThat(companySql).isEmpty();
+        assertThat(courses).hasSize(3);
+        assertThat(courseSql).isEmpty();
+    }
+
+    private static String lastSelect() {
+        List<String> statements = SqlCapture.STATEMENTS;
+        String sql = statements.get(statements.size() - 1).toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        // 실행 SQL의 WHERE 절만 비교 (선택 컬럼 목록 제외, WHERE가 없으면 빈 문자열)
+        int where = sql.indexOf(" where ");
+        return where < 0 ? "" : sql.substring(where);
+    }
+
+    private static Company company(String businessNumber, Company.ContractStatus contractStatus) {
+        return Company.builder()
+                .businessNumber(businessNumber)
+                .name("협약사 " + businessNumber)
+                .representativeName("홍길동")
+                .phone("02-1234-5678")
+                .email(businessNumber + "@company.com")
+                .address("서울시 강남구")
+                .contractStatus(contractStatus)
+                .build();
+    }
+
+    private static User user(String username, User.UserType userType, User.Status status, Company company) {
+        return User.builder()
+                .username(username)
+                .password("encoded")
+                .email(username + "@example.com")
+                .name(username)
+                .userType(userType)
+                .status(status)
+                .company(company)
+                .isEmployee(company != null)
+                .build();
+    }
+
+    private static Course course(String title, Course.CourseType courseType) {
+        return Course.builder()
+                .title(title)
+                .description(title + " 설명")
+                .targetAudience("전체")
+                .durationHours(10)
+                .courseType(courseType)
+                .status(Course.CourseStatus.ACTIVE)
+                .build();
+    }
+
+    /**
+     * 실행된 SQL 수집 (hibernate.session_factory.statement_inspector)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
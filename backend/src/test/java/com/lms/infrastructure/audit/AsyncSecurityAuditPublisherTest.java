@@ -0,0 +1,111 @@
+package com.lms.infrastructure.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비동기 보안 감사 발행기 테스트")
+class AsyncSecurityAuditPublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<SecurityAuditEvent>> writtenBatches;
+    private SecurityAuditSink sink;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatches = new CopyOnWriteArrayList<>();
+        sink = events -> writtenBatches.add(List.copyOf(events));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트를 배치로 모두 기록")
+    void stop_ShouldDrainPendingEventsInBatches() {
+        // Given
+        AsyncSecurityAuditPublisher publisher = createPublisher(100, 10, AuditOverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 25; i++) {
+            publisher.publish(event("user" + i));
+        }
+
+        // When
+        publisher.start();
+        publisher.stop();
+
+        // Then
+        assertThat(writtenBatches.stream().mapToInt(List::size).sum()).isEqualTo(25);
+        assertThat(writtenBatches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(10));
+        assertThat(meterRegistry.get("security.audit.events.written").counter().count()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST: 큐가 가득 차면 새 이벤트 유실")
+    void publish_WithDropNewest_ShouldDropNewEvent() {
+        // Given
+        AsyncSecurityAuditPublisher publisher = createPublisher(2, 10, AuditOverflowPolicy.DROP_NEWEST);
+
+        // When
+        publisher.publish(event("user1"));
+        publisher.publish(event("user2"));
+        boolean accepted = publisher.publish(event("user3"));
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(publisher.pendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.audit.events.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("security.audit.queue.depth").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 가장 오래된 이벤트를 버리고 새 이벤트 보관")
+    void publish_WithDropOldest_ShouldKeepNewestEvents() {
+        // Given
+        AsyncSecurityAuditPublisher publisher = createPublisher(2, 10, AuditOverflowPolicy.DROP_OLDEST);
+        publisher.publish(event("user1"));
+        publisher.publish(event("user2"));
+        publisher.publish(event("user3"));
+
+        // When
+        publisher.start();
+        publisher.stop();
+
+        // Then
+        assertThat(writtenBatches.stream().flatMap(List::stream).map(SecurityAuditEvent::getUsername))
+                .containsExactly("user2", "user3");
+        assertThat(meterRegistry.get("security.audit.events.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS: 큐가 가득 차면 호출 스레드에서 직접 기록")
+    void publish_WithCallerRuns_ShouldWriteSynchronously() {
+        // Given
+        AsyncSecurityAuditPublisher publisher = createPublisher(1, 10, AuditOverflowPolicy.CALLER_RUNS);
+        publisher.publish(event("user1"));
+
+        // When
+        boolean accepted = publisher.publish(event("user2"));
+
+        // Then
+        assertThat(accepted).isTrue();
+        assertThat(writtenBatches).hasSize(1);
+        assertThat(writtenBatches.get(0).get(0).getUsername()).isEqualTo("user2");
+    }
+
+    private AsyncSecurityAuditPublisher createPublisher(int capacity, int batchSize, AuditOverflowPolicy policy) {
+        return new AsyncSecurityAuditPublisher(sink, meterRegistry, capacity, batchSize, 50, policy);
+    }
+
+    private SecurityAuditEvent event(String username) {
+        return SecurityAuditEvent.builder()
+                .type(SecurityAuditEvent.Type.LOGIN_FAILED)
+                .username(username)
+                .clientIp("127.0.0.1")
+                .occurredAt(System.currentTimeMillis())
+                .build();
+    }
+}
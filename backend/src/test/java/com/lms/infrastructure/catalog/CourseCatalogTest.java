@@ -0,0 +1,177 @@
+package com.lms.infrastructure.catalog;
+
+import com.lms.application.dto.response.CourseSummary;
+import com.lms.domain.entities.Course;
+import com.lms.domain.events.CourseChangedEvent;
+import com.lms.domain.repositories.CourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("과정 카탈로그 테스트")
+class CourseCatalogTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalog = new CourseCatalog(courseRepository, transactionManager, meterRegistry, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.destroy();
+    }
+
+    @Test
+    @DisplayName("전체 재구성 시 대상별 활성 과정 목록 생성 (공통 과정은 양쪽 포함)")
+    void refresh_ShouldBuildAudienceViews() {
+        // Given
+        when(courseRepository.findAll()).thenReturn(List.of(
+                course(1L, Course.CourseType.EMPLOYEE, Course.CourseStatus.ACTIVE),
+                course(2L, Course.CourseType.JOB_SEEKER, Course.CourseStatus.ACTIVE),
+                course(3L, Course.CourseType.COMMON, Course.CourseStatus.ACTIVE),
+                course(4L, Course.CourseType.EMPLOYEE, Course.CourseStatus.DRAFT)));
+
+        // When
+        int size = catalog.refresh();
+
+        // Then
+        assertThat(size).isEqualTo(4);
+        assertThat(ids(catalog.findActiveCourses())).containsExactly(1L, 2L, 3L);
+        assertThat(ids(catalog.findCoursesForEmployees())).containsExactly(1L, 3L);
+        assertThat(ids(catalog.findCoursesForJobSeekers())).containsExactly(2L, 3L);
+        assertThat(ids(catalog.find(Course.CourseType.EMPLOYEE, null))).containsExactly(1L, 4L);
+        assertThat(ids(catalog.find(Course.CourseType.EMPLOYEE, Course.CourseStatus.DRAFT))).containsExactly(4L);
+        assertThat(catalog.find(Course.CourseType.COMMON, Course.CourseStatus.INACTIVE)).isEmpty();
+        assertThat(meterRegistry.get("catalog.courses.size").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("조회 목록은 변경 불가")
+    void findActiveCourses_ShouldReturnUnmodifiableList() {
+        // Given
+        when(courseRepository.findAll()).thenReturn(List.of(
+                course(1L, Course.CourseType.EMPLOYEE, Course.CourseStatus.ACTIVE)));
+        catalog.refresh();
+
+        // When & Then
+        assertThatThrownBy(() -> catalog.findActiveCourses().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷 구성 전 첫 조회 시 한 번만 적재")
+    void findActiveCourses_BeforeWarmUp_ShouldLoadOnce() {
+        // Given
+        when(courseRepository.findAll()).thenReturn(List.of(
+                course(1L, Course.CourseType.EMPLOYEE, Course.CourseStatus.ACTIVE)));
+
+        // When
+        catalog.findActiveCourses();
+        catalog.findCoursesForEmployees();
+
+        // Then
+        verify(courseRepository, times(1)).findAll();
+        assertThat(catalog.findById(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("과정 변경 이벤트 시 변경된 과정만 다시 읽어 반영")
+    void onCourseChanged_ShouldApplyChangedCourseOnly() {
+        // Given
+        Course employeeCourse = course(1L, Course.CourseType.EMPLOYEE, Course.CourseStatus.ACTIVE);
+        when(courseRepository.findAll()).thenReturn(List.of(
+                employeeCourse,
+                course(2L, Course.CourseType.JOB_SEEKER, Course.CourseStatus.ACTIVE)));
+        catalog.refresh();
+
+        Course deactivated = course(1L, Course.CourseType.EMPLOYEE, Course.CourseStatus.INACTIVE);
+        when(courseRepository.findAllById(Set.of(1L))).thenReturn(List.of(deactivated));
+
+        // When
+        catalog.onCourseChanged(new CourseChangedEvent(deactivated));
+
+        // Then
+        awaitCondition(() -> catalog.findCoursesForEmployees().isEmpty());
+        assertThat(ids(catalog.findActiveCourses())).containsExactly(2L);
+        assertThat(catalog.findById(1L)).get()
+                .extracting(CourseSummary::getStatus).isEqualTo(Course.CourseStatus.INACTIVE);
+        verify(courseRepository, times(1)).findAll();
+        awaitCondition(() -> meterRegistry.get("catalog.courses.refresh.lag").timer().count() == 1);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 후 DB에 없는 과정은 카탈로그에서 제거")
+    void onCourseChanged_DeletedCourse_ShouldRemoveFromCatalog() {
+        // Given
+        Course removed = course(1L, Course.CourseType.COMMON, Course.CourseStatus.ACTIVE);
+        when(courseRepository.findAll()).thenReturn(List.of(removed));
+        catalog.refresh();
+        when(courseRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+
+        // When
+        catalog.onCourseChanged(new CourseChangedEvent(removed));
+
+        // Then
+        awaitCondition(() -> catalog.size() == 0);
+        assertThat(catalog.findById(1L)).isEmpty();
+    }
+
+    private static Course course(Long id, Course.CourseType type, Course.CourseStatus status) {
+        Course course = Course.builder()
+                .title("과정 " + id)
+                .description("설명")
+                .targetAudience("대상")
+                .durationHours(40)
+                .maxParticipants(30)
+                .courseType(type)
+                .status(status)
+                .build();
+        ReflectionTestUtils.setField(course, "id", id);
+        return course;
+    }
+
+    private static List<Long> ids(List<CourseSummary> courses) {
+        return courses.stream().map(CourseSummary::getId).toList();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
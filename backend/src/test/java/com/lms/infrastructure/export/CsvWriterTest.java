@@ -0,0 +1,64 @@
+package com.lms.infrastructure.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CSV 출력 테스트")
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("UTF-8 BOM으로 시작하고 행은 CRLF로 구분")
+    void writeRow_ShouldStartWithBomAndUseCrlf() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("ID", "이름");
+            csv.writeRow(1L, "홍길동");
+        }
+
+        // Then
+        byte[] bytes = output.toByteArray();
+        assertThat(bytes).startsWith((byte) 0xEF, (byte) 0xBB, (byte) 0xBF);
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("\uFEFFID,이름\r\n1,홍길동\r\n");
+    }
+
+    @Test
+    @DisplayName("쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고 null은 빈 칸")
+    void writeRow_ShouldQuoteSpecialCharacters() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("서울시, 강남구", "\"특별\" 과정", "첫 줄\n둘째 줄", null);
+        }
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo("\uFEFF\"서울시, 강남구\",\"\"\"특별\"\" 과정\",\"첫 줄\n둘째 줄\",\r\n");
+    }
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 문자열은 앞에 ' 추가 (숫자는 그대로)")
+    void writeRow_ShouldNeutralizeFormulas() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (CsvWriter csv = new CsvWriter(output)) {
+            csv.writeRow("=HYPERLINK(\"x\")", "@SUM(A1)", -5, "일반");
+        }
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo("\uFEFF\"'=HYPERLINK(\"\"x\"\")\",'@SUM(A1),-5,일반\r\n");
+    }
+}
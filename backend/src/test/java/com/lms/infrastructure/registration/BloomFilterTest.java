@@ -0,0 +1,47 @@
+package com.lms.infrastructure.registration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bloom 필터 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판단 (false negative 없음)")
+    void mightContain_WithAddedValues_ShouldAlwaysBeTrue() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("false positive 비율이 설정값 근처로 유지")
+    void mightContain_WithAbsentValues_ShouldStayNearConfiguredRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,76 @@
+package com.lms.infrastructure.registration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("재직자 일괄 등록 파일 리더 테스트")
+class EmployeeImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV 헤더 순서와 표기에 관계없이 컬럼 매핑")
+    void next_WithCsv_ShouldMapColumnsByHeader() {
+        // Given
+        String csv = "\uFEFFEmail,USERNAME,name,phone_number,password\n"
+                + "kim@company.com,kimcoder,\"김, 코더\",010-1234-5678,Password1!\n"
+                + "\n"
+                + "lee@company.com,leecoder,\"이 \"\"코더\"\"\",,Password1!\n";
+
+        // When
+        EmployeeImportReader reader = reader(csv, EmployeeImportReader.Format.CSV);
+        EmployeeImportReader.Row first = reader.next();
+        EmployeeImportReader.Row second = reader.next();
+
+        // Then
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.data().getUsername()).isEqualTo("kimcoder");
+        assertThat(first.data().getEmail()).isEqualTo("kim@company.com");
+        assertThat(first.data().getName()).isEqualTo("김, 코더");
+        assertThat(first.data().getPhoneNumber()).isEqualTo("010-1234-5678");
+        assertThat(second.line()).isEqualTo(4);
+        assertThat(second.data().getName()).isEqualTo("이 \"코더\"");
+        assertThat(second.data().getPhoneNumber()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("변환할 수 없는 줄은 오류 행으로 반환하고 다음 줄 계속 처리")
+    void next_WithMalformedLine_ShouldReturnErrorRow() {
+        // Given
+        String jsonl = "{\"username\":\"kimcoder\",\"email\":\"kim@company.com\",\"unknown\":1}\n"
+                + "{not json\n"
+                + "{\"username\":\"leecoder\"}\n";
+
+        // When
+        EmployeeImportReader reader = reader(jsonl, EmployeeImportReader.Format.JSONL);
+        EmployeeImportReader.Row first = reader.next();
+        EmployeeImportReader.Row broken = reader.next();
+        EmployeeImportReader.Row third = reader.next();
+
+        // Then
+        assertThat(first.data().getUsername()).isEqualTo("kimcoder");
+        assertThat(broken.data()).isNull();
+        assertThat(broken.error()).isNotBlank();
+        assertThat(broken.line()).isEqualTo(2);
+        assertThat(third.data().getUsername()).isEqualTo("leecoder");
+    }
+
+    @Test
+    @DisplayName("CSV 따옴표가 닫히지 않으면 null")
+    void splitCsv_WithUnclosedQuote_ShouldReturnNull() {
+        assertThat(EmployeeImportReader.splitCsv("a,\"b")).isNull();
+        assertThat(EmployeeImportReader.splitCsv("a,,c")).containsExactly("a", "", "c");
+    }
+
+    private EmployeeImportReader reader(String content, EmployeeImportReader.Format format) {
+        return new EmployeeImportReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                format, objectMapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lms.infrastructure.registration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("아이디 금지어 사전 테스트")
+class ForbiddenWordDictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기본 사전으로 금지어 검사")
+    void ruleEngine_WithDefaultDictionary_ShouldRejectForbiddenWords() {
+        // Given
+        ForbiddenWordDictionary dictionary = new ForbiddenWordDictionary(new DefaultResourceLoader(),
+                mock(UsernameValidationCache.class), "classpath:validation/forbidden-words.txt", 0);
+
+        // When & Then
+        assertThat(dictionary.ruleEngine().check("myAdmin")).isNotNull();
+        assertThat(dictionary.ruleEngine().check("goodname12")).isNull();
+    }
+
+    @Test
+    @DisplayName("재적재 시 새 사전으로 교체하고 검증 캐시를 비움")
+    void reload_ShouldSwapDictionaryAndClearCache() throws IOException {
+        // Given
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "# 주석\nadmin\n\n관리자\n", StandardCharsets.UTF_8);
+        UsernameValidationCache cache = mock(UsernameValidationCache.class);
+        ForbiddenWordDictionary dictionary = new ForbiddenWordDictionary(new DefaultResourceLoader(), cache,
+                file.toUri().toString(), 0);
+        assertThat(dictionary.wordCount()).isEqualTo(1);
+        assertThat(dictionary.ruleEngine().check("goodname")).isNull();
+
+        // When
+        Files.writeString(file, "admin\ngoodname\n", StandardCharsets.UTF_8);
+        int wordCount = dictionary.reload();
+
+        // Then
+        assertThat(wordCount).isEqualTo(2);
+        assertThat(dictionary.ruleEngine().check("goodname")).isNotNull();
+        verify(cache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("재적재 실패 시 기존 사전 유지")
+    void reload_WithMissingFile_ShouldKeepCurrentDictionary() throws IOException {
+        // Given
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "admin\n", StandardCharsets.UTF_8);
+        ForbiddenWordDictionary dictionary = new ForbiddenWordDictionary(new DefaultResourceLoader(),
+                mock(UsernameValidationCache.class), file.toUri().toString(), 0);
+
+        // When
+        Files.delete(file);
+
+        // Then
+        assertThatThrownBy(dictionary::reload).isInstanceOf(RuntimeException.class);
+        assertThat(dictionary.ruleEngine().check("myAdmin")).isNotNull();
+    }
+}
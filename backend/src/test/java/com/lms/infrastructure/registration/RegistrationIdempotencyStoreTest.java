@@ -0,0 +1,162 @@
+package com.lms.infrastructure.registration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.request.EmployeeRegistrationRequest;
+import com.lms.application.dto.response.RegistrationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("회원가입 멱등성 키 저장소 테스트")
+class RegistrationIdempotencyStoreTest {
+
+    private RegistrationIdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        store = new RegistrationIdempotencyStore(100, 60, 2, new SimpleMeterRegistry());
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 저장된 결과 반환")
+    void execute_WithSameKey_ShouldReplayResponse() {
+        // Given
+        RegistrationIdempotencyStore.Outcome first = store.execute("key-1", "employee:kimcoder", this::register);
+
+        // When
+        RegistrationIdempotencyStore.Outcome second = store.execute("key-1", "employee:kimcoder", this::register);
+
+        // Then
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response()).isSameAs(first.response());
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 사용하면 충돌")
+    void execute_WithDifferentFingerprint_ShouldThrowConflict() {
+        // Given
+        store.execute("key-1", "employee:kimcoder", this::register);
+
+        // When & Then
+        assertThatThrownBy(() -> store.execute("key-1", "employee:leecoder", this::register))
+                .isInstanceOf(IdempotencyKeyConflictException.class)
+                .matches(e -> !((IdempotencyKeyConflictException) e).isInProgress());
+    }
+
+    @Test
+    @DisplayName("같은 키로 아이디는 같고 본문만 다른 요청을 보내면 충돌")
+    void execute_WithSameUsernameButDifferentBody_ShouldThrowConflict() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        String original = RegistrationIdempotencyStore.fingerprint("employee",
+                objectMapper.writeValueAsBytes(employeeRequest("Password123!", "kim@example.com")));
+        String sameBody = RegistrationIdempotencyStore.fingerprint("employee",
+                objectMapper.writeValueAsBytes(employeeRequest("Password123!", "kim@example.com")));
+        String changedPassword = RegistrationIdempotencyStore.fingerprint("employee",
+                objectMapper.writeValueAsBytes(employeeRequest("Other456!", "kim@example.com")));
+        String changedEmail = RegistrationIdempotencyStore.fingerprint("employee",
+                objectMapper.writeValueAsBytes(employeeRequest("Password123!", "lee@example.com")));
+        store.execute("key-1", original, this::register);
+
+        // When & Then
+        assertThat(sameBody).isEqualTo(original);
+        assertThat(store.execute("key-1", sameBody, this::register).replayed()).isTrue();
+        assertThatThrownBy(() -> store.execute("key-1", changedPassword, this::register))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThatThrownBy(() -> store.execute("key-1", changedEmail, this::register))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(original).startsWith("employee:").doesNotContain("Password123!");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 중복 요청은 처리 중인 요청의 결과를 기다림")
+    void execute_WithConcurrentDuplicates_ShouldExecuteOnce() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<RegistrationIdempotencyStore.Outcome> first = executor.submit(() ->
+                    store.execute("key-1", "employee:kimcoder", () -> {
+                        started.countDown();
+                        await(release);
+                        return register();
+                    }));
+            started.await(1, TimeUnit.SECONDS);
+
+            // When
+            Future<RegistrationIdempotencyStore.Outcome> second = executor.submit(() ->
+                    store.execute("key-1", "employee:kimcoder", this::register));
+            Future<RegistrationIdempotencyStore.Outcome> third = executor.submit(() ->
+                    store.execute("key-1", "employee:kimcoder", this::register));
+            release.countDown();
+
+            // Then
+            assertThat(second.get(1, TimeUnit.SECONDS).replayed()).isTrue();
+            assertThat(third.get(1, TimeUnit.SECONDS).response())
+                    .isSameAs(first.get(1, TimeUnit.SECONDS).response());
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 요청은 저장하지 않아 같은 키로 재시도 가능")
+    void execute_WhenRegistrationFails_ShouldAllowRetry() {
+        // Given
+        assertThatThrownBy(() -> store.execute("key-1", "employee:kimcoder", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        RegistrationIdempotencyStore.Outcome retried = store.execute("key-1", "employee:kimcoder", this::register);
+
+        // Then
+        assertThat(retried.replayed()).isFalse();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    private RegistrationResponse register() {
+        executions.incrementAndGet();
+        return RegistrationResponse.builder()
+                .success(true)
+                .username("kimcoder")
+                .build();
+    }
+
+    private static EmployeeRegistrationRequest employeeRequest(String password, String email) {
+        return EmployeeRegistrationRequest.builder()
+                .username("kimcoder")
+                .password(password)
+                .passwordConfirm(password)
+                .email(email)
+                .companyName("테스트회사")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.lms.infrastructure.registration;
+
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import com.lms.domain.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("아이디/이메일 중복 검사 필터 테스트")
+class UserIdentifierFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserIdentifierFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UserIdentifierFilter(userRepository, jdbcTemplate, transactionManager, meterRegistry,
+                true, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("필터 구성 전에는 항상 DB 조회")
+    void usernameExists_BeforeWarmUp_ShouldQueryDatabase() {
+        // Given
+        when(userRepository.existsByUsername("newuser")).thenReturn(false);
+
+        // When
+        boolean exists = filter.usernameExists("newuser");
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(filter.isReady()).isFalse();
+        verify(userRepository).existsByUsername("newuser");
+    }
+
+    @Test
+    @DisplayName("필터에 없는 아이디는 DB 조회 없이 사용 가능")
+    void usernameExists_WithAbsentUsername_ShouldSkipDatabase() throws Exception {
+        // Given
+        rebuildWith("existing", "existing@email.com");
+
+        // When
+        boolean exists = filter.usernameExists("brandnew");
+
+        // Then
+        assertThat(exists).isFalse();
+        verify(userRepository, never()).existsByUsername(anyString());
+        assertThat(meterRegistry.get("registration.identifier.filter.lookups")
+                .tag("result", "skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("필터에 있는 값은 DB로 확인")
+    void emailExists_WithKnownEmail_ShouldConfirmWithDatabase() throws Exception {
+        // Given
+        rebuildWith("existing", "existing@email.com");
+        when(userRepository.existsByEmail("existing@email.com")).thenReturn(true);
+
+        // When
+        boolean exists = filter.emailExists("existing@email.com");
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(meterRegistry.get("registration.identifier.filter.lookups")
+                .tag("result", "confirmed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장 이벤트로 추가된 아이디는 DB로 확인")
+    void onUserIdentifiersChanged_ShouldAddToFilter() throws Exception {
+        // Given
+        rebuildWith("existing", "existing@email.com");
+        when(userRepository.existsByUsername("joined")).thenReturn(true);
+
+        // When
+        filter.onUserIdentifiersChanged(new UserIdentifiersChangedEvent("joined", "joined@email.com"));
+
+        // Then
+        assertThat(filter.usernameExists("joined")).isTrue();
+        verify(userRepository).existsByUsername("joined");
+    }
+
+    @Test
+    @DisplayName("여러 아이디 확인 시 필터에 있는 값만 한 번에 DB 조회")
+    void existingUsernames_ShouldQueryOnlyProbableUsernames() throws Exception {
+        // Given
+        rebuildWith("existing", "existing@email.com");
+        when(userRepository.findExistingUsernames(List.of("existing"))).thenReturn(List.of("existing"));
+
+        // When
+        Set<String> existing = filter.existingUsernames(List.of("brandnew1", "existing", "brandnew2"));
+
+        // Then
+        assertThat(existing).containsExactly("existing");
+        verify(userRepository).findExistingUsernames(List.of("existing"));
+        assertThat(meterRegistry.get("registration.identifier.filter.lookups")
+                .tag("result", "skipped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재구성 SELECT 이후 커밋된 사용자도 새 필터에 포함")
+    void rebuild_WithUserCommittedAfterSnapshot_ShouldKeepUserInNewFilter() throws Exception {
+        // Given: 저장 이벤트는 재구성 전에 발생, 커밋은 SELECT 스냅샷 이후
+        rebuildWith("existing", "existing@email.com");
+        filter.onUserIdentifiersChanged(new UserIdentifiersChangedEvent("late", "late@email.com"));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("existing");
+        when(resultSet.getString(2)).thenReturn("existing@email.com");
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(resultSet);
+            filter.onUserIdentifiersCommitted(new UserIdentifiersChangedEvent("late", "late@email.com"));
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        when(userRepository.existsByUsername("late")).thenReturn(true);
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.usernameExists("late")).isTrue();
+        verify(userRepository).existsByUsername("late");
+    }
+
+    @Test
+    @DisplayName("재구성 완료 후 커밋된 사용자는 교체된 필터에 추가")
+    void onUserIdentifiersCommitted_AfterRebuild_ShouldAddToCurrentFilter() throws Exception {
+        // Given
+        rebuildWith("existing", "existing@email.com");
+        when(userRepository.existsByEmail("joined@email.com")).thenReturn(true);
+
+        // When
+        filter.onUserIdentifiersCommitted(new UserIdentifiersChangedEvent("joined", "joined@email.com"));
+
+        // Then
+        assertThat(filter.emailExists("joined@email.com")).isTrue();
+        verify(userRepository).existsByEmail("joined@email.com");
+    }
+
+    private void rebuildWith(String username, String email) throws Exception {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn(username);
+        when(resultSet.getString(2)).thenReturn(email);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        assertThat(filter.rebuild()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.lms.infrastructure.registration;
+
+import com.lms.application.dto.response.ValidationResult;
+import com.lms.domain.events.UserIdentifiersChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("아이디 검증 결과 캐시 테스트")
+class UsernameValidationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UsernameValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UsernameValidationCache(100, 60, 600, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("저장한 결과를 그대로 반환하고 hit ratio를 기록")
+    void getIfPresent_AfterPut_ShouldReturnCachedResult() {
+        // Given
+        ValidationResult result = ValidationResult.valid("사용 가능한 아이디입니다");
+        cache.put("newuser", result, false);
+
+        // When
+        ValidationResult first = cache.getIfPresent("newuser");
+        ValidationResult missing = cache.getIfPresent("otheruser");
+
+        // Then
+        assertThat(first).isSameAs(result);
+        assertThat(missing).isNull();
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", UsernameValidationCache.CACHE_NAME)
+                .gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("오류 결과는 캐싱하지 않음")
+    void put_WithErrorResult_ShouldNotCache() {
+        // When
+        cache.put("newuser", ValidationResult.error("아이디 검증 중 오류가 발생했습니다"), false);
+
+        // Then
+        assertThat(cache.getIfPresent("newuser")).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 저장 이벤트 수신 시 해당 아이디 무효화")
+    void onUserIdentifiersChanged_ShouldInvalidateUsername() {
+        // Given
+        cache.put("newuser", ValidationResult.valid("사용 가능한 아이디입니다"), false);
+        cache.put("takenuser", ValidationResult.invalid("이미 사용 중인 아이디입니다"), true);
+
+        // When
+        cache.onUserIdentifiersChanged(new UserIdentifiersChangedEvent("newuser", "new@email.com"));
+
+        // Then
+        assertThat(cache.getIfPresent("newuser")).isNull();
+        assertThat(cache.getIfPresent("takenuser")).isNotNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.lms.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("n-gram 역색인 테스트")
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex(2, 16);
+        index.put(1L, "홍길동", "hong@example.com");
+        index.put(2L, "김철수", "kim@example.com");
+        index.put(3L, "홍길순", "gilsoon@test.kr");
+        index.put(4L, "Alice Kim", "alice@example.com");
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 검색 (LIKE '%검색어%'와 같은 결과)")
+    void search_WithHangulSubstring_ShouldMatchLikeSemantics() {
+        // When & Then
+        assertThat(index.search(10, "길", null)).containsExactly(1L, 3L);
+        assertThat(index.search(10, "길동", null)).containsExactly(1L);
+        assertThat(index.search(10, "홍길", null)).containsExactly(1L, 3L);
+        assertThat(index.search(10, "동길", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("bigram이 모두 있어도 연속되지 않으면 제외")
+    void search_WithScatteredBigrams_ShouldVerifySubstring() {
+        // Given
+        index.put(5L, "가나다나가", "x@y.z");
+
+        // When & Then
+        assertThat(index.search(10, "가나가", null)).isEmpty();
+        assertThat(index.search(10, "다나가", null)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 문자열로 검색")
+    void search_WithChoseong_ShouldMatchInitialConsonants() {
+        // When & Then
+        assertThat(index.search(10, "ㅎㄱㄷ", null)).containsExactly(1L);
+        assertThat(index.search(10, "ㄱㅊ", null)).containsExactly(2L);
+        assertThat(index.search(10, "ㅎ", null)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 모든 필드 조건을 만족하는 문서만 반환")
+    void search_WithMultipleFields_ShouldRequireAll() {
+        // When & Then
+        assertThat(index.search(10, "kim", null)).containsExactly(4L);
+        assertThat(index.search(10, null, "EXAMPLE")).containsExactly(1L, 2L, 4L);
+        assertThat(index.search(10, "홍", "example")).containsExactly(1L);
+        assertThat(index.search(10, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수는 limit까지")
+    void search_ShouldStopAtLimit() {
+        // When & Then
+        assertThat(index.search(2, null, "example.com")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정 시 이전 값의 색인어는 제거되고 새 값으로 검색")
+    void put_ExistingId_ShouldReplaceTerms() {
+        // When
+        index.put(1L, "박지성", "park@example.com");
+
+        // Then
+        assertThat(index.search(10, "길동", null)).isEmpty();
+        assertThat(index.search(10, "지성", null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제된 문서는 검색되지 않고 다시 추가 가능")
+    void remove_ShouldExcludeDocument() {
+        // When
+        index.remove(3L);
+
+        // Then
+        assertThat(index.search(10, "홍길", null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+
+        index.put(3L, "홍길순", "gilsoon@test.kr");
+        assertThat(index.search(10, "홍길", null)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("대량 문서에서도 색인 순서대로 정확히 검색")
+    void search_WithManyDocuments_ShouldReturnExactMatches() {
+        // Given
+        NgramIndex large = new NgramIndex(1, 0);
+        for (int i = 1; i <= 50_000; i++) {
+            large.put(i, "사용자" + i);
+        }
+
+        // When
+        long[] found = large.search(100, "자4999");
+
+        // Then
+        assertThat(found).containsExactly(4999L, 49990L, 49991L, 49992L, 49993L, 49994L, 49995L,
+                49996L, 49997L, 49998L, 49999L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 음절/초성 unigram 색인으로 검색")
+    void search_WithSingleCharacter_ShouldUseUnigramPostings() {
+        // Given
+        NgramIndex large = new NgramIndex(1, 0);
+        for (int i = 1; i <= 50_000; i++) {
+            large.put(i, "사용자" + i);
+        }
+        large.put(50_001L, "홍길동");
+
+        // When & Then
+        assertThat(NgramTokenizer.queryTerms("홍")).containsExactly((int) '홍');
+        assertThat(large.search(10, "홍")).containsExactly(50_001L);
+        assertThat(large.search(10, "ㄷ")).containsExactly(50_001L);
+        assertThat(large.search(3, "용")).containsExactly(1L, 2L, 3L);
+        assertThat(large.search(10, "김")).isEmpty();
+
+        large.remove(50_001L);
+        assertThat(large.search(10, "홍")).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.lms.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계층형 타이밍 휠 테스트")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각 이전에는 전달되지 않고 도달하면 전달")
+    void advanceTo_ShouldFireAtDeadline() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 60_000, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("a", 5_000);
+
+        // When
+        wheel.advanceTo(4_999, expired::add);
+
+        // Then
+        assertThat(expired).isEmpty();
+        wheel.advanceTo(5_000, expired::add);
+        assertThat(expired).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("상위 레벨 항목은 재배치를 거쳐 정확한 tick에 전달")
+    void advanceTo_ShouldCascadeFromUpperLevels() {
+        // Given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 8, 600_000, 0);
+        List<Long> deadlines = List.of(3_000L, 9_000L, 64_000L, 65_000L, 130_000L, 511_000L);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+        List<Long> fired = new ArrayList<>();
+
+        // When
+        for (long now = 1_000; now <= 600_000; now += 1_000) {
+            long current = now;
+            wheel.advanceTo(now, deadline -> {
+                assertThat(deadline).isEqualTo(current);
+                fired.add(deadline);
+            });
+        }
+
+        // Then
+        assertThat(wheel.levelCount()).isGreaterThan(1);
+        assertThat(fired).containsExactlyElementsOf(deadlines);
+    }
+
+    @Test
+    @DisplayName("최상위 범위를 넘는 항목도 만료 시각에 전달")
+    void advanceTo_WithDelayBeyondHorizon_ShouldStillFire() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 10_000, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("far", 100_000);
+
+        // When
+        wheel.advanceTo(99_000, expired::add);
+
+        // Then
+        assertThat(expired).isEmpty();
+        wheel.advanceTo(100_000, expired::add);
+        assertThat(expired).containsExactly("far");
+    }
+}
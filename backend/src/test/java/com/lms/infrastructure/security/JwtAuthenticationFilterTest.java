@@ -0,0 +1,78 @@
+package com.lms.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtTokenProviderTestCasesVeryLongSecretKeyForHS512Algorithm123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SessionManager sessionManager;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000);
+        sessionManager = new SessionManager(new InMemorySessionStore(), 30, 1, 5, 1000, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtTokenProvider,
+                username -> new User(username, "hashedPassword", new ArrayList<>()),
+                new PrincipalCache(100, 300, new SimpleMeterRegistry()), sessionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        sessionManager.destroy();
+    }
+
+    @Test
+    @DisplayName("세션이 있는 사용자의 토큰은 인증")
+    void doFilter_WithActiveSession_ShouldAuthenticate() throws Exception {
+        // Given
+        sessionManager.createSession("testuser");
+
+        // When
+        filter.doFilter(request(jwtTokenProvider.generateToken("testuser")), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("세션이 제거된 사용자의 토큰은 인증하지 않음")
+    void doFilter_WithoutSession_ShouldNotAuthenticate() throws Exception {
+        // Given
+        sessionManager.createSession("testuser");
+        sessionManager.removeSession("testuser");
+
+        // When
+        filter.doFilter(request(jwtTokenProvider.generateToken("testuser")), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
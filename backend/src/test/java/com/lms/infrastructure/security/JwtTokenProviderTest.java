@@ -97,4 +97,46 @@ class JwtTokenProviderTest {
         assertThat(expirationDate).isNotNull();
         assertThat(expirationDate.getTime()).isGreaterThan(System.currentTimeMillis());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("JWT 토큰 단일 파싱 테스트")
+    void parseToken_WithValidToken_ShouldReturnClaims() {
+        // Given
+        String username = "testuser";
+        String token = jwtTokenProvider.generateToken(username);
+
+        // When
+        var verifiedToken = jwtTokenProvider.parseToken(token);
+
+        // Then
+        assertThat(verifiedToken).isPresent();
+        assertThat(verifiedToken.get().getSubject()).isEqualTo(username);
+        assertThat(verifiedToken.get().getExpiresAt()).isGreaterThan(verifiedToken.get().getIssuedAt());
+        assertThat(verifiedToken.get().getExpirationDate())
+                .isEqualTo(jwtTokenProvider.getExpirationDateFromToken(token));
+    }
+
+    @Test
+    @DisplayName("잘못된 JWT 토큰 단일 파싱 테스트")
+    void parseToken_WithInvalidToken_ShouldReturnEmpty() {
+        // When & Then
+        assertThat(jwtTokenProvider.parseToken("invalid.jwt.token")).isEmpty();
+        assertThat(jwtTokenProvider.parseToken(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그아웃 직후 같은 초에 재로그인해도 새 토큰은 유효")
+    void generateToken_AfterRevokeWithinSameSecond_ShouldIssueUsableToken() {
+        // Given
+        String first = jwtTokenProvider.generateToken("testuser");
+        jwtTokenProvider.revokeToken(first);
+
+        // When
+        String second = jwtTokenProvider.generateToken("testuser");
+
+        // Then
+        assertThat(second).isNotEqualTo(first);
+        assertTrue(jwtTokenProvider.validateToken(second));
+        assertFalse(jwtTokenProvider.validateToken(first));
+    }
+}
@@ -0,0 +1,190 @@
+package com.lms.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("로그인 시도 제한 테스트")
+class LoginRateLimiterTest {
+
+    private InMemoryLoginAttemptStore loginAttemptStore;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptStore = new InMemoryLoginAttemptStore(15);
+        loginRateLimiter = new LoginRateLimiter(loginAttemptStore, 5, 10, 15);
+    }
+
+    @Test
+    @DisplayName("아이디별 시도 횟수 초과 시 차단")
+    void acquire_AfterMaxAttempts_ShouldThrow() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.acquire("testuser", "10.0.0." + i);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("testuser", "10.0.0.100"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> loginRateLimiter.acquire("otheruser", "10.0.0.100"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IP별 시도 횟수 초과 시 차단")
+    void acquire_AfterIpMaxAttempts_ShouldThrow() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            loginRateLimiter.acquire("user" + i, "10.0.0.1");
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("newuser", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> loginRateLimiter.acquire("newuser", "10.0.0.2"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 아이디 기록 초기화, IP 제한에는 집계하지 않음")
+    void recordSuccess_ShouldResetUsernameAndReleaseIp() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            loginRateLimiter.acquire("testuser", "10.0.0.1");
+        }
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            long attemptedAt = loginRateLimiter.acquire("user" + i, "10.0.0.1");
+            loginRateLimiter.recordSuccess("user" + i, "10.0.0.1", attemptedAt);
+        }
+        long attemptedAt = loginRateLimiter.acquire("testuser", "10.0.0.1");
+        loginRateLimiter.recordSuccess("testuser", "10.0.0.1", attemptedAt);
+
+        // Then
+        assertThatCode(() -> loginRateLimiter.acquire("testuser", "10.0.0.1"))
+                .doesNotThrowAnyException();
+        assertThat(loginAttemptStore.countAttempts("u:testuser", System.currentTimeMillis())).isEqualTo(1);
+        assertThat(loginAttemptStore.countAttempts("ip:10.0.0.1", System.currentTimeMillis())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 시도는 제한 횟수까지만 허용 (BCrypt 연산 상한)")
+    void acquire_Concurrently_ShouldAdmitOnlyMaxAttempts() throws InterruptedException {
+        // Given
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger admitted = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    loginRateLimiter.acquire("testuser", null);
+                    admitted.incrementAndGet();
+                } catch (LoginThrottledException | InterruptedException ignored) {
+                    // 차단된 시도
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(admitted.get()).isEqualTo(5);
+        assertThat(loginAttemptStore.countAttempts("u:testuser", System.currentTimeMillis())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("검증하지 못한 시도는 취소되어 집계하지 않음")
+    void release_ShouldUndoReservedAttempt() {
+        // Given
+        long attemptedAt = loginRateLimiter.acquire("testuser", "10.0.0.1");
+
+        // When
+        loginRateLimiter.release("testuser", "10.0.0.1", attemptedAt);
+
+        // Then
+        assertThat(loginAttemptStore.countAttempts("u:testuser", attemptedAt)).isZero();
+        assertThat(loginAttemptStore.countAttempts("ip:10.0.0.1", attemptedAt)).isZero();
+    }
+
+    @Test
+    @DisplayName("추적 키 상한 초과 시 기록마다 일부만 확인하며 만료된 키 정리")
+    void recordAttempt_OverKeyLimit_ShouldEvictIncrementally() {
+        // Given: 윈도우가 지난 키로 상한 초과
+        long old = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(30);
+        for (int i = 0; i <= 100_000; i++) {
+            loginAttemptStore.recordAttempt("ip:old-" + i, old);
+        }
+        int before = loginAttemptStore.trackedKeyCount();
+
+        // When
+        long now = System.currentTimeMillis();
+        loginAttemptStore.recordAttempt("ip:new-1", now);
+        loginAttemptStore.recordAttempt("ip:new-2", now);
+
+        // Then: 한 번에 EVICTION_BATCH개 이하만 정리
+        int evicted = before + 2 - loginAttemptStore.trackedKeyCount();
+        assertThat(evicted).isPositive().isLessThanOrEqualTo(2 * InMemoryLoginAttemptStore.EVICTION_BATCH);
+    }
+
+    @Test
+    @DisplayName("윈도우가 지난 시도 기록은 집계하지 않음")
+    void countAttempts_OutsideWindow_ShouldNotCount() {
+        // Given
+        long now = System.currentTimeMillis();
+        long windowMillis = TimeUnit.MINUTES.toMillis(15);
+        loginAttemptStore.recordAttempt("u:testuser", now - windowMillis - 60_000);
+        loginAttemptStore.recordAttempt("u:testuser", now);
+
+        // When
+        int count = loginAttemptStore.countAttempts("u:testuser", now);
+
+        // Then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 시도 기록 시 누락 없이 집계")
+    void recordAttempt_Concurrently_ShouldCountAll() throws InterruptedException {
+        // Given
+        int threads = 8;
+        int attemptsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        long now = System.currentTimeMillis();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    loginAttemptStore.recordAttempt("ip:10.0.0.1", now);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(loginAttemptStore.countAttempts("ip:10.0.0.1", now)).isEqualTo(threads * attemptsPerThread);
+    }
+}
@@ -0,0 +1,59 @@
+package com.lms.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비밀번호 인코더 팩토리 테스트")
+class PasswordEncoderFactoryTest {
+
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactory.create(10);
+
+    @Test
+    @DisplayName("새 해시는 {bcrypt} 접두어로 생성")
+    void encode_ShouldUseBcryptPrefix() {
+        // When
+        String encoded = passwordEncoder.encode("password123!");
+
+        // Then
+        assertThat(encoded).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches("password123!", encoded)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두어 없는 기존 해시는 검증 가능하고 재해시 대상")
+    void legacyHash_ShouldMatchAndRequireUpgrade() {
+        // Given
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123!");
+
+        // When & Then
+        assertThat(passwordEncoder.matches("password123!", legacyHash)).isTrue();
+        assertThat(passwordEncoder.matches("wrongpassword", legacyHash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 설정보다 cost가 낮은 해시는 재해시 대상")
+    void lowerCostHash_ShouldRequireUpgrade() {
+        // Given
+        String lowCostHash = PasswordEncoderFactory.create(4).encode("password123!");
+
+        // When & Then
+        assertThat(passwordEncoder.matches("password123!", lowCostHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(lowCostHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("BCrypt cost 보정은 허용 범위 내 값 반환")
+    void calibrateBCryptStrength_ShouldReturnStrengthWithinBounds() {
+        // When
+        int strength = PasswordEncoderFactory.calibrateBCryptStrength(1);
+
+        // Then
+        assertThat(strength).isEqualTo(PasswordEncoderFactory.MIN_BCRYPT_STRENGTH);
+    }
+}
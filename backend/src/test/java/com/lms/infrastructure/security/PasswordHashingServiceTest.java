@@ -0,0 +1,113 @@
+package com.lms.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비밀번호 해시 전용 실행기 테스트")
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHashingService != null) {
+            passwordHashingService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 encode/matches 수행")
+    void encodeAndMatches_ShouldDelegateToEncoder() {
+        // Given
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(4), 2, 4, 5000, meterRegistry);
+
+        // When
+        String encoded = passwordHashingService.encode("password123!");
+
+        // Then
+        assertThat(passwordHashingService.matches("password123!", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("wrongpassword", encoded)).isFalse();
+        assertThat(meterRegistry.get("security.password.hash.duration").tag("operation", "encode")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hash.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 즉시 거절")
+    void encode_WhenQueueFull_ShouldRejectImmediately() throws Exception {
+        // Given: 작업자 1개, 대기열 1개를 모두 점유
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BlockingPasswordEncoder(release);
+        passwordHashingService = new PasswordHashingService(blockingEncoder, 1, 1, 5000, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("b"));
+        waitUntilQueued(1);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHashingService.encode("c"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("security.password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 시 거절")
+    void encode_WhenTimedOut_ShouldReject() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingService = new PasswordHashingService(new BlockingPasswordEncoder(release), 1, 1, 50, meterRegistry);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHashingService.encode("a"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        release.countDown();
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("security.password.hash.queue.size").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.lms.infrastructure.security;
+
+import com.lms.domain.events.UserSecurityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인증 주체 캐시 테스트")
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loadCount;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, 300, meterRegistry);
+        loadCount = new AtomicInteger();
+        loader = username -> {
+            loadCount.incrementAndGet();
+            return new User(username, "hashedPassword", new ArrayList<>());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 사용자/발급 시각은 한 번만 조회")
+    void get_WithSameKey_ShouldLoadOnce() {
+        // When
+        UserDetails first = principalCache.get("testuser", 1000L, loader);
+        UserDetails second = principalCache.get("testuser", 1000L, loader);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발급 시각이 다르면 별도로 조회")
+    void get_WithDifferentIssuedAt_ShouldLoadAgain() {
+        // When
+        principalCache.get("testuser", 1000L, loader);
+        principalCache.get("testuser", 2000L, loader);
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void invalidate_ShouldRemoveAllEntriesOfUser() {
+        // Given
+        principalCache.get("testuser", 1000L, loader);
+        principalCache.get("testuser", 2000L, loader);
+        principalCache.get("otheruser", 1000L, loader);
+
+        // When
+        principalCache.invalidate("testuser");
+
+        // Then
+        assertThat(principalCache.size()).isEqualTo(1);
+        principalCache.get("testuser", 1000L, loader);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("보안 정보 변경 이벤트 수신 시 무효화")
+    void onUserSecurityChanged_ShouldInvalidateUser() {
+        // Given
+        principalCache.get("testuser", 1000L, loader);
+
+        // When
+        principalCache.onUserSecurityChanged(new UserSecurityChangedEvent("testuser"));
+
+        // Then
+        assertThat(principalCache.size()).isZero();
+    }
+}
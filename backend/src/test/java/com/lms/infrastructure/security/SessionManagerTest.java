@@ -0,0 +1,266 @@
+package com.lms.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("세션 관리자 테스트")
+class SessionManagerTest {
+
+    private static final long TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemorySessionStore sessionStore;
+    private MutableClock clock;
+    private SessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionStore = new InMemorySessionStore();
+        clock = new MutableClock(System.currentTimeMillis());
+        sessionManager = new SessionManager(sessionStore, 1, 1, 3600, 1000, meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionManager.destroy();
+    }
+
+    @Test
+    @DisplayName("생성한 세션은 유효")
+    void createSession_ShouldBeValid() {
+        // When
+        sessionManager.createSession("testuser");
+
+        // Then
+        assertThat(sessionManager.isSessionValid("testuser")).isTrue();
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.sessions.active").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성 시간이 지나면 만료")
+    void expireSessions_AfterTimeout_ShouldRemoveSession() {
+        // Given
+        sessionManager.createSession("testuser");
+
+        // When
+        clock.advance(TIMEOUT_MS + 2_000);
+        sessionManager.expireSessions(clock.millis());
+
+        // Then
+        assertThat(sessionManager.isSessionValid("testuser")).isFalse();
+        assertThat(sessionManager.getActiveSessionCount()).isZero();
+        assertThat(meterRegistry.get("security.sessions.expired").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자당 동시 세션 수를 1보다 크게 설정하면 생성 실패")
+    void constructor_WithMaxConcurrentSessionsAboveOne_ShouldThrow() {
+        // When & Then
+        assertThatThrownBy(() -> new SessionManager(sessionStore, 1, 2, 3600, 1000, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("max-concurrent-sessions");
+    }
+
+    @Test
+    @DisplayName("만료 전에는 유지")
+    void expireSessions_BeforeTimeout_ShouldKeepSession() {
+        // Given
+        sessionManager.createSession("testuser");
+
+        // When
+        clock.advance(TIMEOUT_MS / 2);
+        sessionManager.expireSessions(clock.millis());
+
+        // Then
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재로그인 시 기존 세션을 대체하고 이전 세션 만료 예약은 무시")
+    void createSession_Twice_ShouldReplacePreviousSession() {
+        // Given
+        sessionManager.createSession("testuser");
+
+        // When
+        sessionManager.createSession("testuser");
+
+        // Then
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.sessions.replaced").counter().count()).isEqualTo(1.0);
+        clock.advance(TIMEOUT_MS + 2_000);
+        sessionManager.expireSessions(clock.millis());
+        assertThat(meterRegistry.get("security.sessions.expired").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("제거한 세션은 유효하지 않음")
+    void removeSession_ShouldInvalidate() {
+        // Given
+        sessionManager.createSession("testuser");
+
+        // When
+        sessionManager.removeSession("testuser");
+
+        // Then
+        assertThat(sessionManager.isSessionValid("testuser")).isFalse();
+        assertThat(sessionStore.findLastAccessedAt("testuser")).isEmpty();
+        clock.advance(TIMEOUT_MS + 2_000);
+        sessionManager.expireSessions(clock.millis());
+        assertThat(meterRegistry.get("security.sessions.expired").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("활동 시각은 flush 시점에 한 번만 저장소에 반영")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void updateSessionActivity_ShouldBeCoalescedUntilFlush() {
+        // Given
+        SessionStore store = mock(SessionStore.class);
+        SessionManager manager = new SessionManager(store, 1, 1, 3600, 0, new SimpleMeterRegistry());
+        manager.createSession("testuser");
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            manager.updateSessionActivity("testuser");
+        }
+        manager.flushSessions();
+        manager.flushSessions();
+
+        // Then
+        ArgumentCaptor<Map<String, Long>> touches = ArgumentCaptor.forClass((Class) Map.class);
+        verify(store, times(2)).touchAll(touches.capture());
+        assertThat(touches.getAllValues().get(0)).containsOnlyKeys("testuser");
+        assertThat(touches.getAllValues().get(1)).isEmpty();
+        manager.destroy();
+    }
+
+    @Test
+    @DisplayName("갱신 단위 시간 안의 활동은 기록하지 않음")
+    void updateSessionActivity_WithinGranularity_ShouldNotMarkDirty() {
+        // Given
+        SessionStore store = mock(SessionStore.class);
+        SessionManager manager = new SessionManager(store, 1, 1, 3600, 60_000, new SimpleMeterRegistry());
+        manager.createSession("testuser");
+
+        // When
+        manager.updateSessionActivity("testuser");
+        manager.flushSessions();
+
+        // Then
+        verify(store).touchAll(Map.of());
+        assertThat(manager.isSessionValid("testuser")).isTrue();
+        manager.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 생성된 세션은 저장소에서 복원")
+    void isSessionValid_WithSessionOnlyInStore_ShouldRestore() {
+        // Given
+        long now = clock.millis();
+        sessionStore.save("remoteuser", now, now);
+
+        // When
+        boolean valid = sessionManager.isSessionValid("remoteuser");
+
+        // Then
+        assertThat(valid).isTrue();
+        assertThat(sessionManager.getActiveSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소에서도 만료된 세션은 유효하지 않음")
+    void isSessionValid_WithExpiredStoredSession_ShouldBeInvalid() {
+        // Given
+        long past = clock.millis() - TIMEOUT_MS - 1_000;
+        sessionStore.save("remoteuser", past, past);
+
+        // When & Then
+        assertThat(sessionManager.isSessionValid("remoteuser")).isFalse();
+        assertThat(sessionManager.getActiveSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장소의 활동 시각도 같은 시계 기준으로 만료 판단")
+    void isSessionValid_AfterTimeout_ShouldNotRestoreFromStore() {
+        // Given
+        sessionManager.createSession("testuser");
+        sessionManager.flushSessions();
+
+        // When
+        clock.advance(TIMEOUT_MS + 2_000);
+
+        // Then
+        assertThat(sessionStore.findLastAccessedAt("testuser")).isPresent();
+        assertThat(sessionManager.isSessionValid("testuser")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 제거된 세션은 flush 주기가 지나면 로컬에서도 무효")
+    void isSessionValid_AfterRemovalOnOtherNode_ShouldRecheckStore() {
+        // Given
+        SessionManager manager = new SessionManager(sessionStore, 1, 1, 5, 1000, new SimpleMeterRegistry(), clock);
+        manager.createSession("testuser");
+        sessionStore.remove("testuser");
+
+        // When & Then
+        assertThat(manager.isSessionValid("testuser")).isTrue();
+        clock.advance(5_000);
+        assertThat(manager.isSessionValid("testuser")).isFalse();
+        assertThat(manager.getActiveSessionCount()).isZero();
+        manager.destroy();
+    }
+
+    /**
+     * 테스트에서 직접 시각을 옮기는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
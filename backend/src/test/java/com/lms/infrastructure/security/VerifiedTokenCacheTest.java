@@ -0,0 +1,91 @@
+package com.lms.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JWT 검증 결과 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    private final String testSecret = "TestSecretKeyForJwtTokenProviderTestCasesVeryLongSecretKeyForHS512Algorithm123456789";
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        jwtTokenProvider = new JwtTokenProvider(testSecret, 86400000, verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증")
+    void verify_WithSameToken_ShouldVerifyOnce() {
+        // Given
+        String token = jwtTokenProvider.generateToken("testuser");
+        AtomicInteger verifyCount = new AtomicInteger();
+        Function<String, Optional<VerifiedToken>> verifier = t -> {
+            verifyCount.incrementAndGet();
+            return Optional.of(new VerifiedToken("testuser", System.currentTimeMillis(),
+                    System.currentTimeMillis() + 60000));
+        };
+
+        // When
+        verifiedTokenCache.verify(token, verifier);
+        Optional<VerifiedToken> second = verifiedTokenCache.verify(token, verifier);
+
+        // Then
+        assertThat(second).isPresent();
+        assertThat(second.get().getSubject()).isEqualTo("testuser");
+        assertThat(verifyCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패한 토큰은 캐시하지 않음")
+    void verify_WithInvalidToken_ShouldNotCache() {
+        // When
+        Optional<VerifiedToken> result = jwtTokenProvider.parseToken("invalid.jwt.token");
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(jwtTokenProvider.parseToken("invalid.jwt.token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 거부")
+    void revokeToken_ShouldRejectToken() {
+        // Given
+        String token = jwtTokenProvider.generateToken("testuser");
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+
+        // When
+        jwtTokenProvider.revokeToken(token);
+
+        // Then
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+        assertThat(jwtTokenProvider.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 상태에서도 폐기 목록은 적용")
+    void revokeToken_WhenCacheDisabled_ShouldStillRejectToken() {
+        // Given
+        JwtTokenProvider provider = new JwtTokenProvider(testSecret, 86400000);
+        String token = provider.generateToken("testuser");
+        String otherToken = provider.generateToken("otheruser");
+
+        // When
+        provider.revokeToken(token);
+
+        // Then
+        assertThat(provider.validateToken(token)).isFalse();
+        assertThat(provider.validateToken(otherToken)).isTrue();
+    }
+}
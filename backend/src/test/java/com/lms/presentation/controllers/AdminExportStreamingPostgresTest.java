@@ -0,0 +1,143 @@
+package com.lms.presentation.controllers;
+
+import com.lms.application.usecases.admin.AdminExportUseCase;
+import com.lms.domain.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 목록 내보내기 스트리밍 테스트 (PostgreSQL)
+ *
+ * 실제 스키마(Flyway)와 streamForExport 쿼리를 StreamingResponseBody로 끝까지 실행
+ * - 읽기 전용 트랜잭션 + fetch size로 PostgreSQL 커서에서 나눠 읽는지 힙 사용량으로 확인
+ *   (커서를 쓰지 않으면 드라이버가 결과 전체를 메모리에 적재)
+ * - Docker가 없으면 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AdminExportController.class, AdminExportUseCase.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 운영과 같이 내보내기 자체 트랜잭션으로 조회
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("관리자 목록 내보내기 스트리밍 테스트 (PostgreSQL)")
+class AdminExportStreamingPostgresTest {
+
+    private static final int INSTRUCTORS = 20_000;
+    private static final int STUDENTS = 180_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private AdminExportController adminExportController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static boolean seeded;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 행마다 부서명 100자(UTF-8 300바이트) → 전체 적재 시 결과만 수십 MB
+        jdbcTemplate.update("INSERT INTO users (username, password, email, name, user_type, status, "
+                + "is_employee, department) "
+                + "SELECT 'user' || g, 'encoded', 'user' || g || '@example.com', '사용자' || g, "
+                + "CASE WHEN g <= ? THEN 'INSTRUCTOR' ELSE 'STUDENT' END, 'ACTIVE', false, repeat('부', 100) "
+                + "FROM generate_series(1, ?) AS g", INSTRUCTORS, INSTRUCTORS + STUDENTS);
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("StreamingResponseBody로 실제 회원 목록을 ID 순서대로 CSV 출력")
+    void exportUsers_ShouldStreamRowsFromDatabase() throws IOException {
+        // Given
+        ResponseEntity<StreamingResponseBody> response =
+                adminExportController.exportUsers(User.UserType.INSTRUCTOR, null, null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        response.getBody().writeTo(output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(INSTRUCTORS + 1);
+        assertThat(lines[0]).startsWith("\uFEFFID,아이디,이메일");
+        assertThat(lines[1]).contains(",user1,user1@example.com,사용자1,INSTRUCTOR,ACTIVE,false,,");
+        assertThat(lines[INSTRUCTORS]).contains(",user" + INSTRUCTORS + ",");
+    }
+
+    @Test
+    @DisplayName("내보내는 행 수가 10배가 되어도 힙 사용량은 일정 (DB 커서로 나눠 읽음)")
+    void exportUsers_HeapUsage_ShouldStayFlatAcrossSizes() throws IOException {
+        // When
+        HeapSamplingOutputStream small = export(User.UserType.INSTRUCTOR);
+        HeapSamplingOutputStream large = export(null);
+
+        // Then
+        assertThat(large.count).isGreaterThan(small.count * 9);
+        assertThat(large.maxUsedHeap - small.maxUsedHeap).isLessThan(32L * 1024 * 1024);
+    }
+
+    private HeapSamplingOutputStream export(User.UserType userType) throws IOException {
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream(4L * 1024 * 1024);
+        adminExportController.exportUsers(userType, null, null).getBody().writeTo(output);
+        return output;
+    }
+
+    /**
+     * 출력 바이트 수를 세고 sampleInterval바이트마다 GC 후 힙 사용량의 최댓값 기록
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final long sampleInterval;
+        private long count;
+        private long nextSample;
+        private long maxUsedHeap;
+
+        private HeapSamplingOutputStream(long sampleInterval) {
+            this.sampleInterval = sampleInterval;
+            this.nextSample = sampleInterval;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+            if (count >= nextSample) {
+                nextSample += sampleInterval;
+                System.gc();
+                maxUsedHeap = Math.max(maxUsedHeap,
+                        ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+            }
+        }
+    }
+}
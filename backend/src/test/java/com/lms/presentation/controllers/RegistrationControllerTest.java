@@ -9,7 +9,8 @@ import com.lms.application.dto.response.RegistrationResponse;
 import com.lms.application.usecases.user.EmployeeRegistrationUseCase;
 import com.lms.application.usecases.user.IdentityVerificationUseCase;
 import com.lms.application.usecases.user.JobSeekerRegistrationUseCase;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.RegistrationIdempotencyStore;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -57,7 +58,10 @@ class RegistrationControllerTest {
     private JobSeekerRegistrationUseCase jobSeekerRegistrationUseCase;
 
     @MockBean
-    private UserRepository userRepository;
+    private UserIdentifierFilter userIdentifierFilter;
+    
+    @MockBean
+    private RegistrationIdempotencyStore registrationIdempotencyStore;
 
     @Test
     @DisplayName("본인인증 API - 정상 요청시 200 OK 응답")
@@ -208,7 +212,7 @@ class RegistrationControllerTest {
     void should_Return200OK_When_UsernameAvailable() throws Exception {
         // Given
         String availableUsername = "available123";
-        when(userRepository.existsByUsername(availableUsername)).thenReturn(false);
+        when(userIdentifierFilter.usernameExists(availableUsername)).thenReturn(false);
 
         // When & Then
         mockMvc.perform(get("/api/v1/registration/check-username/{username}", availableUsername))
@@ -225,7 +229,7 @@ class RegistrationControllerTest {
     void should_Return200OK_When_UsernameDuplicate() throws Exception {
         // Given
         String duplicateUsername = "duplicate123";
-        when(userRepository.existsByUsername(duplicateUsername)).thenReturn(true);
+        when(userIdentifierFilter.usernameExists(duplicateUsername)).thenReturn(true);
 
         // When & Then
         mockMvc.perform(get("/api/v1/registration/check-username/{username}", duplicateUsername))
@@ -242,7 +246,7 @@ class RegistrationControllerTest {
     void should_Return200OK_When_EmailAvailable() throws Exception {
         // Given
         String availableEmail = "available@email.com";
-        when(userRepository.existsByEmail(availableEmail)).thenReturn(false);
+        when(userIdentifierFilter.emailExists(availableEmail)).thenReturn(false);
 
         // When & Then
         mockMvc.perform(get("/api/v1/registration/check-email")
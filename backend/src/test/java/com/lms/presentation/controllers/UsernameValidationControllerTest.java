@@ -6,7 +6,8 @@ import com.lms.application.usecases.user.EmployeeRegistrationUseCase;
 import com.lms.application.usecases.user.IdentityVerificationUseCase;
 import com.lms.application.usecases.user.JobSeekerRegistrationUseCase;
 import com.lms.application.usecases.user.UsernameValidationUseCase;
-import com.lms.domain.repositories.UserRepository;
+import com.lms.infrastructure.registration.RegistrationIdempotencyStore;
+import com.lms.infrastructure.registration.UserIdentifierFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,7 +55,10 @@ class UsernameValidationControllerTest {
     private JobSeekerRegistrationUseCase jobSeekerRegistrationUseCase;
     
     @MockBean
-    private UserRepository userRepository;
+    private UserIdentifierFilter userIdentifierFilter;
+    
+    @MockBean
+    private RegistrationIdempotencyStore registrationIdempotencyStore;
     
     @Test
     @DisplayName("아이디 종합 검증 API - 유효한 아이디인 경우 200 OK 응답")
@@ -0,0 +1,114 @@
+package com.lms.presentation.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.application.dto.response.UsernameValidationUpdate;
+import com.lms.application.dto.response.ValidationResult;
+import com.lms.application.usecases.user.LiveUsernameValidationUseCase;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("실시간 아이디 검증 WebSocket 엔드포인트 테스트")
+class UsernameValidationSocketEndpointTest {
+
+    @Mock
+    private LiveUsernameValidationUseCase liveUsernameValidationUseCase;
+
+    @Mock
+    private Session session;
+
+    @Captor
+    private ArgumentCaptor<Consumer<UsernameValidationUpdate>> sink;
+
+    @Captor
+    private ArgumentCaptor<MessageHandler.Whole<String>> handler;
+
+    private UsernameValidationSocketEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new UsernameValidationSocketEndpoint(liveUsernameValidationUseCase, new ObjectMapper(), 300_000);
+    }
+
+    @Test
+    @DisplayName("연결 하나로 입력을 받아 채널에 전달하고 결과는 JSON으로 전송")
+    void onOpen_ShouldRelayMessagesAndResultsOverOneConnection() throws Exception {
+        // Given
+        when(liveUsernameValidationUseCase.open(sink.capture())).thenReturn("channel-1");
+        when(liveUsernameValidationUseCase.submit("channel-1", "kimcoder")).thenReturn(true);
+        RemoteEndpoint.Basic remote = mock(RemoteEndpoint.Basic.class);
+        when(session.getBasicRemote()).thenReturn(remote);
+
+        // When
+        endpoint.onOpen(session, mock(EndpointConfig.class));
+        verify(session).addMessageHandler(eq(String.class), handler.capture());
+        handler.getValue().onMessage("kimcoder");
+        sink.getValue().accept(UsernameValidationUpdate.builder()
+                .sequence(1)
+                .username("kimcoder")
+                .complete(true)
+                .result(ValidationResult.valid("사용 가능한 아이디입니다"))
+                .build());
+
+        // Then
+        verify(liveUsernameValidationUseCase).submit("channel-1", "kimcoder");
+        ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+        verify(remote).sendText(sent.capture());
+        assertThat(sent.getValue()).contains("\"username\":\"kimcoder\"", "\"complete\":true", "\"sequence\":1");
+        verify(session).setMaxTextMessageBufferSize(UsernameValidationSocketEndpoint.MAX_MESSAGE_LENGTH);
+    }
+
+    @Test
+    @DisplayName("최대 채널 수 초과 시 TRY_AGAIN_LATER로 연결 종료")
+    void onOpen_WhenChannelLimitReached_ShouldCloseConnection() throws Exception {
+        // Given
+        when(liveUsernameValidationUseCase.open(any())).thenReturn(null);
+
+        // When
+        endpoint.onOpen(session, mock(EndpointConfig.class));
+
+        // Then
+        ArgumentCaptor<CloseReason> reason = ArgumentCaptor.forClass(CloseReason.class);
+        verify(session).close(reason.capture());
+        assertThat(reason.getValue().getCloseCode()).isEqualTo(CloseReason.CloseCodes.TRY_AGAIN_LATER);
+        verify(session, never()).addMessageHandler(eq(String.class), ArgumentMatchers.<MessageHandler.Whole<String>>any());
+    }
+
+    @Test
+    @DisplayName("연결 종료 시 채널 종료")
+    void onClose_ShouldCloseChannel() {
+        // Given
+        when(liveUsernameValidationUseCase.open(any())).thenReturn("channel-1");
+        endpoint.onOpen(session, mock(EndpointConfig.class));
+
+        // When
+        endpoint.onClose(session, new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, "bye"));
+
+        // Then
+        verify(liveUsernameValidationUseCase).close("channel-1");
+        verify(liveUsernameValidationUseCase, never()).submit(anyString(), anyString());
+    }
+}